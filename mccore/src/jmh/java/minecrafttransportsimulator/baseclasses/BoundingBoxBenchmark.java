@@ -0,0 +1,72 @@
+package minecrafttransportsimulator.baseclasses;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link BoundingBox} tests.  intersects is the entity-entity collision check,
+ * and getIntersection is the ray check used for bullets, clicking, and radars.
+ * Rays are a bullet's travel for one tick, so some hit and some miss.
+ *
+ * @author don_bruce
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundingBoxBenchmark {
+    private BoundingBox[] boxes;
+    private Point3D[] rayStarts;
+    private Point3D[] rayEnds;
+    private final Point3D scratch = new Point3D();
+    private int index;
+
+    @Setup
+    public void setup() {
+        boxes = MathBenchmarkInputs.createBoxes();
+        Point3D[] offsets = MathBenchmarkInputs.createOffsets();
+        rayStarts = new Point3D[MathBenchmarkInputs.COUNT];
+        rayEnds = new Point3D[MathBenchmarkInputs.COUNT];
+        for (int i = 0; i < MathBenchmarkInputs.COUNT; ++i) {
+            rayStarts[i] = boxes[i].globalCenter.copy().add(offsets[i]).add(0, 0, -6);
+            rayEnds[i] = rayStarts[i].copy().add(0, 0, 12);
+        }
+    }
+
+    @Benchmark
+    public boolean intersects() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return boxes[i].intersects(boxes[(i * 7 + 1) & MathBenchmarkInputs.MASK]);
+    }
+
+    @Benchmark
+    public boolean isPointInside() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return boxes[i].isPointInside(rayStarts[(i + 1) & MathBenchmarkInputs.MASK], null);
+    }
+
+    @Benchmark
+    public BoundingBoxHitResult getIntersection() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return boxes[i].getIntersection(rayStarts[i], rayEnds[i]);
+    }
+
+    @Benchmark
+    public BoundingBoxHitResult getIntersectionMiss() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        scratch.set(rayStarts[i]).add(0, 100, 0);
+        return boxes[i].getIntersection(scratch, rayEnds[i]);
+    }
+}
@@ -0,0 +1,72 @@
+package minecrafttransportsimulator.baseclasses;
+
+import java.util.Random;
+
+/**
+ * Shared inputs for the math benchmarks.  These are fixed-seed so every run sees the same
+ * data, and are sized to be realistic for what the core does every tick: angles are in the
+ * range animations and vehicle orientations actually use, and boxes are vehicle-part-sized.
+ * Benchmarks cycle through these rather than using a single value so the JIT can't fold
+ * the math into a constant.
+ *
+ * @author don_bruce
+ */
+final class MathBenchmarkInputs {
+    /**Number of inputs in each set.  Power of two so we can mask rather than mod.**/
+    static final int COUNT = 256;
+    static final int MASK = COUNT - 1;
+    private static final long SEED = 4738L;
+
+    private MathBenchmarkInputs() {
+    }
+
+    /**
+     * Returns angles in the ranges typically seen on vehicles: full yaw, modest pitch and roll.
+     */
+    static Point3D[] createAngles() {
+        Random random = new Random(SEED);
+        Point3D[] angles = new Point3D[COUNT];
+        for (int i = 0; i < COUNT; ++i) {
+            angles[i] = new Point3D(random.nextDouble() * 60 - 30, random.nextDouble() * 360 - 180, random.nextDouble() * 40 - 20);
+        }
+        return angles;
+    }
+
+    /**
+     * Returns points in the range of part and collision box offsets on a vehicle.
+     */
+    static Point3D[] createOffsets() {
+        Random random = new Random(SEED + 1);
+        Point3D[] points = new Point3D[COUNT];
+        for (int i = 0; i < COUNT; ++i) {
+            points[i] = new Point3D(random.nextDouble() * 4 - 2, random.nextDouble() * 2, random.nextDouble() * 8 - 4);
+        }
+        return points;
+    }
+
+    /**
+     * Returns rotation matrices set to the angles from {@link #createAngles()}.
+     */
+    static RotationMatrix[] createRotations() {
+        Point3D[] angles = createAngles();
+        RotationMatrix[] rotations = new RotationMatrix[COUNT];
+        for (int i = 0; i < COUNT; ++i) {
+            rotations[i] = new RotationMatrix().setToAngles(angles[i]);
+        }
+        return rotations;
+    }
+
+    /**
+     * Returns boxes the size of vehicle parts and collision boxes, clustered in a small area
+     * so about half of them intersect each other.
+     */
+    static BoundingBox[] createBoxes() {
+        Random random = new Random(SEED + 2);
+        BoundingBox[] boxes = new BoundingBox[COUNT];
+        for (int i = 0; i < COUNT; ++i) {
+            Point3D center = new Point3D(random.nextDouble() * 16, 64 + random.nextDouble() * 4, random.nextDouble() * 16);
+            boxes[i] = new BoundingBox(center, 0.25 + random.nextDouble() * 1.5, 0.25 + random.nextDouble(), 0.25 + random.nextDouble() * 2.5);
+        }
+        return boxes;
+    }
+}
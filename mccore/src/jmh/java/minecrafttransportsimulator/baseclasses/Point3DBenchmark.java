@@ -0,0 +1,84 @@
+package minecrafttransportsimulator.baseclasses;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link Point3D} operations used in the per-tick movement and collision code.
+ *
+ * @author don_bruce
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Point3DBenchmark {
+    private Point3D[] offsets;
+    private RotationMatrix[] rotations;
+    private final Point3D scratch = new Point3D();
+    private final Point3D start = new Point3D();
+    private final Point3D end = new Point3D();
+    private int index;
+
+    @Setup
+    public void setup() {
+        offsets = MathBenchmarkInputs.createOffsets();
+        rotations = MathBenchmarkInputs.createRotations();
+    }
+
+    @Benchmark
+    public Point3D rotate() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return scratch.set(offsets[i]).rotate(rotations[i]);
+    }
+
+    @Benchmark
+    public Point3D reOrigin() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return scratch.set(offsets[i]).reOrigin(rotations[i]);
+    }
+
+    @Benchmark
+    public Point3D rotateCopy() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return offsets[i].copy().rotate(rotations[i]);
+    }
+
+    @Benchmark
+    public double distanceTo() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return offsets[i].distanceTo(offsets[(i + 1) & MathBenchmarkInputs.MASK]);
+    }
+
+    @Benchmark
+    public Point3D crossProductNormalize() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return offsets[i].crossProduct(offsets[(i + 1) & MathBenchmarkInputs.MASK]).normalize();
+    }
+
+    @Benchmark
+    public Point3D getAngles() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return scratch.set(offsets[i]).getAngles(true);
+    }
+
+    @Benchmark
+    public Point3D getIntermediateWithXValue() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        start.set(offsets[i]);
+        end.set(offsets[(i + 1) & MathBenchmarkInputs.MASK]);
+        return start.getIntermediateWithXValue(end, (start.x + end.x) / 2D);
+    }
+}
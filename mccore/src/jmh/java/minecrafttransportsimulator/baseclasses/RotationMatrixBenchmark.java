@@ -0,0 +1,81 @@
+package minecrafttransportsimulator.baseclasses;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link RotationMatrix}.  setToAngles and convertToAngles are the trig-heavy
+ * calls, and are done for every animated object and every entity orientation update.
+ *
+ * @author don_bruce
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RotationMatrixBenchmark {
+    private Point3D[] angles;
+    private Point3D[] vectors;
+    private RotationMatrix[] rotations;
+    private final RotationMatrix scratch = new RotationMatrix();
+    private int index;
+
+    @Setup
+    public void setup() {
+        angles = MathBenchmarkInputs.createAngles();
+        vectors = MathBenchmarkInputs.createOffsets();
+        rotations = MathBenchmarkInputs.createRotations();
+    }
+
+    @Benchmark
+    public RotationMatrix setToAngles() {
+        return scratch.setToAngles(angles[index++ & MathBenchmarkInputs.MASK]);
+    }
+
+    @Benchmark
+    public Point3D convertToAngles() {
+        return scratch.set(rotations[index++ & MathBenchmarkInputs.MASK]).convertToAngles();
+    }
+
+    @Benchmark
+    public RotationMatrix multiply() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return scratch.set(rotations[i]).multiply(rotations[(i + 1) & MathBenchmarkInputs.MASK]);
+    }
+
+    @Benchmark
+    public RotationMatrix multiplyTranspose() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return scratch.set(rotations[i]).multiplyTranspose(rotations[(i + 1) & MathBenchmarkInputs.MASK]);
+    }
+
+    @Benchmark
+    public RotationMatrix rotateY() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return scratch.set(rotations[i]).rotateY(angles[i].y);
+    }
+
+    @Benchmark
+    public RotationMatrix setToVector() {
+        return scratch.setToVector(vectors[index++ & MathBenchmarkInputs.MASK], true);
+    }
+
+    @Benchmark
+    public RotationMatrix interpolate() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        scratch.interploate(rotations[i], rotations[(i + 1) & MathBenchmarkInputs.MASK], 0.5);
+        return scratch;
+    }
+}
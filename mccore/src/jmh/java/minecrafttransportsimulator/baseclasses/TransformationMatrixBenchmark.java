@@ -0,0 +1,71 @@
+package minecrafttransportsimulator.baseclasses;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link TransformationMatrix}.  The compose benchmark mirrors what
+ * the animation system does for each animated object: translate, rotate, translate back,
+ * then multiply onto the parent transform.
+ *
+ * @author don_bruce
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransformationMatrixBenchmark {
+    private Point3D[] offsets;
+    private RotationMatrix[] rotations;
+    private TransformationMatrix[] transforms;
+    private final TransformationMatrix scratch = new TransformationMatrix();
+    private final Point3D scratchPoint = new Point3D();
+    private int index;
+
+    @Setup
+    public void setup() {
+        offsets = MathBenchmarkInputs.createOffsets();
+        rotations = MathBenchmarkInputs.createRotations();
+        transforms = new TransformationMatrix[MathBenchmarkInputs.COUNT];
+        for (int i = 0; i < MathBenchmarkInputs.COUNT; ++i) {
+            transforms[i] = new TransformationMatrix().setTranslation(offsets[i]).applyRotation(rotations[i]);
+        }
+    }
+
+    @Benchmark
+    public TransformationMatrix multiply() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return scratch.set(transforms[i]).multiply(transforms[(i + 1) & MathBenchmarkInputs.MASK]);
+    }
+
+    @Benchmark
+    public TransformationMatrix compose() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        int j = (i + 1) & MathBenchmarkInputs.MASK;
+        return scratch.set(transforms[i]).applyTranslation(offsets[j]).applyRotation(rotations[j]).applyInvertedTranslation(offsets[j]);
+    }
+
+    @Benchmark
+    public TransformationMatrix applyScaling() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return scratch.set(transforms[i]).applyScaling(offsets[i]);
+    }
+
+    @Benchmark
+    public Point3D transform() {
+        int i = index++ & MathBenchmarkInputs.MASK;
+        return scratchPoint.set(offsets[(i + 1) & MathBenchmarkInputs.MASK]).transform(transforms[i]);
+    }
+}
@@ -39,12 +39,28 @@ public class AnimationSwitchbox {
     private long lastTickRun;
     private float lastPartialTickRun;
 
+    //Change tracking.  If none of our inputs have changed, our outputs won't have either, so we can skip running.
+    private final boolean canSkipUnchanged;
+    private final ComputedVariable[] lastClockVariables;
+    private final int[] lastClockVersions;
+    private int lastApplyAfterVersion;
+    private int version;
+
     public AnimationSwitchbox(AEntityD_Definable<?> entity, List<JSONAnimationDefinition> animations, String applyAfter) {
         this.entity = entity;
         this.applyAfter = applyAfter;
+        boolean onlyVariableInputs = true;
         for (JSONAnimationDefinition animation : animations) {
-            clocks.add(new DurationDelayClock(animation));
+            DurationDelayClock clock = new DurationDelayClock(animation);
+            clocks.add(clock);
+            //Clocks with durations and random variables change without their variable versions changing.
+            if (clock.shouldDoFactoring || animation.variable.startsWith("random")) {
+                onlyVariableInputs = false;
+            }
         }
+        this.canSkipUnchanged = onlyVariableInputs;
+        this.lastClockVariables = new ComputedVariable[clocks.size()];
+        this.lastClockVersions = new int[clocks.size()];
     }
 
     public boolean runSwitchbox(float partialTicks, boolean forceSameTick) {
@@ -52,6 +68,12 @@ public class AnimationSwitchbox {
             lastTickRun = entity.ticksExisted;
             lastPartialTickRun = partialTicks;
 
+            //Forced runs are done by sub-classes that use the clocks to set their own state, so always run those.
+            if (!forceSameTick && canSkipUnchanged && !haveInputsChanged(partialTicks)) {
+                return switchboxEnabled;
+            }
+            ++version;
+
             if (applyAfter != null) {
                 AnimationSwitchbox switchbox = entity.animatedObjectSwitchboxes.get(applyAfter);
                 if (switchbox == null) {
@@ -132,6 +154,38 @@ public class AnimationSwitchbox {
         }
     }
 
+    /**
+     * Returns true if any of the inputs to this switchbox have changed since it was last checked.
+     * Inputs are the variables of all clocks, and the switchbox we apply after, if we have one.
+     * Variables are computed here, so they will be cached for the switchbox run if they did change.
+     */
+    private boolean haveInputsChanged(float partialTicks) {
+        boolean changed = false;
+        if (applyAfter != null) {
+            AnimationSwitchbox switchbox = entity.animatedObjectSwitchboxes.get(applyAfter);
+            if (switchbox == null) {
+                //Let the main run throw the error for this.
+                return true;
+            }
+            switchbox.runSwitchbox(partialTicks, false);
+            if (switchbox.version != lastApplyAfterVersion) {
+                lastApplyAfterVersion = switchbox.version;
+                changed = true;
+            }
+        }
+        for (int i = 0; i < lastClockVersions.length; ++i) {
+            DurationDelayClock clock = clocks.get(i);
+            ComputedVariable variable = entity.getOrCreateVariable(clock.variableSlot, clock.animation.variable);
+            variable.computeValue(partialTicks);
+            if (variable != lastClockVariables[i] || variable.version != lastClockVersions[i]) {
+                lastClockVariables[i] = variable;
+                lastClockVersions[i] = variable.version;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
     public void runTranslation(DurationDelayClock clock, float partialTicks) {
         //Found translation.  This gets applied in the translation axis direction directly.
         double variableValue = entity.getAnimatedVariableValue(clock, clock.animationAxisMagnitude, partialTicks);
@@ -1,10 +1,9 @@
 package minecrafttransportsimulator.baseclasses;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 
 import minecrafttransportsimulator.blocks.components.ABlockBase.Axis;
+import minecrafttransportsimulator.collections.BlockPositionSet;
 import minecrafttransportsimulator.entities.components.AEntityC_Renderable;
 import minecrafttransportsimulator.entities.components.AEntityD_Definable;
 import minecrafttransportsimulator.jsondefs.JSONCollisionBox;
@@ -37,7 +36,7 @@ public class BoundingBox {
     public final Point3D localCenter;
     public final Point3D globalCenter;
     public final Point3D currentCollisionDepth;
-    public final List<Point3D> collidingBlockPositions = new ArrayList<>();
+    public final BlockPositionSet collidingBlockPositions = new BlockPositionSet();
     private RenderableData wireframeRenderable;
     private RenderableData holographicRenderable;
     private final Point3D tempGlobalCenter;
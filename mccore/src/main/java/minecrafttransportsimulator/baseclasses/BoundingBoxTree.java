@@ -0,0 +1,358 @@
+package minecrafttransportsimulator.baseclasses;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import minecrafttransportsimulator.jsondefs.JSONCollisionGroup.CollisionType;
+
+/**
+ * Bounding-volume hierarchy of {@link BoundingBox}es.  Used by multipart entities, which can have hundreds of boxes,
+ * so ray and box checks only have to look at the boxes near them rather than every box on the entity.
+ * Each node stores the bounds of all boxes under it, and the collision types those boxes have, so queries
+ * for a collision type skip entire branches that don't have it.
+ * <br><br>
+ * The tree is only rebuilt when the set of boxes changes.  When boxes just move, which happens every tick,
+ * the node bounds are refit to the new box positions instead, which keeps the tree shape.  Boxes on an entity
+ * move together, so the tree stays good even though it isn't rebuilt.  Both of these happen on the first query
+ * after {@link #update(Set)} is called, so entities that are never queried never pay for the tree.
+ *
+ * @author don_bruce
+ */
+public class BoundingBoxTree {
+    /**Max boxes in a leaf node.  Small leaves make deeper trees, large leaves make more box checks.**/
+    private static final int MAX_LEAF_BOXES = 4;
+    private static final Comparator<BoundingBox> X_SORTER = (box1, box2) -> Double.compare(box1.globalCenter.x, box2.globalCenter.x);
+    private static final Comparator<BoundingBox> Y_SORTER = (box1, box2) -> Double.compare(box1.globalCenter.y, box2.globalCenter.y);
+    private static final Comparator<BoundingBox> Z_SORTER = (box1, box2) -> Double.compare(box1.globalCenter.z, box2.globalCenter.z);
+
+    private BoundingBox[] boxes = new BoundingBox[0];
+    private int[] boxTypes = new int[0];
+    private int boxCount;
+
+    /**Node bounds, as minX, minY, minZ, maxX, maxY, maxZ for each node.**/
+    private double[] nodeBounds = new double[0];
+    private int[] nodeTypes = new int[0];
+    /**First box index for leaves, or the first child for branches.  The second child always comes after all nodes of the first.**/
+    private int[] nodeFirst = new int[0];
+    /**Number of boxes for leaves, or -1 for branches, which have the second child's index in {@link #nodeSecondChild}.**/
+    private int[] nodeBoxCount = new int[0];
+    private int[] nodeSecondChild = new int[0];
+    private int nodeCount;
+    private int[] nodeStack = new int[32];
+
+    private boolean needsRebuild;
+    private boolean needsRefit;
+
+    /**
+     * Updates the tree to have the passed-in boxes.  If the boxes are the same as last time, the tree
+     * is just flagged to be refit, as the boxes have likely moved.  Otherwise it is flagged to be rebuilt.
+     */
+    public synchronized void update(Set<BoundingBox> newBoxes) {
+        if (!needsRebuild) {
+            if (newBoxes.size() != boxCount) {
+                needsRebuild = true;
+            } else {
+                for (int i = 0; i < boxCount; ++i) {
+                    if (!newBoxes.contains(boxes[i])) {
+                        needsRebuild = true;
+                        break;
+                    }
+                }
+            }
+        }
+        if (needsRebuild) {
+            setBoxes(newBoxes);
+        }
+        needsRefit = true;
+    }
+
+    /**
+     * Adds all boxes that have any of the collision types in the passed-in mask, and that overlap the passed-in bounds, to the results.
+     * Boxes that only touch the bounds don't count as overlapping, the same as {@link BoundingBox#intersects(BoundingBox)}.
+     * The mask is made with {@link #getTypeMask(CollisionType...)}.
+     */
+    public synchronized void getIntersecting(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, int typeMask, List<BoundingBox> results) {
+        queryBounds(minX, minY, minZ, maxX, maxY, maxZ, typeMask, results);
+    }
+
+    /**
+     * Like {@link #getIntersecting(double, double, double, double, double, double, int, List)}, but just
+     * returns true if any box overlaps the bounds.  This stops at the first box found, so is faster for simple checks.
+     */
+    public synchronized boolean intersects(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, int typeMask) {
+        return queryBounds(minX, minY, minZ, maxX, maxY, maxZ, typeMask, null);
+    }
+
+    /**
+     * Adds all boxes that have any of the collision types in the passed-in mask, and that the line from start to end
+     * passes through, to the results.  This is only a broad check: boxes are returned in no particular order,
+     * and callers still need to use {@link BoundingBox#getIntersection(Point3D, Point3D)} to get the actual hit.
+     */
+    public synchronized void getRayCandidates(Point3D start, Point3D end, int typeMask, List<BoundingBox> results) {
+        prepareForQuery();
+        if (nodeCount == 0 || (nodeTypes[0] & typeMask) == 0) {
+            return;
+        }
+        double invDirX = 1D / (end.x - start.x);
+        double invDirY = 1D / (end.y - start.y);
+        double invDirZ = 1D / (end.z - start.z);
+        int stackSize = 0;
+        nodeStack[stackSize++] = 0;
+        while (stackSize > 0) {
+            int node = nodeStack[--stackSize];
+            int boundsIndex = node * 6;
+            if ((nodeTypes[node] & typeMask) != 0 && rayIntersects(start, invDirX, invDirY, invDirZ, nodeBounds[boundsIndex], nodeBounds[boundsIndex + 1], nodeBounds[boundsIndex + 2], nodeBounds[boundsIndex + 3], nodeBounds[boundsIndex + 4], nodeBounds[boundsIndex + 5])) {
+                if (nodeBoxCount[node] >= 0) {
+                    for (int i = nodeFirst[node]; i < nodeFirst[node] + nodeBoxCount[node]; ++i) {
+                        BoundingBox box = boxes[i];
+                        if ((boxTypes[i] & typeMask) != 0 && rayIntersects(start, invDirX, invDirY, invDirZ, box.globalCenter.x - box.widthRadius, box.globalCenter.y - box.heightRadius, box.globalCenter.z - box.depthRadius, box.globalCenter.x + box.widthRadius, box.globalCenter.y + box.heightRadius, box.globalCenter.z + box.depthRadius)) {
+                            results.add(box);
+                        }
+                    }
+                } else {
+                    stackSize = pushChildren(node, stackSize);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a mask with the passed-in collision types, for use in queries.
+     */
+    public static int getTypeMask(CollisionType... types) {
+        int mask = 0;
+        for (CollisionType type : types) {
+            mask |= 1 << type.ordinal();
+        }
+        return mask;
+    }
+
+    private static int getTypeMask(Collection<CollisionType> types) {
+        int mask = 0;
+        if (types != null) {
+            for (CollisionType type : types) {
+                mask |= 1 << type.ordinal();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Queries the tree for boxes overlapping the bounds.  If results is null, this stops and
+     * returns true on the first box found.  Otherwise, it adds all boxes found and returns false.
+     */
+    private boolean queryBounds(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, int typeMask, List<BoundingBox> results) {
+        prepareForQuery();
+        if (nodeCount == 0) {
+            return false;
+        }
+        int stackSize = 0;
+        nodeStack[stackSize++] = 0;
+        while (stackSize > 0) {
+            int node = nodeStack[--stackSize];
+            int boundsIndex = node * 6;
+            if ((nodeTypes[node] & typeMask) != 0 && minX < nodeBounds[boundsIndex + 3] && maxX > nodeBounds[boundsIndex] && minY < nodeBounds[boundsIndex + 4] && maxY > nodeBounds[boundsIndex + 1] && minZ < nodeBounds[boundsIndex + 5] && maxZ > nodeBounds[boundsIndex + 2]) {
+                if (nodeBoxCount[node] >= 0) {
+                    for (int i = nodeFirst[node]; i < nodeFirst[node] + nodeBoxCount[node]; ++i) {
+                        BoundingBox box = boxes[i];
+                        if ((boxTypes[i] & typeMask) != 0 && minX < box.globalCenter.x + box.widthRadius && maxX > box.globalCenter.x - box.widthRadius && minY < box.globalCenter.y + box.heightRadius && maxY > box.globalCenter.y - box.heightRadius && minZ < box.globalCenter.z + box.depthRadius && maxZ > box.globalCenter.z - box.depthRadius) {
+                            if (results == null) {
+                                return true;
+                            }
+                            results.add(box);
+                        }
+                    }
+                } else {
+                    stackSize = pushChildren(node, stackSize);
+                }
+            }
+        }
+        return false;
+    }
+
+    private int pushChildren(int node, int stackSize) {
+        if (stackSize + 2 > nodeStack.length) {
+            nodeStack = Arrays.copyOf(nodeStack, nodeStack.length * 2);
+        }
+        nodeStack[stackSize++] = nodeSecondChild[node];
+        nodeStack[stackSize++] = nodeFirst[node];
+        return stackSize;
+    }
+
+    /**
+     * Slab test for the line from start to the point start + 1/invDir.  Unlike box overlap checks,
+     * touching counts as a hit here, as {@link BoundingBox#getIntersection(Point3D, Point3D)} returns hits on box faces.
+     */
+    private static boolean rayIntersects(Point3D start, double invDirX, double invDirY, double invDirZ, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        double tMin = 0;
+        double tMax = 1;
+        if (Double.isInfinite(invDirX)) {
+            if (start.x < minX || start.x > maxX) {
+                return false;
+            }
+        } else {
+            double t1 = (minX - start.x) * invDirX;
+            double t2 = (maxX - start.x) * invDirX;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        if (Double.isInfinite(invDirY)) {
+            if (start.y < minY || start.y > maxY) {
+                return false;
+            }
+        } else {
+            double t1 = (minY - start.y) * invDirY;
+            double t2 = (maxY - start.y) * invDirY;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        if (Double.isInfinite(invDirZ)) {
+            if (start.z < minZ || start.z > maxZ) {
+                return false;
+            }
+        } else {
+            double t1 = (minZ - start.z) * invDirZ;
+            double t2 = (maxZ - start.z) * invDirZ;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        return tMin <= tMax;
+    }
+
+    private void setBoxes(Set<BoundingBox> newBoxes) {
+        boxCount = newBoxes.size();
+        if (boxes.length < boxCount) {
+            boxes = new BoundingBox[boxCount];
+            boxTypes = new int[boxCount];
+        } else {
+            Arrays.fill(boxes, boxCount, boxes.length, null);
+        }
+        int index = 0;
+        for (BoundingBox box : newBoxes) {
+            boxes[index++] = box;
+        }
+    }
+
+    private void prepareForQuery() {
+        if (needsRebuild) {
+            rebuild();
+            needsRebuild = false;
+            needsRefit = false;
+        } else if (needsRefit) {
+            refit();
+            needsRefit = false;
+        }
+    }
+
+    /**
+     * Rebuilds the tree.  Boxes are split in half along the longest axis of their centers until each node
+     * has few enough boxes to be a leaf.  A tree with N boxes never has more than 2N nodes.
+     */
+    private void rebuild() {
+        int maxNodes = Math.max(1, 2 * boxCount);
+        if (nodeFirst.length < maxNodes) {
+            nodeBounds = new double[maxNodes * 6];
+            nodeTypes = new int[maxNodes];
+            nodeFirst = new int[maxNodes];
+            nodeBoxCount = new int[maxNodes];
+            nodeSecondChild = new int[maxNodes];
+        }
+        nodeCount = 0;
+        if (boxCount > 0) {
+            buildNode(0, boxCount);
+        }
+    }
+
+    private int buildNode(int firstBox, int lastBox) {
+        int node = nodeCount++;
+        if (lastBox - firstBox <= MAX_LEAF_BOXES) {
+            nodeFirst[node] = firstBox;
+            nodeBoxCount[node] = lastBox - firstBox;
+            for (int i = firstBox; i < lastBox; ++i) {
+                boxTypes[i] = getTypeMask(boxes[i].collisionTypes);
+            }
+            fitLeaf(node);
+        } else {
+            //Sort boxes along the axis their centers are most spread out on, then split them in half.
+            double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, minZ = Double.MAX_VALUE;
+            double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE, maxZ = -Double.MAX_VALUE;
+            for (int i = firstBox; i < lastBox; ++i) {
+                Point3D center = boxes[i].globalCenter;
+                minX = Math.min(minX, center.x);
+                minY = Math.min(minY, center.y);
+                minZ = Math.min(minZ, center.z);
+                maxX = Math.max(maxX, center.x);
+                maxY = Math.max(maxY, center.y);
+                maxZ = Math.max(maxZ, center.z);
+            }
+            double spreadX = maxX - minX;
+            double spreadY = maxY - minY;
+            double spreadZ = maxZ - minZ;
+            if (spreadX >= spreadY && spreadX >= spreadZ) {
+                Arrays.sort(boxes, firstBox, lastBox, X_SORTER);
+            } else if (spreadY >= spreadZ) {
+                Arrays.sort(boxes, firstBox, lastBox, Y_SORTER);
+            } else {
+                Arrays.sort(boxes, firstBox, lastBox, Z_SORTER);
+            }
+            int middleBox = (firstBox + lastBox) / 2;
+            nodeBoxCount[node] = -1;
+            nodeFirst[node] = buildNode(firstBox, middleBox);
+            nodeSecondChild[node] = buildNode(middleBox, lastBox);
+            fitBranch(node);
+        }
+        return node;
+    }
+
+    /**
+     * Refits all node bounds to the current box positions.  Children always come after
+     * their parents, so going backwards through the nodes refits children first.
+     */
+    private void refit() {
+        for (int node = nodeCount - 1; node >= 0; --node) {
+            if (nodeBoxCount[node] >= 0) {
+                fitLeaf(node);
+            } else {
+                fitBranch(node);
+            }
+        }
+    }
+
+    private void fitLeaf(int node) {
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, minZ = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE, maxZ = -Double.MAX_VALUE;
+        int types = 0;
+        for (int i = nodeFirst[node]; i < nodeFirst[node] + nodeBoxCount[node]; ++i) {
+            BoundingBox box = boxes[i];
+            minX = Math.min(minX, box.globalCenter.x - box.widthRadius);
+            minY = Math.min(minY, box.globalCenter.y - box.heightRadius);
+            minZ = Math.min(minZ, box.globalCenter.z - box.depthRadius);
+            maxX = Math.max(maxX, box.globalCenter.x + box.widthRadius);
+            maxY = Math.max(maxY, box.globalCenter.y + box.heightRadius);
+            maxZ = Math.max(maxZ, box.globalCenter.z + box.depthRadius);
+            types |= boxTypes[i];
+        }
+        int boundsIndex = node * 6;
+        nodeBounds[boundsIndex] = minX;
+        nodeBounds[boundsIndex + 1] = minY;
+        nodeBounds[boundsIndex + 2] = minZ;
+        nodeBounds[boundsIndex + 3] = maxX;
+        nodeBounds[boundsIndex + 4] = maxY;
+        nodeBounds[boundsIndex + 5] = maxZ;
+        nodeTypes[node] = types;
+    }
+
+    private void fitBranch(int node) {
+        int boundsIndex = node * 6;
+        int firstIndex = nodeFirst[node] * 6;
+        int secondIndex = nodeSecondChild[node] * 6;
+        for (int i = 0; i < 3; ++i) {
+            nodeBounds[boundsIndex + i] = Math.min(nodeBounds[firstIndex + i], nodeBounds[secondIndex + i]);
+            nodeBounds[boundsIndex + 3 + i] = Math.max(nodeBounds[firstIndex + 3 + i], nodeBounds[secondIndex + 3 + i]);
+        }
+        nodeTypes[node] = nodeTypes[nodeFirst[node]] | nodeTypes[nodeSecondChild[node]];
+    }
+}
@@ -33,10 +33,14 @@ public class ComputedVariable {
     private boolean shouldSaveToNBT;
     public boolean shouldReset = true;
     private long lastTickChecked;
+    private float lastPartialTickChecked;
     /**The current value of this variable.  Only change by calling one of the functions in this class.**/
     public double currentValue;
     /**True if {@link #currentValue} is greater than 1, false otherwise.  Used for quicker boolean operations.**/
     public boolean isActive;
+    /**Incremented every time {@link #currentValue} changes.  Allows consumers to cache results calculated from this variable
+     * and only re-calculate them when the version is different than the one they last saw.**/
+    public int version;
     /**Internal variable for the inverted state of this variable.  Is read-only since we just set its states when ours change.
      * Is null on the inverted variable itself.**/
     public final ComputedVariable invertedVariable;
@@ -108,14 +112,29 @@ public class ComputedVariable {
 
     /**Helper to set the value, does other functions as well to maintain state.**/
     private final void setInternal(double value) {
+        if (value != currentValue) {
+            ++version;
+        }
         currentValue = value;
         isActive = currentValue > 0;
         if (invertedVariable != null) {
-            invertedVariable.currentValue = currentValue > 0 ? 0 : 1;
+            double invertedValue = currentValue > 0 ? 0 : 1;
+            if (invertedValue != invertedVariable.currentValue) {
+                ++invertedVariable.version;
+            }
+            invertedVariable.currentValue = invertedValue;
             invertedVariable.isActive = !this.isActive;
         }
     }
 
+    /**Like {@link #setInternal(double)}, but wakes up our entity if it's sleeping and we changed it.  Used for all external sets.**/
+    private final void setExternal(double value) {
+        if (value != currentValue && entity != null && entity.isSleeping()) {
+            entity.wakeUp();
+        }
+        setInternal(value);
+    }
+
     public final void setFunctionTo(ComputedVariable other) {
         this.entity = other.entity;
         this.function = other.function;
@@ -131,14 +150,17 @@ public class ComputedVariable {
 
     /**
      * Computes the value of this variable, updating {@link #currentValue}, and returning it.
+     * Values are only computed once a tick, or once a partial tick for variables that change on them,
+     * no matter how many things ask for them.
      */
     public final double computeValue(float partialTicks) {
         if (function != null) {
-            if (randomVariable || (changesOnPartialTicks && partialTicks != 0)) {
+            if (randomVariable) {
                 setInternal(function.apply(partialTicks));
-            } else if (lastTickChecked != entity.ticksExisted) {
+            } else if (lastTickChecked != entity.ticksExisted || (changesOnPartialTicks && lastPartialTickChecked != partialTicks)) {
                 setInternal(function.apply(partialTicks));
                 lastTickChecked = entity.ticksExisted;
+                lastPartialTickChecked = partialTicks;
             }
         }
         return currentValue;
@@ -151,9 +173,9 @@ public class ComputedVariable {
 
     public final void setTo(double value, boolean sendPacket) {
         if (!isConstant) {
-            setInternal(value);
+            setExternal(value);
             if (sendPacket) {
-                InterfaceManager.packetInterface.sendToAllClients(new PacketEntityVariableSet(this, currentValue));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityVariableSet(this, currentValue), entity);
             }
         }
     }
@@ -164,18 +186,18 @@ public class ComputedVariable {
 
     public final void adjustBy(double value, boolean sendPacket) {
         if (!isConstant) {
-            setInternal(currentValue + value);
+            setExternal(currentValue + value);
             if (sendPacket) {
-                InterfaceManager.packetInterface.sendToAllClients(new PacketEntityVariableIncrement(this, value));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityVariableIncrement(this, value), entity);
             }
         }
     }
 
     public final void toggle(boolean sendPacket) {
         if (!isConstant) {
-            setInternal(currentValue > 0 ? 0 : 1);
+            setExternal(currentValue > 0 ? 0 : 1);
             if (sendPacket) {
-                InterfaceManager.packetInterface.sendToAllClients(new PacketEntityVariableToggle(this));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityVariableToggle(this), entity);
             }
         }
     }
@@ -197,9 +219,9 @@ public class ComputedVariable {
             newValue = Math.round(newValue * 1000) / 1000D;
             if (newValue != currentValue) {
                 incrementValue = newValue - currentValue;
-                setInternal(newValue);
+                setExternal(newValue);
                 if (sendPacket) {
-                    InterfaceManager.packetInterface.sendToAllClients(new PacketEntityVariableIncrement(this, incrementValue, minValue, maxValue));
+                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityVariableIncrement(this, incrementValue, minValue, maxValue), entity);
                 }
                 return true;
             }
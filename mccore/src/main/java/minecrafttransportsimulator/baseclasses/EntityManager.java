@@ -1,19 +1,24 @@
 package minecrafttransportsimulator.baseclasses;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
 
 import minecrafttransportsimulator.entities.components.AEntityA_Base;
 import minecrafttransportsimulator.entities.components.AEntityA_Base.EntityAutoUpdateTime;
 import minecrafttransportsimulator.entities.components.AEntityC_Renderable;
 import minecrafttransportsimulator.entities.components.AEntityD_Definable;
+import minecrafttransportsimulator.entities.components.AEntityE_Interactable;
 import minecrafttransportsimulator.entities.components.AEntityF_Multipart;
 import minecrafttransportsimulator.entities.components.AEntityG_Towable;
 import minecrafttransportsimulator.entities.instances.APart;
@@ -25,7 +30,12 @@ import minecrafttransportsimulator.items.instances.ItemVehicle;
 import minecrafttransportsimulator.jsondefs.JSONCollisionGroup.CollisionType;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
+import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.packets.components.APacketBase;
+import minecrafttransportsimulator.packets.components.NetworkStats;
+import minecrafttransportsimulator.packets.instances.PacketEntityBulletHitBatch;
+import minecrafttransportsimulator.packets.instances.PacketVehicleServerMovement;
 
 /**
  * Class that manages entities in a world.
@@ -40,8 +50,16 @@ public abstract class EntityManager {
     public final ConcurrentLinkedQueue<AEntityC_Renderable> renderableEntities = new ConcurrentLinkedQueue<>();
     private final ConcurrentHashMap<Class<? extends AEntityA_Base>, ConcurrentLinkedQueue<? extends AEntityA_Base>> entitiesByClass = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<UUID, AEntityA_Base> trackedEntityMap = new ConcurrentHashMap<>();
+    private AEntityA_Base[] sessionEntities = new AEntityA_Base[256];
     private final ConcurrentHashMap<UUID, PartGun> gunMap = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<UUID, Map<Integer, EntityBullet>> bulletMap = new ConcurrentHashMap<>();
+    private final Map<PartGun, PacketEntityBulletHitBatch> bulletHitBatches = new LinkedHashMap<>();
+    private final int[] vehicleMovementValues = new int[PacketVehicleServerMovement.VALUES_PER_VEHICLE];
+    private final EntitySpatialHash spatialHash = new EntitySpatialHash();
+    public final EntitySyncScheduler syncScheduler = new EntitySyncScheduler();
+    private static final double RAIN_COLUMN_HEIGHT = 512;
+    private static final int CLICK_TYPES = BoundingBoxTree.getTypeMask(CollisionType.CLICK);
+    private final BoundingBox rainColumnBox = new BoundingBox(new Point3D(), 1.0, RAIN_COLUMN_HEIGHT / 2D, 1.0);
     
     private static final byte hotloadCountdownPreset = 20;
     private static byte hotloadCountdown;
@@ -53,7 +71,15 @@ public abstract class EntityManager {
     private final Set<IWrapperNBT> hotloadedPlacedParts = new HashSet<>();
     private final Map<UUID, UUID> hotloadedRiderIDs = new HashMap<>();
     
-    private static final List<EntityManager> managers = new ArrayList<>();
+    static final List<EntityManager> managers = new ArrayList<>();
+
+    /**Time, in milliseconds, before a session ID of a removed entity can be given to a new entity.  Lets packets for the old entity clear out first.**/
+    private static final long SESSION_ID_REUSE_DELAY = 60000;
+    private static int nextSessionID = 1;
+    private static final ArrayDeque<Integer> freedSessionIDs = new ArrayDeque<>();
+    private static final ArrayDeque<Long> freedSessionIDTimes = new ArrayDeque<>();
+    private static final ConcurrentLinkedQueue<QueuedPacket> queuedServerPackets = new ConcurrentLinkedQueue<>();
+    private static final ConcurrentLinkedQueue<QueuedPacket> queuedClientPackets = new ConcurrentLinkedQueue<>();
 
     public EntityManager() {
     	managers.add(this);
@@ -86,6 +112,9 @@ public abstract class EntityManager {
             EntityBullet bullet = (EntityBullet) entity;
             bulletMap.get(bullet.gun.uniqueUUID).put(bullet.bulletNumber, bullet);
         }
+        if (entity instanceof AEntityE_Interactable) {
+            spatialHash.add((AEntityE_Interactable<?>) entity);
+        }
 
         @SuppressWarnings("unchecked")
         ConcurrentLinkedQueue<EntityType> classList = (ConcurrentLinkedQueue<EntityType>) entitiesByClass.get(entity.getClass());
@@ -96,6 +125,16 @@ public abstract class EntityManager {
         classList.add(entity);
         if (entity.shouldSync()) {
             trackedEntityMap.put(entity.uniqueUUID, entity);
+            //Servers give out IDs here rather than on construction, so entities that are never added don't use any up.
+            if (entity.sessionID == 0 && !getWorld().isClient()) {
+                entity.sessionID = getNextSessionID();
+            }
+            if (entity.sessionID != 0) {
+                if (entity.sessionID >= sessionEntities.length) {
+                    sessionEntities = Arrays.copyOf(sessionEntities, Math.max(entity.sessionID + 1, sessionEntities.length * 2));
+                }
+                sessionEntities[entity.sessionID] = entity;
+            }
         }
     }
 
@@ -107,6 +146,29 @@ public abstract class EntityManager {
         return (EntityType) trackedEntityMap.get(uniqueUUID);
     }
 
+    /**
+     * Gets the entity with the requested session ID.  See {@link AEntityA_Base#sessionID}.
+     * Session IDs are kept small, so this is a direct array lookup.
+     */
+    @SuppressWarnings("unchecked")
+    public <EntityType extends AEntityA_Base> EntityType getEntity(int sessionID) {
+        return sessionID > 0 && sessionID < sessionEntities.length ? (EntityType) sessionEntities[sessionID] : null;
+    }
+
+    /**
+     * Returns a new session ID for an entity being added.  Only called on servers, as clients get the IDs from the server.
+     * IDs are shared between all server worlds so a packet can't end up going to an entity in the wrong one.
+     * IDs from removed entities are re-used after a delay, which keeps them, and the lookup arrays, small.
+     */
+    private int getNextSessionID() {
+        if (!freedSessionIDTimes.isEmpty() && freedSessionIDTimes.peek() < System.currentTimeMillis()) {
+            freedSessionIDTimes.poll();
+            return freedSessionIDs.poll();
+        } else {
+            return nextSessionID++;
+        }
+    }
+
     /**
      * Returns the gun associated with the gunID.  Guns are saved when they are seen in the world and
      * remain here for query even when removed.  This allows for referencing their properties for bullets
@@ -125,6 +187,34 @@ public abstract class EntityManager {
         return bulletMap.get(gunID).get(bulletNumber);
     }
 
+    /**
+     * Gets the batch of bullet hits for the gun for this tick.  Hits added to this batch are sent
+     * at the end of the tick: to the server if we are a client, or to clients tracking the gun if we are a server.
+     */
+    public PacketEntityBulletHitBatch getBulletHitBatch(PartGun gun) {
+        return bulletHitBatches.computeIfAbsent(gun, k -> new PacketEntityBulletHitBatch(gun));
+    }
+
+    /**
+     * Sends all bullet hit batches that were made this tick.
+     */
+    private void sendBulletHitBatches(AWrapperWorld world) {
+        if (!bulletHitBatches.isEmpty()) {
+            for (Map.Entry<PartGun, PacketEntityBulletHitBatch> batchEntry : bulletHitBatches.entrySet()) {
+                if (!batchEntry.getValue().isEmpty()) {
+                    for (PacketEntityBulletHitBatch batch : batchEntry.getValue().split()) {
+                        if (world.isClient()) {
+                            InterfaceManager.packetInterface.sendToServer(batch);
+                        } else {
+                            InterfaceManager.packetInterface.sendToTrackingClients(batch, batchEntry.getKey());
+                        }
+                    }
+                }
+            }
+            bulletHitBatches.clear();
+        }
+    }
+
     /**
      * Gets the list of all entities of the specified class.
      */
@@ -155,6 +245,79 @@ public abstract class EntityManager {
         return list;
     }
 
+    /**
+     * Returns a new, mutable list, with all interactable entities that are an instanceof the passed-in class and
+     * whose encompassing box intersects the passed-in box.  This uses the spatial index, so only entities near the
+     * box are checked.  This should be used over looping over {@link #getEntitiesOfType(Class)} whenever the area of
+     * interest is known.
+     */
+    public <EntityType extends AEntityA_Base> List<EntityType> queryBox(BoundingBox box, Class<EntityType> entityClass) {
+        List<EntityType> list = new ArrayList<>();
+        spatialHash.query(box.globalCenter.x - box.widthRadius, box.globalCenter.z - box.depthRadius, box.globalCenter.x + box.widthRadius, box.globalCenter.z + box.depthRadius, entityClass, entity -> entity.encompassingBox.intersects(box), list);
+        return list;
+    }
+
+    /**
+     * Like {@link #queryBox(BoundingBox, Class)}, but returns entities whose position is within the passed-in radius of the center point.
+     */
+    public <EntityType extends AEntityA_Base> List<EntityType> queryRadius(Point3D center, double radius, Class<EntityType> entityClass) {
+        List<EntityType> list = new ArrayList<>();
+        spatialHash.query(center.x - radius, center.z - radius, center.x + radius, center.z + radius, entityClass, entity -> entity.position.isDistanceToCloserThan(center, radius), list);
+        return list;
+    }
+
+    /**
+     * Like {@link #queryBox(BoundingBox, Class)}, but returns entities whose encompassing box is crossed by the line
+     * between the passed-in start and end points.
+     */
+    public <EntityType extends AEntityA_Base> List<EntityType> queryRay(Point3D start, Point3D end, Class<EntityType> entityClass) {
+        List<EntityType> list = new ArrayList<>();
+        spatialHash.query(Math.min(start.x, end.x), Math.min(start.z, end.z), Math.max(start.x, end.x), Math.max(start.z, end.z), entityClass, entity -> isRayCrossingBox(start, end, entity.encompassingBox), list);
+        return list;
+    }
+
+    /**
+     * Wakes up all sleeping entities whose encompassing box is next to the block at the passed-in position.
+     * Called when a block changes, since entities resting on or against it may need to move.
+     */
+    public void wakeEntitiesNearBlock(int x, int y, int z) {
+        BoundingBox blockBox = new BoundingBox(new Point3D(x + 0.5, y + 0.5, z + 0.5), 1.5);
+        List<AEntityA_Base> list = new ArrayList<>();
+        spatialHash.query(x - 1, z - 1, x + 2, z + 2, AEntityA_Base.class, entity -> entity.isSleeping() && entity.encompassingBox.intersects(blockBox), list);
+        for (AEntityA_Base entity : list) {
+            entity.wakeUp();
+        }
+    }
+
+    /**
+     * Returns true if the line between the start and end points crosses the box, or is inside it.
+     * Uses the slab method, so unlike {@link BoundingBox#getIntersection(Point3D, Point3D)} nothing is allocated.
+     */
+    private static boolean isRayCrossingBox(Point3D start, Point3D end, BoundingBox box) {
+        double tMin = 0;
+        double tMax = 1;
+        for (int axis = 0; axis < 3; ++axis) {
+            double origin = axis == 0 ? start.x : (axis == 1 ? start.y : start.z);
+            double delta = (axis == 0 ? end.x : (axis == 1 ? end.y : end.z)) - origin;
+            double center = axis == 0 ? box.globalCenter.x : (axis == 1 ? box.globalCenter.y : box.globalCenter.z);
+            double radius = axis == 0 ? box.widthRadius : (axis == 1 ? box.heightRadius : box.depthRadius);
+            if (delta == 0) {
+                if (origin < center - radius || origin > center + radius) {
+                    return false;
+                }
+            } else {
+                double t1 = (center - radius - origin) / delta;
+                double t2 = (center + radius - origin) / delta;
+                tMin = Math.max(tMin, Math.min(t1, t2));
+                tMax = Math.min(tMax, Math.max(t1, t2));
+                if (tMin > tMax) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Ticks all entities that exist and need ticking.  These are any entities that
      * are not parts, since parts are ticked by their parents.
@@ -174,19 +337,34 @@ public abstract class EntityManager {
                 world.beginProfiling("MTS_ServerEntityUpdatesPost", true);
             }
         }
+        //Blocks may have changed since the last time we ticked, so don't use any old collision shapes.
+        world.blockCollisionCache.clear();
         if (beforePlayer) {
+            //Handle packets first, so entities tick with the latest state.
+            //The queue is shared by all worlds on this side, so whichever world ticks first handles them.
+            handleQueuedPackets();
+
             //Need to do this before updating since defaults have to be set on all entities to ensure VMs run properly.
+            //Sleeping entities are skipped entirely, their variables and states don't change until they wake.
             for (AEntityA_Base entity : allNormalTickableEntities) {
-                if (entity instanceof AEntityD_Definable) {
+                if (entity instanceof AEntityD_Definable && !entity.isSleeping()) {
                     ((AEntityD_Definable<?>) entity).setVariableDefaults();
                 }
             }
             for (AEntityA_Base entity : allNormalTickableEntities) {
-                if (!(entity instanceof AEntityG_Towable) || !(((AEntityG_Towable<?>) entity).blockMainUpdateCall())) {
+                if (!entity.isSleeping() && (!(entity instanceof AEntityG_Towable) || !(((AEntityG_Towable<?>) entity).blockMainUpdateCall()))) {
                     doTick(entity);
+                    if (!world.isClient()) {
+                        entity.updateSleepState();
+                    }
                 }
             }
 
+            //Send vehicle movement from this tick to clients.
+            if (!world.isClient()) {
+                sendVehicleMovement();
+            }
+
             //Do hotload operations.
             //This operates on all threads concurrently as long as we're counting down.
             if (hotloadStep > 0) {
@@ -294,22 +472,83 @@ public abstract class EntityManager {
             }
         } else {
             //Need to do this before updating since defaults have to be set on all entities to ensure VMs run properly.
+            //Sleeping entities are skipped entirely, their variables and states don't change until they wake.
             for (AEntityA_Base entity : allPlayerTickableEntities) {
-                if (entity instanceof AEntityD_Definable) {
+                if (entity instanceof AEntityD_Definable && !entity.isSleeping()) {
                     ((AEntityD_Definable<?>) entity).setVariableDefaults();
                 }
             }
             for (AEntityA_Base entity : allPlayerTickableEntities) {
-                if (!(entity instanceof AEntityG_Towable) || !(((AEntityG_Towable<?>) entity).blockMainUpdateCall())) {
+                if (!entity.isSleeping() && (!(entity instanceof AEntityG_Towable) || !(((AEntityG_Towable<?>) entity).blockMainUpdateCall()))) {
                     doTick(entity);
+                    if (!world.isClient()) {
+                        entity.updateSleepState();
+                    }
+                }
+            }
+        }
+        if (!beforePlayer) {
+            sendBulletHitBatches(world);
+            if (!world.isClient()) {
+                syncScheduler.sendQueuedSyncs(world);
+            }
+
+            //Send any packets we bundled up this tick.
+            InterfaceManager.packetBundler.flush(world.isClient());
+            NetworkStats.update();
+        }
+        world.endProfiling();
+    }
+
+    /**
+     * Queues the packet to be handled at the start of the next world tick on the passed-in side.
+     * This may be called from any thread.  Packets are decoded on the network thread,
+     * so this lets the main thread just apply them, all at once, in the order they came in.
+     * The world the packet is for is only looked up with the passed-in supplier once the main
+     * thread gets to the packet, since the player's world can change between now and then.
+     */
+    public static void queuePacket(APacketBase packet, boolean onClient, Supplier<AWrapperWorld> worldSupplier) {
+        (onClient ? queuedClientPackets : queuedServerPackets).add(new QueuedPacket(packet, worldSupplier));
+    }
+
+    private void handleQueuedPackets() {
+        AWrapperWorld world = getWorld();
+        world.beginProfiling("MTS_PacketHandling", true);
+        ConcurrentLinkedQueue<QueuedPacket> queue = world.isClient() ? queuedClientPackets : queuedServerPackets;
+        QueuedPacket queuedPacket;
+        while ((queuedPacket = queue.poll()) != null) {
+            APacketBase packet = queuedPacket.packet;
+            try {
+                AWrapperWorld packetWorld = queuedPacket.worldSupplier.get();
+                if (packetWorld != null) {
+                    packet.handle(packetWorld);
                 }
+            } catch (Exception e) {
+                InterfaceManager.coreInterface.logError("Exception handling packet " + packet.getClass().getSimpleName() + ".  It will be skipped.");
+                e.printStackTrace();
             }
         }
         world.endProfiling();
     }
 
     public static void doTick(AEntityA_Base entity) {
-        entity.world.beginProfiling("MTSEntity_" + entity.uniqueUUID, true);
+        if (EntityTickMetrics.isEnabled() && !entity.world.isClient()) {
+            EntityTickMetrics.beginTick();
+            long startNanos = System.nanoTime();
+            long startBytes = EntityTickMetrics.getAllocatedBytes();
+            //Always record, even if the update throws, so the metrics tick depth stays in step.
+            try {
+                doProfiledTick(entity);
+            } finally {
+                EntityTickMetrics.record(entity, startNanos, startBytes);
+            }
+        } else {
+            doProfiledTick(entity);
+        }
+    }
+
+    private static void doProfiledTick(AEntityA_Base entity) {
+        entity.world.beginProfiling(entity.profilingKey, true);
         if (entity instanceof AEntityD_Definable) {
             AEntityD_Definable<?> definable = (AEntityD_Definable<?>) entity;
             //Need to do this before updating as these require knowledge of prior states.
@@ -319,6 +558,10 @@ public abstract class EntityManager {
             entity.update();
             entity.world.beginProfiling("PostUpdate", false);
             definable.doPostUpdateLogic();
+            if (entity instanceof AEntityE_Interactable) {
+                entity.world.beginProfiling("SpatialIndex", false);
+                ((EntityManager) entity.world).spatialHash.update((AEntityE_Interactable<?>) entity);
+            }
             entity.world.endProfiling();
         } else {
             entity.update();
@@ -326,33 +569,54 @@ public abstract class EntityManager {
         entity.world.endProfiling();
     }
 
+    /**
+     * Sends the movement of all vehicles that moved this tick to clients.  Each player gets a single packet
+     * with the movement of all the vehicles they are tracking, rather than one packet for each vehicle, as this
+     * goes out every tick.  Players only get vehicles they track, same as if we sent to tracking clients.
+     */
+    private void sendVehicleMovement() {
+        Map<IWrapperPlayer, VehicleMovementFrame> movementFrames = new LinkedHashMap<>();
+        for (EntityVehicleF_Physics vehicle : getEntitiesOfType(EntityVehicleF_Physics.class)) {
+            if (vehicle.quantizeUnsentServerDeltas(vehicleMovementValues, 0)) {
+                for (IWrapperPlayer player : InterfaceManager.packetInterface.getTrackingPlayers(vehicle)) {
+                    VehicleMovementFrame frame = movementFrames.computeIfAbsent(player, k -> new VehicleMovementFrame());
+                    frame.add(vehicle.sessionID, vehicleMovementValues);
+                    if (frame.vehicleCount == PacketVehicleServerMovement.MAX_VEHICLES) {
+                        frame.sendTo(player);
+                    }
+                }
+            }
+        }
+        movementFrames.forEach((player, frame) -> {
+            if (frame.vehicleCount > 0) {
+                frame.sendTo(player);
+            }
+        });
+    }
+
     /**
      * Gets the closest multipart intersected with, be it a vehicle, a part on that vehicle, or a placed part.
      * If nothing is intersected, null is returned.
      */
     public EntityInteractResult getMultipartEntityIntersect(Point3D startPoint, Point3D endPoint) {
         EntityInteractResult closestResult = null;
-        BoundingBox vectorBounds = new BoundingBox(startPoint, endPoint);
-        List<AEntityF_Multipart<?>> multiparts = new ArrayList<>();
-        multiparts.addAll(getEntitiesOfType(EntityVehicleF_Physics.class));
-        multiparts.addAll(getEntitiesOfType(EntityPlacedPart.class));
-
-        for (AEntityF_Multipart<?> multipart : multiparts) {
-            if (multipart.encompassingBox.intersects(vectorBounds) && multipart.canBeClicked()) {
+        List<BoundingBox> candidateBoxes = new ArrayList<>();
+        for (AEntityF_Multipart<?> multipart : queryRay(startPoint, endPoint, AEntityF_Multipart.class)) {
+            if ((multipart instanceof EntityVehicleF_Physics || multipart instanceof EntityPlacedPart) && multipart.canBeClicked()) {
                 //Could have hit this multipart, check if and what we did via raytracing.
-                for (BoundingBox box : multipart.allCollisionBoxes) {
-                    if (box.collisionTypes.contains(CollisionType.CLICK) && box.intersects(vectorBounds)) {
-                        BoundingBoxHitResult intersectionPoint = box.getIntersection(startPoint, endPoint);
-                        if (intersectionPoint != null) {
-                            if (closestResult == null || startPoint.isFirstCloserThanSecond(intersectionPoint.position, closestResult.position)) {
-                                APart part = multipart.getPartWithBox(box);
-                                if (part != null) {
-                                    if (part.canBeClicked()) {
-                                        closestResult = new EntityInteractResult(part, box, intersectionPoint.position);
-                                    }
-                                } else {
-                                    closestResult = new EntityInteractResult(multipart, box, intersectionPoint.position);
+                candidateBoxes.clear();
+                multipart.allCollisionBoxTree.getRayCandidates(startPoint, endPoint, CLICK_TYPES, candidateBoxes);
+                for (BoundingBox box : candidateBoxes) {
+                    BoundingBoxHitResult intersectionPoint = box.getIntersection(startPoint, endPoint);
+                    if (intersectionPoint != null) {
+                        if (closestResult == null || startPoint.isFirstCloserThanSecond(intersectionPoint.position, closestResult.position)) {
+                            APart part = multipart.getPartWithBox(box);
+                            if (part != null) {
+                                if (part.canBeClicked()) {
+                                    closestResult = new EntityInteractResult(part, box, intersectionPoint.position);
                                 }
+                            } else {
+                                closestResult = new EntityInteractResult(multipart, box, intersectionPoint.position);
                             }
                         }
                     }
@@ -375,15 +639,27 @@ public abstract class EntityManager {
         entitiesByClass.get(entity.getClass()).remove(entity);
         if (entity.shouldSync()) {
             trackedEntityMap.remove(entity.uniqueUUID);
+            if (entity.sessionID != 0 && entity.sessionID < sessionEntities.length && sessionEntities[entity.sessionID] == entity) {
+                sessionEntities[entity.sessionID] = null;
+                if (!getWorld().isClient()) {
+                    freedSessionIDs.add(entity.sessionID);
+                    freedSessionIDTimes.add(System.currentTimeMillis() + SESSION_ID_REUSE_DELAY);
+                }
+            }
         }
         if (entity instanceof EntityBullet) {
             EntityBullet bullet = (EntityBullet) entity;
             bulletMap.get(bullet.gun.uniqueUUID).remove(bullet.bulletNumber);
         }
+        if (entity instanceof AEntityE_Interactable) {
+            spatialHash.remove((AEntityE_Interactable<?>) entity);
+        }
     }
     
     public void adjustHeightForRain(Point3D position) {
-        for (EntityVehicleF_Physics vehicle : getEntitiesOfType(EntityVehicleF_Physics.class)) {
+        //Rain comes from above, so check everything in the column over this position.
+        rainColumnBox.globalCenter.set(position.x, position.y + RAIN_COLUMN_HEIGHT / 2D, position.z);
+        for (EntityVehicleF_Physics vehicle : queryBox(rainColumnBox, EntityVehicleF_Physics.class)) {
             if (vehicle.encompassingBox.isPointInsideAndBelow(position)) {
                 //Point is inside the box, but we might not be blocked by a collision box.  If we are, we need to block rain.
                 for (BoundingBox box : vehicle.allCollisionBoxes) {
@@ -443,6 +719,42 @@ public abstract class EntityManager {
     	hotloadStep = 1;
 	}
     
+    /**A packet waiting in the queue, and how to find the world it goes to.**/
+    private static class QueuedPacket {
+        private final APacketBase packet;
+        private final Supplier<AWrapperWorld> worldSupplier;
+
+        private QueuedPacket(APacketBase packet, Supplier<AWrapperWorld> worldSupplier) {
+            this.packet = packet;
+            this.worldSupplier = worldSupplier;
+        }
+    }
+
+    /**
+     * Movement of the vehicles a single player is tracking, to be sent to them in one packet.
+     */
+    private static class VehicleMovementFrame {
+        private int vehicleCount;
+        private int[] sessionIDs = new int[16];
+        private int[] values = new int[16 * PacketVehicleServerMovement.VALUES_PER_VEHICLE];
+
+        private void add(int sessionID, int[] vehicleValues) {
+            if (vehicleCount == sessionIDs.length) {
+                sessionIDs = Arrays.copyOf(sessionIDs, vehicleCount * 2);
+                values = Arrays.copyOf(values, vehicleCount * 2 * PacketVehicleServerMovement.VALUES_PER_VEHICLE);
+            }
+            sessionIDs[vehicleCount] = sessionID;
+            System.arraycopy(vehicleValues, 0, values, vehicleCount * PacketVehicleServerMovement.VALUES_PER_VEHICLE, PacketVehicleServerMovement.VALUES_PER_VEHICLE);
+            ++vehicleCount;
+        }
+
+        private void sendTo(IWrapperPlayer player) {
+            //Packet keeps the arrays until it's written, so give it copies and keep ours for the next frame.
+            InterfaceManager.packetInterface.sendToPlayer(new PacketVehicleServerMovement(vehicleCount, Arrays.copyOf(sessionIDs, vehicleCount), Arrays.copyOf(values, vehicleCount * PacketVehicleServerMovement.VALUES_PER_VEHICLE)), player);
+            vehicleCount = 0;
+        }
+    }
+
     @FunctionalInterface
     public static abstract interface HotloadFunction{
     	public void apply();
@@ -0,0 +1,159 @@
+package minecrafttransportsimulator.baseclasses;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import minecrafttransportsimulator.entities.components.AEntityA_Base;
+import minecrafttransportsimulator.entities.components.AEntityE_Interactable;
+
+/**
+ * Spatial index for interactable entities.  Entities are bucketed into chunk-sized cells in the XZ plane
+ * based on their encompassing box, so queries only have to look at entities in the cells they overlap
+ * rather than every entity in the world.  Buckets are updated by the {@link EntityManager} every time an
+ * entity ticks, so they will be at most one tick behind.  To account for this, entity bounds are padded
+ * by their last movement when bucketed.
+ *
+ * @author don_bruce
+ */
+class EntitySpatialHash {
+    /**Cell size as a bit shift.  4 gives 16-block cells, which is the same size as a chunk.**/
+    private static final int CELL_SHIFT = 4;
+    /**Extra padding on entity bounds to handle entities that have moved since they were last bucketed.**/
+    private static final double BOUNDS_PADDING = 2.0;
+
+    private final Map<Long, ConcurrentLinkedQueue<IndexEntry>> cells = new ConcurrentHashMap<>();
+    private final Map<AEntityE_Interactable<?>, IndexEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the entity to the index.
+     */
+    void add(AEntityE_Interactable<?> entity) {
+        IndexEntry entry = new IndexEntry(entity);
+        entries.put(entity, entry);
+        entry.setCells(entity);
+        addToCells(entry);
+    }
+
+    /**
+     * Updates the cells the entity is in.  This should be called after the entity moves.
+     * If the entity is still in the same cells, nothing is changed.
+     */
+    void update(AEntityE_Interactable<?> entity) {
+        IndexEntry entry = entries.get(entity);
+        if (entry != null) {
+            int oldMinX = entry.minX;
+            int oldMinZ = entry.minZ;
+            int oldMaxX = entry.maxX;
+            int oldMaxZ = entry.maxZ;
+            entry.setCells(entity);
+            if (entry.minX != oldMinX || entry.minZ != oldMinZ || entry.maxX != oldMaxX || entry.maxZ != oldMaxZ) {
+                removeFromCells(entry, oldMinX, oldMinZ, oldMaxX, oldMaxZ);
+                addToCells(entry);
+            }
+        }
+    }
+
+    /**
+     * Removes the entity from the index.
+     */
+    void remove(AEntityE_Interactable<?> entity) {
+        IndexEntry entry = entries.remove(entity);
+        if (entry != null) {
+            removeFromCells(entry, entry.minX, entry.minZ, entry.maxX, entry.maxZ);
+        }
+    }
+
+    /**
+     * Adds all entities of the passed-in class that are in the cells overlapping the passed-in bounds,
+     * and that pass the filter, to the results list.  Each entity is only added once, even if it spans
+     * multiple cells.  This may be called from other threads while the index is being updated.
+     */
+    @SuppressWarnings("unchecked")
+    <EntityType extends AEntityA_Base> void query(double minX, double minZ, double maxX, double maxZ, Class<EntityType> entityClass, EntityFilter filter, List<EntityType> results) {
+        int queryMinX = toCell(minX);
+        int queryMinZ = toCell(minZ);
+        int queryMaxX = toCell(maxX);
+        int queryMaxZ = toCell(maxZ);
+        //Entries for entities spanning multiple cells are in all of them, so track the ones we've checked.
+        //Can't use the entry's own cell bounds for this, as another thread may change them mid-query.
+        Set<IndexEntry> checkedEntries = queryMinX == queryMaxX && queryMinZ == queryMaxZ ? null : new HashSet<>();
+        for (int cellX = queryMinX; cellX <= queryMaxX; ++cellX) {
+            for (int cellZ = queryMinZ; cellZ <= queryMaxZ; ++cellZ) {
+                ConcurrentLinkedQueue<IndexEntry> cell = cells.get(getKey(cellX, cellZ));
+                if (cell != null) {
+                    for (IndexEntry entry : cell) {
+                        if ((checkedEntries == null || checkedEntries.add(entry)) && entityClass.isInstance(entry.entity) && filter.test(entry.entity)) {
+                            results.add((EntityType) entry.entity);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void addToCells(IndexEntry entry) {
+        for (int cellX = entry.minX; cellX <= entry.maxX; ++cellX) {
+            for (int cellZ = entry.minZ; cellZ <= entry.maxZ; ++cellZ) {
+                cells.computeIfAbsent(getKey(cellX, cellZ), k -> new ConcurrentLinkedQueue<>()).add(entry);
+            }
+        }
+    }
+
+    private void removeFromCells(IndexEntry entry, int minX, int minZ, int maxX, int maxZ) {
+        for (int cellX = minX; cellX <= maxX; ++cellX) {
+            for (int cellZ = minZ; cellZ <= maxZ; ++cellZ) {
+                long key = getKey(cellX, cellZ);
+                ConcurrentLinkedQueue<IndexEntry> cell = cells.get(key);
+                if (cell != null) {
+                    cell.remove(entry);
+                    if (cell.isEmpty()) {
+                        cells.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int toCell(double coord) {
+        return ((int) Math.floor(coord)) >> CELL_SHIFT;
+    }
+
+    private static long getKey(int cellX, int cellZ) {
+        return (((long) cellX) << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Filter for queries.  Only entities that pass this will be returned.
+     */
+    @FunctionalInterface
+    interface EntityFilter {
+        boolean test(AEntityE_Interactable<?> entity);
+    }
+
+    private static class IndexEntry {
+        private final AEntityE_Interactable<?> entity;
+        private int minX;
+        private int minZ;
+        private int maxX;
+        private int maxZ;
+
+        private IndexEntry(AEntityE_Interactable<?> entity) {
+            this.entity = entity;
+        }
+
+        private void setCells(AEntityE_Interactable<?> entity) {
+            BoundingBox box = entity.encompassingBox;
+            double padding = BOUNDS_PADDING + Math.max(Math.abs(entity.position.x - entity.prevPosition.x), Math.abs(entity.position.z - entity.prevPosition.z));
+            //Encompassing boxes aren't set until the first update, so use the position if we don't have one yet.
+            Point3D center = box.widthRadius == 0 && box.depthRadius == 0 ? entity.position : box.globalCenter;
+            minX = toCell(center.x - box.widthRadius - padding);
+            minZ = toCell(center.z - box.depthRadius - padding);
+            maxX = toCell(center.x + box.widthRadius + padding);
+            maxZ = toCell(center.z + box.depthRadius + padding);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package minecrafttransportsimulator.baseclasses;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import minecrafttransportsimulator.entities.components.AEntityA_Base;
+import minecrafttransportsimulator.entities.components.AEntityB_Existing;
+import minecrafttransportsimulator.entities.instances.APart;
+import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
+import minecrafttransportsimulator.packets.components.APacketBase;
+import minecrafttransportsimulator.systems.ConfigSystem;
+
+/**
+ * Scheduler for sending entity data to players on the server.  When a player joins or loads a new area,
+ * every entity around them asks for its data to be sent at once, which can be far more than the connection
+ * can handle in one tick.  Rather than sending right away, entities queue their data here, and each tick every
+ * player gets sent data up to a byte budget.  The entity the player is riding goes first, then the closest ones.
+ * Packets are made when they are sent rather than when they are queued, so the data is always current.
+ * There is one of these per world, and it is run at the end of the world's tick.
+ *
+ * @author don_bruce
+ */
+public class EntitySyncScheduler {
+    private final Map<IWrapperPlayer, List<PendingSync>> pendingSyncs = new LinkedHashMap<>();
+
+    /**
+     * Queues a packet to be sent to the player.  The position is used to sort syncs by distance, and the entity
+     * is used to check if the player is riding it.  The entity may be null if it's not loaded yet.
+     * The supplier may return null if the packet can't be made anymore, such as if the entity was removed.
+     */
+    public void queueSync(IWrapperPlayer player, Point3D position, AEntityA_Base entity, Supplier<APacketBase> packetSupplier) {
+        pendingSyncs.computeIfAbsent(player, k -> new ArrayList<>()).add(new PendingSync(position, entity, packetSupplier));
+    }
+
+    /**
+     * Sends queued packets to each player, up to the byte budget for the tick.  At least one packet is
+     * always sent per player per tick, so packets larger than the budget still get sent.
+     * Players that left the world have their syncs dropped, as they'll request them again if they come back.
+     */
+    public void sendQueuedSyncs(AWrapperWorld world) {
+        if (pendingSyncs.isEmpty()) {
+            return;
+        }
+        int bytesPerTick = ConfigSystem.settings.general.entitySyncBytesPerTick.value;
+        Iterator<Map.Entry<IWrapperPlayer, List<PendingSync>>> iterator = pendingSyncs.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<IWrapperPlayer, List<PendingSync>> entry = iterator.next();
+            IWrapperPlayer player = entry.getKey();
+            List<PendingSync> syncs = entry.getValue();
+            if (!player.isValid() || player.getWorld() != world) {
+                iterator.remove();
+                continue;
+            }
+
+            //Sort every tick, as the player may have moved since last tick.
+            Point3D playerPosition = player.getPosition();
+            AEntityB_Existing playerRiding = player.getEntityRiding();
+            AEntityA_Base playerVehicle = playerRiding instanceof APart ? ((APart) playerRiding).masterEntity : playerRiding;
+            for (PendingSync sync : syncs) {
+                sync.priority = sync.entity != null && (sync.entity == playerRiding || sync.entity == playerVehicle) ? -1 : sync.position.distanceTo(playerPosition);
+            }
+            syncs.sort((sync1, sync2) -> Double.compare(sync1.priority, sync2.priority));
+
+            int bytesSent = 0;
+            int syncsSent = 0;
+            while (syncsSent < syncs.size() && (syncsSent == 0 || bytesSent < bytesPerTick)) {
+                APacketBase packet = syncs.get(syncsSent++).packetSupplier.get();
+                if (packet != null) {
+                    //Encoded bytes are kept on the packet, so sending it doesn't encode it again.
+                    bytesSent += packet.getEncodedBytes().length;
+                    player.sendPacket(packet);
+                }
+            }
+            syncs.subList(0, syncsSent).clear();
+            if (syncs.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static class PendingSync {
+        private final Point3D position;
+        private final AEntityA_Base entity;
+        private final Supplier<APacketBase> packetSupplier;
+        private double priority;
+
+        private PendingSync(Point3D position, AEntityA_Base entity, Supplier<APacketBase> packetSupplier) {
+            this.position = position;
+            this.entity = entity;
+            this.packetSupplier = packetSupplier;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package minecrafttransportsimulator.baseclasses;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import minecrafttransportsimulator.entities.components.AEntityA_Base;
+import minecrafttransportsimulator.entities.components.AEntityD_Definable;
+import minecrafttransportsimulator.jsondefs.AJSONMultiModelProvider;
+import minecrafttransportsimulator.mcinterface.InterfaceManager;
+
+/**
+ * Built-in recorder for entity tick times.  When enabled, every call to {@link EntityManager#doTick(AEntityA_Base)}
+ * on the server records how long the tick took into a histogram for the entity's definition.  This lets
+ * us see which pack definitions are using the most tick time without needing an external profiler.
+ * Histograms are keyed by definition object first to avoid building strings every tick, and share
+ * their data by packID:systemName so hotloaded definitions keep adding to the same histogram.
+ * Allocations are estimated from the thread's allocated byte counter if the JVM supports it.
+ * <br><br>
+ * Some entities tick others inside their own tick, such as towing vehicles ticking what they tow, or parts
+ * getting a final tick when removed.  Times and allocations recorded here are self values: the time spent
+ * in those nested ticks is taken out of the outer entity's numbers so nothing is counted twice.
+ *
+ * @author don_bruce
+ */
+public class EntityTickMetrics {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = 64 * SUB_BUCKETS;
+    private static final Map<AJSONMultiModelProvider, DefinitionMetrics> metricsByDefinition = new IdentityHashMap<>();
+    private static final Map<String, DefinitionMetrics> metricsByName = new HashMap<>();
+    private static final AllocationCounter allocationCounter = AllocationCounter.create();
+    private static boolean enabled;
+    private static long enabledTime;
+    /**Time and allocations of nested ticks, per depth of the current tick stack.  Index 0 is the outermost tick.**/
+    private static long[] nestedNanos = new long[8];
+    private static long[] nestedBytes = new long[8];
+    private static int tickDepth;
+
+    /**
+     * Returns true if metrics are being recorded.  Checked before timing ticks
+     * so we don't pay for the timer calls when nobody is looking.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts or stops recording.  Starting does not clear already-recorded data; use {@link #reset()} for that.
+     */
+    public static void setEnabled(boolean enable) {
+        if (enable && !enabled) {
+            enabledTime = System.currentTimeMillis();
+        }
+        enabled = enable;
+    }
+
+    /**
+     * Clears all recorded data.
+     */
+    public static void reset() {
+        metricsByDefinition.clear();
+        metricsByName.clear();
+        enabledTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns true if allocation estimates are available on this JVM.
+     */
+    public static boolean canTrackAllocations() {
+        return allocationCounter != null;
+    }
+
+    /**
+     * Returns the current allocated byte count for this thread, or 0 if not supported.
+     * Used as the start marker for {@link #record(AEntityA_Base, long, long)}.
+     */
+    public static long getAllocatedBytes() {
+        return allocationCounter != null ? allocationCounter.getAllocatedBytes() : 0;
+    }
+
+    /**
+     * Marks the start of a tick.  Must be called before the tick starts, and paired with a call to
+     * {@link #record(AEntityA_Base, long, long)} once it ends, so ticks nested inside it can be tracked.
+     */
+    public static void beginTick() {
+        if (tickDepth == nestedNanos.length) {
+            nestedNanos = Arrays.copyOf(nestedNanos, tickDepth * 2);
+            nestedBytes = Arrays.copyOf(nestedBytes, tickDepth * 2);
+        }
+        nestedNanos[tickDepth] = 0;
+        nestedBytes[tickDepth] = 0;
+        ++tickDepth;
+    }
+
+    /**
+     * Records a tick for the passed-in entity that started at the passed-in {@link System#nanoTime()}
+     * and {@link #getAllocatedBytes()} values.  Entities without definitions aren't recorded.
+     * Any ticks nested inside this one are taken out of the recorded values, and this tick's full
+     * values are added to the nested totals of the tick it is inside of, if any.
+     */
+    public static void record(AEntityA_Base entity, long startNanos, long startBytes) {
+        long totalNanos = System.nanoTime() - startNanos;
+        long totalBytes = allocationCounter != null ? Math.max(allocationCounter.getAllocatedBytes() - startBytes - allocationCounter.overhead, 0) : 0;
+        --tickDepth;
+        long tickNanos = Math.max(totalNanos - nestedNanos[tickDepth], 0);
+        long allocatedBytes = Math.max(totalBytes - nestedBytes[tickDepth], 0);
+        if (tickDepth > 0) {
+            nestedNanos[tickDepth - 1] += totalNanos;
+            nestedBytes[tickDepth - 1] += totalBytes;
+        }
+        if (entity instanceof AEntityD_Definable) {
+            AJSONMultiModelProvider definition = ((AEntityD_Definable<?>) entity).definition;
+            DefinitionMetrics metrics = metricsByDefinition.get(definition);
+            if (metrics == null) {
+                String key = getKey(definition);
+                metrics = metricsByName.computeIfAbsent(key, DefinitionMetrics::new);
+                metricsByDefinition.put(definition, metrics);
+            }
+            metrics.record(tickNanos, allocatedBytes);
+        }
+    }
+
+    /**
+     * Returns a summary of the top entries, sorted by total tick time.  One line per definition.
+     */
+    public static List<String> getSummary(int maxEntries) {
+        List<String> lines = new ArrayList<>();
+        List<DefinitionMetrics> sortedMetrics = getSortedMetrics();
+        Map<String, Integer> entityCounts = getEntityCounts();
+        lines.add(String.format("Entity tick metrics (%s, %ds, %d definitions, self time excluding nested ticks):", enabled ? "recording" : "stopped", (System.currentTimeMillis() - enabledTime) / 1000, sortedMetrics.size()));
+        for (int i = 0; i < sortedMetrics.size() && i < maxEntries; ++i) {
+            DefinitionMetrics metrics = sortedMetrics.get(i);
+            lines.add(String.format("%s x%d: total %.1fms, p50 %.1fus, p95 %.1fus, p99 %.1fus, max %.1fus", metrics.key, entityCounts.getOrDefault(metrics.key, 0), metrics.totalNanos / 1000000D, metrics.getPercentile(0.50) / 1000D, metrics.getPercentile(0.95) / 1000D, metrics.getPercentile(0.99) / 1000D, metrics.maxNanos / 1000D));
+        }
+        return lines;
+    }
+
+    /**
+     * Exports all recorded data as a CSV file in the game directory, and returns the file written.
+     */
+    public static File exportToFile() throws IOException {
+        File exportFile = new File(InterfaceManager.gameDirectory, "mts_tickmetrics_" + System.currentTimeMillis() + ".csv");
+        Map<String, Integer> entityCounts = getEntityCounts();
+        try (FileWriter writer = new FileWriter(exportFile)) {
+            writer.write("definition,entities,ticks,totalMs,meanUs,p50Us,p90Us,p95Us,p99Us,maxUs,bytesPerTick\n");
+            for (DefinitionMetrics metrics : getSortedMetrics()) {
+                writer.write(String.format("%s,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%s\n", metrics.key, entityCounts.getOrDefault(metrics.key, 0), metrics.samples, metrics.totalNanos / 1000000D, metrics.totalNanos / 1000D / metrics.samples, metrics.getPercentile(0.50) / 1000D, metrics.getPercentile(0.90) / 1000D, metrics.getPercentile(0.95) / 1000D, metrics.getPercentile(0.99) / 1000D, metrics.maxNanos / 1000D, canTrackAllocations() ? String.valueOf(metrics.totalBytes / metrics.samples) : ""));
+            }
+        }
+        return exportFile;
+    }
+
+    private static String getKey(AJSONMultiModelProvider definition) {
+        return definition.packID + ":" + definition.systemName;
+    }
+
+    private static List<DefinitionMetrics> getSortedMetrics() {
+        List<DefinitionMetrics> sortedMetrics = new ArrayList<>(metricsByName.values());
+        sortedMetrics.sort((first, second) -> Long.compare(second.totalNanos, first.totalNanos));
+        return sortedMetrics;
+    }
+
+    /**
+     * Counts the current entities for each definition in all server worlds.
+     * Done at report time rather than every tick, as this is rarely needed.
+     */
+    private static Map<String, Integer> getEntityCounts() {
+        Map<String, Integer> entityCounts = new HashMap<>();
+        for (EntityManager manager : EntityManager.managers) {
+            if (!manager.getWorld().isClient()) {
+                for (AEntityA_Base entity : manager.allEntities) {
+                    if (entity instanceof AEntityD_Definable) {
+                        entityCounts.merge(getKey(((AEntityD_Definable<?>) entity).definition), 1, Integer::sum);
+                    }
+                }
+            }
+        }
+        return entityCounts;
+    }
+
+    /**
+     * Gets the histogram bucket for the passed-in value.  Buckets are powers of two,
+     * each split into {@link #SUB_BUCKETS} linear sub-buckets, giving about 25% resolution.
+     */
+    private static int getBucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Inverse of {@link #getBucket(long)}, returns the lowest value that goes into the bucket.
+     */
+    private static long getBucketValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    private static class DefinitionMetrics {
+        private final String key;
+        private final long[] buckets = new long[BUCKET_COUNT];
+        private long samples;
+        private long totalNanos;
+        private long maxNanos;
+        private long totalBytes;
+
+        private DefinitionMetrics(String key) {
+            this.key = key;
+        }
+
+        private void record(long tickNanos, long allocatedBytes) {
+            ++buckets[getBucket(tickNanos)];
+            ++samples;
+            totalNanos += tickNanos;
+            totalBytes += allocatedBytes;
+            if (tickNanos > maxNanos) {
+                maxNanos = tickNanos;
+            }
+        }
+
+        private long getPercentile(double percentile) {
+            long target = (long) Math.ceil(samples * percentile);
+            long counted = 0;
+            for (int i = 0; i < buckets.length; ++i) {
+                counted += buckets[i];
+                if (counted >= target && counted > 0) {
+                    return Math.min(getBucketValue(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+
+    /**
+     * Wrapper for the non-standard thread allocation counter.  This is in a class of its own so
+     * that JVMs without the com.sun.management classes just don't get allocation estimates.
+     */
+    private static class AllocationCounter {
+        private final com.sun.management.ThreadMXBean threadBean;
+        private final long overhead;
+
+        private AllocationCounter(com.sun.management.ThreadMXBean threadBean) {
+            this.threadBean = threadBean;
+            //Calling the counter may allocate itself, so measure that so we can take it out of our estimates.
+            long start = getAllocatedBytes();
+            this.overhead = getAllocatedBytes() - start;
+        }
+
+        private static AllocationCounter create() {
+            try {
+                java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+                if (threadBean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()) {
+                    ((com.sun.management.ThreadMXBean) threadBean).setThreadAllocatedMemoryEnabled(true);
+                    return new AllocationCounter((com.sun.management.ThreadMXBean) threadBean);
+                }
+            } catch (Throwable e) {
+                //Not supported on this JVM, fall through.
+            }
+            return null;
+        }
+
+        private long getAllocatedBytes() {
+            return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+    }
+}
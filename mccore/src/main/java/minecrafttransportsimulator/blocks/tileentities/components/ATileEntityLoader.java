@@ -60,9 +60,9 @@ public abstract class ATileEntityLoader extends TileEntityDecor {
         }
         if (nearestPart != null) {
             connectToPart(nearestPart);
-            InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityLoaderConnection(this, true));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityLoaderConnection(this, true), this);
         } else if (connectedPart != null) {
-            InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityLoaderConnection(this, false));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityLoaderConnection(this, false), this);
             connectToPart(null);
         }
     }
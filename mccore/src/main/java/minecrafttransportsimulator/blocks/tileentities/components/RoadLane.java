@@ -144,13 +144,13 @@ public class RoadLane {
                                     priorConnections.get(curveNumber).add(new RoadLaneConnection(otherRoadLane, otherRoadCurve, true));
                                     RoadLaneConnection ourConnection = new RoadLaneConnection(this, curve, true);
                                     otherRoadLane.priorConnections.get(otherCurveNumber).add(ourConnection);
-                                    InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityRoadConnectionUpdate(otherRoadLane, otherCurveNumber, true, ourConnection));
+                                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityRoadConnectionUpdate(otherRoadLane, otherCurveNumber, true, ourConnection), otherRoadLane.road);
                                 } else if (curve.startPos.isDistanceToCloserThan(otherRoadCurve.endPos, CURVE_CONNECTION_MAX_DISTANCE)) {
                                     //Start to end connection.
                                     priorConnections.get(curveNumber).add(new RoadLaneConnection(otherRoadLane, otherRoadCurve, false));
                                     RoadLaneConnection ourConnection = new RoadLaneConnection(this, curve, true);
                                     otherRoadLane.nextConnections.get(otherCurveNumber).add(ourConnection);
-                                    InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityRoadConnectionUpdate(otherRoadLane, otherCurveNumber, false, ourConnection));
+                                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityRoadConnectionUpdate(otherRoadLane, otherCurveNumber, false, ourConnection), otherRoadLane.road);
                                 }
                             } else {
                                 if (curve.endPos.isDistanceToCloserThan(otherRoadCurve.startPos, CURVE_CONNECTION_MAX_DISTANCE)) {
@@ -158,13 +158,13 @@ public class RoadLane {
                                     nextConnections.get(curveNumber).add(new RoadLaneConnection(otherRoadLane, otherRoadCurve, true));
                                     RoadLaneConnection ourConnection = new RoadLaneConnection(this, curve, false);
                                     otherRoadLane.priorConnections.get(otherCurveNumber).add(ourConnection);
-                                    InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityRoadConnectionUpdate(otherRoadLane, otherCurveNumber, true, ourConnection));
+                                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityRoadConnectionUpdate(otherRoadLane, otherCurveNumber, true, ourConnection), otherRoadLane.road);
                                 } else if (!disableSameSideConnections && curve.endPos.isDistanceToCloserThan(otherRoadCurve.endPos, CURVE_CONNECTION_MAX_DISTANCE)) {
                                     //End to end connection.
                                     nextConnections.get(curveNumber).add(new RoadLaneConnection(otherRoadLane, otherRoadCurve, false));
                                     RoadLaneConnection ourConnection = new RoadLaneConnection(this, curve, false);
                                     otherRoadLane.nextConnections.get(otherCurveNumber).add(ourConnection);
-                                    InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityRoadConnectionUpdate(otherRoadLane, otherCurveNumber, false, ourConnection));
+                                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityRoadConnectionUpdate(otherRoadLane, otherCurveNumber, false, ourConnection), otherRoadLane.road);
                                 }
                             }
                         }
@@ -197,10 +197,10 @@ public class RoadLane {
                     //If it's connected to the end, remove the next connections.
                     if (curvePriorConnection.connectedToStart) {
                         otherLane.priorConnections.get(curvePriorConnection.curveNumber).clear();
-                        InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityRoadConnectionUpdate(otherLane, curvePriorConnection.curveNumber, true, null));
+                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityRoadConnectionUpdate(otherLane, curvePriorConnection.curveNumber, true, null), otherLane.road);
                     } else {
                         otherLane.nextConnections.get(curvePriorConnection.curveNumber).clear();
-                        InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityRoadConnectionUpdate(otherLane, curvePriorConnection.curveNumber, false, null));
+                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityRoadConnectionUpdate(otherLane, curvePriorConnection.curveNumber, false, null), otherLane.road);
                     }
                 } catch (Exception e) {
                     InterfaceManager.coreInterface.logError("Couldn't get TE at position " + curvePriorConnection.tileLocation + " to break prior road connection.  Was it changed?");
@@ -220,10 +220,10 @@ public class RoadLane {
                     //If it's connected to the end, remove the next connections.
                     if (curveNextConnection.connectedToStart) {
                         otherLane.priorConnections.get(curveNextConnection.curveNumber).clear();
-                        InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityRoadConnectionUpdate(otherLane, curveNextConnection.curveNumber, true, null));
+                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityRoadConnectionUpdate(otherLane, curveNextConnection.curveNumber, true, null), otherLane.road);
                     } else {
                         otherLane.nextConnections.get(curveNextConnection.curveNumber).clear();
-                        InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityRoadConnectionUpdate(otherLane, curveNextConnection.curveNumber, false, null));
+                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityRoadConnectionUpdate(otherLane, curveNextConnection.curveNumber, false, null), otherLane.road);
                     }
                 } catch (Exception e) {
                     InterfaceManager.coreInterface.logError("Couldn't get TE at position " + curveNextConnection.tileLocation + " to break next road connection.  Was it changed?");
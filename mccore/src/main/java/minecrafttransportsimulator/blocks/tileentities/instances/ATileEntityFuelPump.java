@@ -101,7 +101,7 @@ public abstract class ATileEntityFuelPump extends TileEntityDecor {
             amountToDispenseThisTick = fuelVehicle(amountToDispenseThisTick);
             fuelDispensedThisConnection += amountToDispenseThisTick;
             fuelDispensedThisPurchase += amountToDispenseThisTick;
-            InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityFuelPumpDispense(this, amountToDispenseThisTick));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityFuelPumpDispense(this, amountToDispenseThisTick), this);
 
             //If we are done dispensing, disconnect the vehicle.
             if (!isCreative && fuelDispensedThisPurchase == fuelPurchased) {
@@ -118,7 +118,7 @@ public abstract class ATileEntityFuelPump extends TileEntityDecor {
         if (player.isHoldingItemType(ItemComponentType.WRENCH) && (player.getID().equals(placingPlayerID) || player.isOP())) {
             player.sendPacket(new PacketEntityGUIRequest(this, player, PacketEntityGUIRequest.EntityGUIType.FUEL_PUMP_CONFIG));
             playersInteracting.add(player);
-            InterfaceManager.packetInterface.sendToAllClients(new PacketEntityInteractGUI(this, player, true));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityInteractGUI(this, player, true), this);
             return true;
         }
 
@@ -134,7 +134,7 @@ public abstract class ATileEntityFuelPump extends TileEntityDecor {
             if (haveEmptySlot) {
                 player.sendPacket(new PacketEntityGUIRequest(this, player, PacketEntityGUIRequest.EntityGUIType.FUEL_PUMP));
                 playersInteracting.add(player);
-                InterfaceManager.packetInterface.sendToAllClients(new PacketEntityInteractGUI(this, player, true));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityInteractGUI(this, player, true), this);
             } else {
                 player.sendPacket(new PacketPlayerChatMessage(player, LanguageSystem.INTERACT_FUELPUMP_FULLITEMS));
             }
@@ -152,7 +152,7 @@ public abstract class ATileEntityFuelPump extends TileEntityDecor {
             //Get the closest vehicle within a 16-block radius.
             EntityVehicleF_Physics nearestVehicle = null;
             double lowestDistance = 16D;
-            for (EntityVehicleF_Physics testVehicle : world.getEntitiesOfType(EntityVehicleF_Physics.class)) {
+            for (EntityVehicleF_Physics testVehicle : world.queryRadius(position, lowestDistance, EntityVehicleF_Physics.class)) {
                 double vehicleDistance = testVehicle.position.distanceTo(position);
                 if (vehicleDistance < lowestDistance) {
                     lowestDistance = vehicleDistance;
@@ -212,9 +212,9 @@ public abstract class ATileEntityFuelPump extends TileEntityDecor {
         connectedVehicle = newVehicle;
         if (!world.isClient()) {
             if (connectedVehicle != null) {
-                InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityFuelPumpConnection(this, connectedVehicle));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityFuelPumpConnection(this, connectedVehicle), this);
             } else {
-                InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityFuelPumpConnection(this));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityFuelPumpConnection(this), this);
             }
         }
     }
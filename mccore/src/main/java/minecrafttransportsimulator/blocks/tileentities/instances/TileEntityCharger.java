@@ -51,7 +51,7 @@ public class TileEntityCharger extends ATileEntityFuelPump implements ITileEntit
                         data.setBoolean(PartInteractable.BATTERY_CHARGED_NAME, true);
                         stack.setData(data);
                         internalBuffer = 0;
-                        InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityChargerBattery(this));
+                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityChargerBattery(this), this);
                         player.sendPacket(new PacketPlayerChatMessage(player, LanguageSystem.INTERACT_BATTERY_CHARGED));
                     }
                 } else {
@@ -51,7 +51,7 @@ public class TileEntityChest extends TileEntityDecor {
     public boolean interact(IWrapperPlayer player) {
         player.sendPacket(new PacketEntityGUIRequest(this, player, PacketEntityGUIRequest.EntityGUIType.INVENTORY_CHEST));
         playersInteracting.add(player);
-        InterfaceManager.packetInterface.sendToAllClients(new PacketEntityInteractGUI(this, player, true));
+        InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityInteractGUI(this, player, true), this);
         return true;
     }
 
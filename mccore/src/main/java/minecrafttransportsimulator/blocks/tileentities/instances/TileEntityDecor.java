@@ -85,7 +85,7 @@ public class TileEntityDecor extends ATileEntityBase<JSONDecor> {
             if (player.isSneaking() && !text.isEmpty()) {
                 player.sendPacket(new PacketEntityGUIRequest(this, player, PacketEntityGUIRequest.EntityGUIType.TEXT_EDITOR));
                 playersInteracting.add(player);
-                InterfaceManager.packetInterface.sendToAllClients(new PacketEntityInteractGUI(this, player, true));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityInteractGUI(this, player, true), this);
             } else {
                 clickedVar.setTo(1, true);
                 activatedVar.toggle(true);
@@ -96,7 +96,7 @@ public class TileEntityDecor extends ATileEntityBase<JSONDecor> {
             if (definition.decor.crafting != null) {
                 player.sendPacket(new PacketEntityGUIRequest(this, player, PacketEntityGUIRequest.EntityGUIType.PART_BENCH));
                 playersInteracting.add(player);
-                InterfaceManager.packetInterface.sendToAllClients(new PacketEntityInteractGUI(this, player, true));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityInteractGUI(this, player, true), this);
             }
             clickedVar.setTo(1, true);
             activatedVar.toggle(true);
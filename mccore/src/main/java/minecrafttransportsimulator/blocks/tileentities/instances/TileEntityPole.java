@@ -122,7 +122,7 @@ public class TileEntityPole extends ATileEntityBase<JSONPoleComponent> {
                     ATileEntityPole_Component component = components.get(axis);
                     if (player.isCreative() || player.getInventory().addStack(component.getStack())) {
                         changeComponent(axis, null);
-                        InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityPoleChange(this, player, axis, null));
+                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityPoleChange(this, player, axis, null), this);
                     }
                     return true;
                 }
@@ -137,7 +137,7 @@ public class TileEntityPole extends ATileEntityBase<JSONPoleComponent> {
                 if (!player.isCreative()) {
                     player.getInventory().removeStack(player.getHeldStack(), 1, false);
                 }
-                InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityPoleChange(this, player, axis, newComponent.save(InterfaceManager.coreInterface.getNewNBTWrapper())));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityPoleChange(this, player, axis, newComponent.save(InterfaceManager.coreInterface.getNewNBTWrapper())), this);
                 return true;
             }
         }
@@ -262,7 +262,7 @@ public class TileEntityPole extends ATileEntityBase<JSONPoleComponent> {
 
         //Send packet to clients to update them.
         if (sendToClient && !world.isClient()) {
-            InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityPoleCollisionUpdate(this));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityPoleCollisionUpdate(this), this);
         }
     }
 
@@ -36,7 +36,7 @@ public class TileEntityRadio extends TileEntityDecor {
     public boolean interact(IWrapperPlayer player) {
         if (radio.interact(player)) {
             playersInteracting.add(player);
-            InterfaceManager.packetInterface.sendToAllClients(new PacketEntityInteractGUI(this, player, true));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityInteractGUI(this, player, true), this);
             return true;
         } else {
             return false;
@@ -322,12 +322,12 @@ public class TileEntityRoad extends ATileEntityBase<JSONRoadComponent> {
             }
             collidingBlockOffsets.clear();
             setActive(true);
-            InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityRoadCollisionUpdate(this));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityRoadCollisionUpdate(this), this);
             return true;
         } else {
             collisionBlockOffsets.clear();
             player.sendPacket(new PacketPlayerChatMessage(player, LanguageSystem.INTERACT_ROAD_BLOCKINGBLOCKS));
-            InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityRoadCollisionUpdate(this));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketTileEntityRoadCollisionUpdate(this), this);
             return false;
         }
     }
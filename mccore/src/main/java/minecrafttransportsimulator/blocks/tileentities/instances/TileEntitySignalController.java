@@ -135,7 +135,7 @@ public class TileEntitySignalController extends TileEntityDecor {
     public boolean interact(IWrapperPlayer player) {
         player.sendPacket(new PacketEntityGUIRequest(this, player, PacketEntityGUIRequest.EntityGUIType.SIGNAL_CONTROLLER));
         playersInteracting.add(player);
-        InterfaceManager.packetInterface.sendToAllClients(new PacketEntityInteractGUI(this, player, true));
+        InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityInteractGUI(this, player, true), this);
         return true;
     }
 
@@ -418,7 +418,11 @@ public class TileEntitySignalController extends TileEntityDecor {
                                     //Just wait until the other signals don't have any cooldown, then set them red.
                                     stateChangeRequested = true;
                                 } else {
-                                    for (EntityVehicleF_Physics vehicle : world.getEntitiesOfType(EntityVehicleF_Physics.class)) {
+                                    //Only check vehicles around the signal line box.  Height isn't checked, so make the search box tall.
+                                    Point3D searchCenter = signalLineCenter.copy().add(0, 0, 8).rotate(axis.yRotation).add(intersectionCenterPoint);
+                                    double searchRadius = Math.hypot(signalLineWidth / 2D, 8);
+                                    BoundingBox searchBox = new BoundingBox(searchCenter, searchRadius, 256, searchRadius);
+                                    for (EntityVehicleF_Physics vehicle : world.queryBox(searchBox, EntityVehicleF_Physics.class)) {
                                         Point3D adjustedPos = vehicle.position.copy().subtract(intersectionCenterPoint).reOrigin(axis.yRotation);
                                         if (adjustedPos.x > signalLineCenter.x - signalLineWidth / 2D && adjustedPos.x < signalLineCenter.x + signalLineWidth / 2D && adjustedPos.z > signalLineCenter.z && adjustedPos.z < signalLineCenter.z + 16) {
                                             //Vehicle present.  If we are blocked, send the respective signal states to the other signals to change them.
@@ -0,0 +1,87 @@
+package minecrafttransportsimulator.collections;
+
+import java.util.Arrays;
+
+/**
+ * Map of block positions to values.  This is a {@link BlockPositionSet} of the positions, with the values kept in
+ * an array that lines up with it, so it has the same benefits: lookups don't create objects, and clearing the map
+ * keeps the arrays for re-use.  Null values are not supported, as null is returned for positions not in the map.
+ *
+ * @author don_bruce
+ */
+public class BlockPositionMap<V> {
+    private final BlockPositionSet keys = new BlockPositionSet();
+    private Object[] values = new Object[keys.capacity()];
+
+    /**
+     * Returns the value for the position, or null if it isn't in the map.
+     */
+    public V get(int x, int y, int z) {
+        return get(BlockPositionSet.getKey(x, y, z));
+    }
+
+    /**
+     * Like {@link #get(int, int, int)}, but for a packed key.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int index = keys.indexOf(key);
+        return index != -1 ? (V) values[index] : null;
+    }
+
+    /**
+     * Sets the value for the position, replacing any prior value.
+     */
+    public void put(int x, int y, int z, V value) {
+        put(BlockPositionSet.getKey(x, y, z), value);
+    }
+
+    /**
+     * Like {@link #put(int, int, int, Object)}, but for a packed key.
+     */
+    public void put(long key, V value) {
+        int index = keys.addAndGetIndex(key);
+        if (values.length < keys.capacity()) {
+            values = Arrays.copyOf(values, keys.capacity());
+        }
+        values[index] = value;
+    }
+
+    /**
+     * Removes the position from the map.  Returns true if it was in the map.
+     */
+    public boolean remove(int x, int y, int z) {
+        return remove(BlockPositionSet.getKey(x, y, z));
+    }
+
+    /**
+     * Like {@link #remove(int, int, int)}, but for a packed key.
+     */
+    public boolean remove(long key) {
+        int index = keys.removeAndGetIndex(key);
+        if (index != -1) {
+            //The set moved its last key to the removed index, so do the same with the values.
+            int lastIndex = keys.size();
+            values[index] = values[lastIndex];
+            values[lastIndex] = null;
+            return true;
+        }
+        return false;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    /**
+     * Removes all positions from the map.  The backing arrays are kept for re-use.
+     */
+    public void clear() {
+        Arrays.fill(values, 0, keys.size(), null);
+        keys.clear();
+    }
+}
@@ -0,0 +1,221 @@
+package minecrafttransportsimulator.collections;
+
+import java.util.Arrays;
+
+/**
+ * Set of block positions.  Positions are packed into longs, and stored in arrays rather than as objects,
+ * so adding and checking positions never creates objects.  This is important for collision checks, which
+ * can look at thousands of positions every tick.  Clearing the set keeps the arrays, so sets that are filled
+ * and cleared every tick only create new arrays when they need to get larger than they have been before.
+ * <br><br>
+ * Positions are kept in the order they were added, and can be iterated over by index with {@link #get(int)}.
+ * Removing a position moves the last position into its place, so removals change this order.
+ * Lookups use an open-addressed table of indexes into the position array, which is kept at most half full.
+ *
+ * @author don_bruce
+ */
+public class BlockPositionSet {
+    private static final int INITIAL_CAPACITY = 16;
+    private long[] keys = new long[INITIAL_CAPACITY];
+    /**Index + 1 of the key for each slot, or 0 if the slot is empty.**/
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+    private int mask = table.length - 1;
+    private int size;
+
+    /**
+     * Packs the block position into a long.  This uses the same layout MC uses, so all
+     * positions in the world's build limits are unique.
+     */
+    public static long getKey(int x, int y, int z) {
+        return ((x & 0x3FFFFFFL) << 38) | ((z & 0x3FFFFFFL) << 12) | (y & 0xFFFL);
+    }
+
+    /**
+     * Returns the x-coordinate of the passed-in key.
+     */
+    public static int getX(long key) {
+        return (int) (key >> 38);
+    }
+
+    /**
+     * Returns the y-coordinate of the passed-in key.
+     */
+    public static int getY(long key) {
+        return (int) (key << 52 >> 52);
+    }
+
+    /**
+     * Returns the z-coordinate of the passed-in key.
+     */
+    public static int getZ(long key) {
+        return (int) (key << 26 >> 38);
+    }
+
+    /**
+     * Adds the position to the set.  Returns true if it wasn't in the set before.
+     */
+    public boolean add(int x, int y, int z) {
+        return add(getKey(x, y, z));
+    }
+
+    /**
+     * Like {@link #add(int, int, int)}, but for a packed key.
+     */
+    public boolean add(long key) {
+        int oldSize = size;
+        addAndGetIndex(key);
+        return size != oldSize;
+    }
+
+    /**
+     * Returns true if the position is in the set.
+     */
+    public boolean contains(int x, int y, int z) {
+        return indexOf(getKey(x, y, z)) != -1;
+    }
+
+    /**
+     * Like {@link #contains(int, int, int)}, but for a packed key.
+     */
+    public boolean contains(long key) {
+        return indexOf(key) != -1;
+    }
+
+    /**
+     * Removes the position from the set.  Returns true if it was in the set.
+     */
+    public boolean remove(int x, int y, int z) {
+        return removeAndGetIndex(getKey(x, y, z)) != -1;
+    }
+
+    /**
+     * Like {@link #remove(int, int, int)}, but for a packed key.
+     */
+    public boolean remove(long key) {
+        return removeAndGetIndex(key) != -1;
+    }
+
+    /**
+     * Returns the packed key at the passed-in index.  Indexes go from 0 to {@link #size()} - 1.
+     */
+    public long get(int index) {
+        return keys[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all positions from the set.  The backing arrays are kept for re-use.
+     */
+    public void clear() {
+        if (size != 0) {
+            Arrays.fill(table, 0);
+            size = 0;
+        }
+    }
+
+    /**
+     * Returns the index of the key, or -1 if it isn't in the set.
+     */
+    int indexOf(long key) {
+        return table[findSlot(key)] - 1;
+    }
+
+    /**
+     * Adds the key if it isn't in the set, and returns its index.
+     */
+    int addAndGetIndex(long key) {
+        int slot = findSlot(key);
+        if (table[slot] == 0) {
+            if (size == keys.length) {
+                grow();
+                slot = findSlot(key);
+            }
+            keys[size] = key;
+            table[slot] = ++size;
+        }
+        return table[slot] - 1;
+    }
+
+    /**
+     * Removes the key, and returns the index it was at, or -1 if it wasn't in the set.
+     * The key that was last in the set is moved to the returned index.
+     */
+    int removeAndGetIndex(long key) {
+        int slot = findSlot(key);
+        int index = table[slot] - 1;
+        if (index != -1) {
+            deleteSlot(slot);
+            int lastIndex = --size;
+            if (index != lastIndex) {
+                long lastKey = keys[lastIndex];
+                table[findSlot(lastKey)] = index + 1;
+                keys[index] = lastKey;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the capacity of the key array.  Used by maps to size their value arrays.
+     */
+    int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the slot that has the key, or the empty slot where it would go if it isn't in the set.
+     */
+    private int findSlot(long key) {
+        int slot = hash(key) & mask;
+        int entry;
+        while ((entry = table[slot]) != 0 && keys[entry - 1] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Empties the slot, and moves any later slots in the same run back so lookups don't stop at the new gap.
+     */
+    private void deleteSlot(int slot) {
+        int emptySlot = slot;
+        int nextSlot = (slot + 1) & mask;
+        int entry;
+        while ((entry = table[nextSlot]) != 0) {
+            //Only move the entry if its home slot isn't between the gap and where it is now.
+            int homeSlot = hash(keys[entry - 1]) & mask;
+            if (((nextSlot - homeSlot) & mask) >= ((nextSlot - emptySlot) & mask)) {
+                table[emptySlot] = entry;
+                emptySlot = nextSlot;
+            }
+            nextSlot = (nextSlot + 1) & mask;
+        }
+        table[emptySlot] = 0;
+    }
+
+    private void grow() {
+        keys = Arrays.copyOf(keys, keys.length * 2);
+        table = new int[keys.length * 2];
+        mask = table.length - 1;
+        for (int i = 0; i < size; ++i) {
+            int slot = hash(keys[i]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+    }
+
+    private static int hash(long key) {
+        //Packed positions have most of their bits in fixed places, so mix them before using them as a slot.
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
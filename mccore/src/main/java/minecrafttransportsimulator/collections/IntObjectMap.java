@@ -0,0 +1,102 @@
+package minecrafttransportsimulator.collections;
+
+import java.util.Arrays;
+
+/**
+ * Map of positive int keys to values.  Keys and values are kept in an open-addressed table that is kept
+ * at most half full, so the table only gets as large as the number of keys in it, no matter how large the
+ * keys themselves get.  Lookups don't create objects, and clearing the map keeps the table for re-use.
+ * Null values are not supported, as null is returned for keys not in the map.
+ *
+ * @author don_bruce
+ */
+public class IntObjectMap<V> {
+    private static final int INITIAL_CAPACITY = 8;
+    /**Key for each slot, or 0 if the slot is empty.**/
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int mask = keys.length - 1;
+    private int size;
+
+    /**
+     * Returns the value for the key, or null if it isn't in the map.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        for (int slot = getSlot(key);; slot = (slot + 1) & mask) {
+            int slotKey = keys[slot];
+            if (slotKey == key) {
+                return (V) values[slot];
+            } else if (slotKey == 0) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Sets the value for the key, replacing any prior value.  Keys must be greater than 0.
+     */
+    public void put(int key, V value) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("Keys must be greater than 0, got " + key);
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        for (int slot = getSlot(key);; slot = (slot + 1) & mask) {
+            int slotKey = keys[slot];
+            if (slotKey == key) {
+                values[slot] = value;
+                return;
+            } else if (slotKey == 0) {
+                keys[slot] = key;
+                values[slot] = value;
+                ++size;
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all keys from the map.  The table is kept for re-use.
+     */
+    public void clear() {
+        if (size != 0) {
+            Arrays.fill(keys, 0);
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    private int getSlot(int key) {
+        //Mix the bits so sequential keys don't all land next to each other.
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] != 0) {
+                int slot = getSlot(oldKeys[i]);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -30,6 +30,17 @@ public abstract class AEntityA_Base {
      * A unique ID for this entity.  This is only set when this entity is first spawned, and never changes, even on save/load operations.  Ideal if you need a static reference to the entity.
      **/
     public final UUID uniqueUUID;
+    /**
+     * A small ID for this entity that is unique in its world for this play session.  This is assigned by the server when the entity
+     * is added to the world in {@link AWrapperWorld#addEntity(AEntityA_Base)}, and sent to clients with the entity's data.  Since that data comes from {@link #save(IWrapperNBT)}, the ID also
+     * ends up in saved data, but servers ignore it on load and always assign a new one, so it is only valid for this session.
+     * Used in place of {@link #uniqueUUID} for packets that are sent often, since it's a lot smaller.  Will be 0 for entities that don't sync.
+     **/
+    public int sessionID;
+    /**
+     * The name of this entity's section in the world profiler.  Made once here so we don't make a new string every tick.
+     **/
+    public final String profilingKey;
     /**
      * True as long as this entity is part of the world and being ticked.  May be set false internally or externally to remove this entity from the world.
      **/
@@ -38,8 +49,21 @@ public abstract class AEntityA_Base {
      * Counter for how many ticks this entity has existed in the world.  Realistically, it's the number of update cycles.
      **/
     public long ticksExisted;
+    /**
+     * True if this entity is sleeping.  Sleeping entities are skipped by the world's update calls until something wakes them.
+     * Only servers put entities to sleep, so this is always false on clients.  See {@link #updateSleepState()}.
+     **/
+    private boolean isSleeping;
+    /**
+     * Counter for how many ticks in a row this entity has been idle.
+     **/
+    private int ticksIdle;
+
+    /**Number of ticks an entity has to be idle before it sleeps.  Gives things like suspensions time to settle.**/
+    private static final int IDLE_TICKS_BEFORE_SLEEP = 20;
 
     public static String UNIQUE_UUID_TAG_NAME = "uniqueUUID";
+    public static String SESSION_ID_TAG_NAME = "sessionID";
 
     public AEntityA_Base(AWrapperWorld world, IWrapperNBT data) {
         this.world = world;
@@ -48,6 +72,10 @@ public abstract class AEntityA_Base {
         } else {
             this.uniqueUUID = UUID.randomUUID();
         }
+        if (shouldSync() && world.isClient() && data != null) {
+            this.sessionID = data.getInteger(SESSION_ID_TAG_NAME);
+        }
+        this.profilingKey = "MTSEntity_" + uniqueUUID;
     }
 
     /**
@@ -92,6 +120,47 @@ public abstract class AEntityA_Base {
         }
     }
 
+    /**
+     * Returns true if this entity is sleeping and shouldn't be updated.
+     */
+    public boolean isSleeping() {
+        return isSleeping;
+    }
+
+    /**
+     * Returns true if nothing is happening on this entity that requires it to update.  Entities that are idle
+     * for {@link #IDLE_TICKS_BEFORE_SLEEP} ticks in a row are put to sleep.  By default, entities are never idle.
+     * Extending classes that can be idle should return true here only if updating would change nothing,
+     * since nothing will be updated until something calls {@link #wakeUp()}.
+     */
+    public boolean isIdle() {
+        return false;
+    }
+
+    /**
+     * Called by the world after this entity updates to check if it should go to sleep.
+     * Only called on servers, as clients need to keep updating for their rendering states.
+     */
+    public void updateSleepState() {
+        if (isIdle()) {
+            if (++ticksIdle >= IDLE_TICKS_BEFORE_SLEEP) {
+                isSleeping = true;
+            }
+        } else {
+            ticksIdle = 0;
+        }
+    }
+
+    /**
+     * Wakes this entity up so it updates again, and resets the idle counter so it won't go right back to sleep.
+     * This should be called any time something outside this entity changes its state, such as packets,
+     * variables being set, riders getting on, or blocks changing around it.
+     */
+    public void wakeUp() {
+        isSleeping = false;
+        ticksIdle = 0;
+    }
+
     /**
      * Returns the mass of this entity for physics calculations.  Normally un-used except in the multiple sub-classes,
      * but since anything can have mass, we put this at the A-level.
@@ -107,6 +176,7 @@ public abstract class AEntityA_Base {
      */
     public IWrapperNBT save(IWrapperNBT data) {
         data.setUUID(UNIQUE_UUID_TAG_NAME, uniqueUUID);
+        data.setInteger(SESSION_ID_TAG_NAME, sessionID);
         return data;
     }
 
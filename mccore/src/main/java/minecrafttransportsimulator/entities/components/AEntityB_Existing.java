@@ -348,8 +348,9 @@ public abstract class AEntityB_Existing extends AEntityA_Base {
             rider.getYawDelta();
             rider.getPitchDelta();
             rider.setRiding(this);
+            wakeUp();
             if (!world.isClient()) {
-                InterfaceManager.packetInterface.sendToAllClients(new PacketEntityRiderChange(this, rider, facesForwards));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityRiderChange(this, rider, facesForwards), this);
             }
             return true;
         }
@@ -361,10 +362,11 @@ public abstract class AEntityB_Existing extends AEntityA_Base {
     public void removeRider() {
         rider.setRiding(null);
         if (!world.isClient()) {
-            InterfaceManager.packetInterface.sendToAllClients(new PacketEntityRiderChange(this, rider));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityRiderChange(this, rider), this);
         }
         rider = null;
         riderIsClient = false;
+        wakeUp();
     }
 
     /**
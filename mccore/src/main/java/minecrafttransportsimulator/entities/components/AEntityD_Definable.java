@@ -5,6 +5,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -21,6 +22,7 @@ import minecrafttransportsimulator.baseclasses.ComputedVariable;
 import minecrafttransportsimulator.baseclasses.Point3D;
 import minecrafttransportsimulator.baseclasses.TransformationMatrix;
 import minecrafttransportsimulator.blocks.components.ABlockBase.BlockMaterial;
+import minecrafttransportsimulator.collections.IntObjectMap;
 import minecrafttransportsimulator.entities.instances.APart;
 import minecrafttransportsimulator.entities.instances.EntityParticle;
 import minecrafttransportsimulator.entities.instances.EntityVehicleF_Physics;
@@ -44,6 +46,7 @@ import minecrafttransportsimulator.mcinterface.IWrapperItemStack;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.packets.components.VariableKeyDictionary;
 import minecrafttransportsimulator.packets.instances.PacketEntityInteractGUI;
 import minecrafttransportsimulator.packloading.PackParser;
 import minecrafttransportsimulator.rendering.AModelParser;
@@ -83,6 +86,19 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
      **/
     protected final Map<String, ComputedVariable> computedVariables = new HashMap<>();
 
+    /**
+     * Slot-indexed cache of variables, indexed by the definition's {@link AJSONMultiModelProvider#variableSlots}.
+     * Each entry is what {@link #getOrCreateVariable(String)} returned for that slot's variable, and is cleared
+     * any time the {@link #computedVariables} map changes in a way that could change that.
+     **/
+    private final ComputedVariable[] slottedVariables;
+    /**
+     * Cache of variables by their {@link VariableKeyDictionary} ID, for variable packets.  This is a map rather than
+     * an array indexed by ID since IDs are shared by all entities, and this entity will only ever see a few of them.
+     * Cleared at the same times as {@link #slottedVariables}.
+     **/
+    private final IntObjectMap<ComputedVariable> networkVariables = new IntObjectMap<>();
+
     private final List<JSONSound> allSoundDefs = new ArrayList<>();
     private final Map<JSONSound, AnimationSwitchbox> soundActiveSwitchboxes = new HashMap<>();
     private final Set<JSONSound> soundDefFalseLastCheck = new HashSet<>();
@@ -96,6 +112,10 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
     private final Map<JSONVariableModifier, VariableModifierSwitchbox> variableModiferSwitchboxes = new LinkedHashMap<>();
     private long lastTickParticlesSpawned;
     private float lastPartialTickParticlesSpawned;
+    /**
+     * The last tick a duration/delay animation on this entity was still moving.  Set by {@link DurationDelayClock}.
+     **/
+    public long lastAnimationTick;
 
     /**
      * Maps animated (model) object names to their JSON bits for this entity.  Used for model lookups as the same model might be used on multiple JSONs,
@@ -167,6 +187,7 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
             this.definition = generateDefaultDefinition();
             updateSubDefinition("");
         }
+        this.slottedVariables = new ComputedVariable[definition.variableSlots != null ? definition.variableSlots.length : 0];
 
         //Load data, or use defaults.
         if (data != null) {
@@ -211,6 +232,7 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
     public AEntityD_Definable(AWrapperWorld world, Point3D position, Point3D motion, Point3D angles, AItemSubTyped<JSONDefinition> item) {
         super(world, position, motion, angles);
         this.definition = item.definition;
+        this.slottedVariables = new ComputedVariable[definition.variableSlots != null ? definition.variableSlots.length : 0];
         updateSubDefinition(item.subDefinition.subName);
         performCommonConstructionWork();
     }
@@ -325,7 +347,7 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
             } else {
                 for (IWrapperPlayer player : playersInteracting) {
                     if (!player.isValid() || !player.getWorld().equals(world)) {
-                        InterfaceManager.packetInterface.sendToAllClients(new PacketEntityInteractGUI(this, player, false));
+                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityInteractGUI(this, player, false), this);
                         playersInteracting.remove(player);
                         break;
                     }
@@ -336,7 +358,7 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
 
         //Only update radar once a second, and only if we requested it via variables.
         if (definition.general.radarRange > 0 && ticksExisted % 20 == 0) {
-            Collection<EntityVehicleF_Physics> allVehicles = world.getEntitiesOfType(EntityVehicleF_Physics.class);
+            Collection<EntityVehicleF_Physics> allVehicles = world.queryRadius(position, definition.general.radarRange, EntityVehicleF_Physics.class);
             aircraftOnRadar.clear();
             groundersOnRadar.clear();
             Point3D searchVector = new Point3D();
@@ -378,7 +400,7 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
                     if (value != null) {
                         value = String.format(textDef.variableFormat, value);
                     } else {
-                        value = String.format(textDef.variableFormat, getOrCreateVariable(textDef.variableName).computeValue(0) * textDef.variableFactor + textDef.variableOffset);
+                        value = String.format(textDef.variableFormat, getOrCreateVariable(textDef.variableSlot, textDef.variableName).computeValue(0) * textDef.variableFactor + textDef.variableOffset);
                     }
                     textEntry.setValue(value);
                 }
@@ -1021,7 +1043,7 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
      * the scale parameter as only the variable value should be scaled, not the offset..
      */
     public final double getAnimatedVariableValue(DurationDelayClock clock, double scaleFactor, double offset, float partialTicks) {
-        double value = getOrCreateVariable(clock.animation.variable).computeValue(partialTicks);
+        double value = getOrCreateVariable(clock.variableSlot, clock.animation.variable).computeValue(partialTicks);
         return clock.clampAndScale(this, value, scaleFactor, offset, partialTicks);
     }
 
@@ -1056,16 +1078,53 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
         }
         return computedVar;
     }
+
+    /**
+     * Like {@link #getOrCreateVariable(String)}, but uses the passed-in slot from this entity's definition to avoid
+     * looking the variable up by name.  If the slot doesn't belong to the variable, as can happen for JSON objects that
+     * come from other definitions or weren't compiled, this falls back to the name-based lookup.
+     */
+    public ComputedVariable getOrCreateVariable(int slot, String variable) {
+        //Names are interned on compile, so if the slot is ours the names will be the same object.
+        if (slot >= 0 && slot < slottedVariables.length && definition.variableSlots[slot] == variable) {
+            ComputedVariable computedVar = slottedVariables[slot];
+            if (computedVar == null) {
+                computedVar = getOrCreateVariable(variable);
+                slottedVariables[slot] = computedVar;
+            }
+            return computedVar;
+        } else {
+            return getOrCreateVariable(variable);
+        }
+    }
     
+    /**
+     * Like {@link #getOrCreateVariable(String)}, but caches the variable by its {@link VariableKeyDictionary} ID.
+     * Used by variable packets, which send the ID rather than the name for keys that are in the dictionary.
+     */
+    public ComputedVariable getOrCreateVariableByKeyID(int keyID, String variable) {
+        ComputedVariable computedVar = networkVariables.get(keyID);
+        if (computedVar == null) {
+            computedVar = getOrCreateVariable(variable);
+            networkVariables.put(keyID, computedVar);
+        }
+        return computedVar;
+    }
+
     public void addVariable(ComputedVariable variable) {
         computedVariables.put(variable.variableKey, variable);
         if (variable.invertedVariable != null) {
             computedVariables.put(variable.invertedVariable.variableKey, variable.invertedVariable);
         }
+        //May have replaced a variable we have in a slot, so clear them to be safe.
+        Arrays.fill(slottedVariables, null);
+        networkVariables.clear();
     }
 
     public void resetAllVariables() {
         computedVariables.entrySet().removeIf(entry -> entry.getValue().entity != this || entry.getValue().shouldReset);
+        Arrays.fill(slottedVariables, null);
+        networkVariables.clear();
     }
 
     public boolean containsVariable(String variable) {
@@ -1127,25 +1186,25 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
         switch (action.action) {
             case BUTTON: {
                 if (conditionsTrue) {
-                    getOrCreateVariable(action.variable).setTo(action.value, true);
+                    getOrCreateVariable(action.variableSlot, action.variable).setTo(action.value, true);
                 } else {
-                    getOrCreateVariable(action.variable).setTo(0, true);
+                    getOrCreateVariable(action.variableSlot, action.variable).setTo(0, true);
                 }
                 break;
             }
             case INCREMENT:
                 if (conditionsTrue) {
-                    getOrCreateVariable(action.variable).increment(action.value, action.clampMin, action.clampMax, true);
+                    getOrCreateVariable(action.variableSlot, action.variable).increment(action.value, action.clampMin, action.clampMax, true);
                 }
                 break;
             case SET:
                 if (conditionsTrue) {
-                    getOrCreateVariable(action.variable).setTo(action.value, true);
+                    getOrCreateVariable(action.variableSlot, action.variable).setTo(action.value, true);
                 }
                 break;
             case TOGGLE: {
                 if (conditionsTrue) {
-                    getOrCreateVariable(action.variable).toggle(true);
+                    getOrCreateVariable(action.variableSlot, action.variable).toggle(true);
                 }
                 break;
             }
@@ -1213,6 +1272,14 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
         }
     }
 
+    /**
+     * Returns true if any duration/delay animations on this entity are still moving.  We check against the prior
+     * tick too, since some animations are only checked after this entity updates, such as those for parts.
+     */
+    public boolean isAnimating() {
+        return ticksExisted - lastAnimationTick <= 1;
+    }
+
     /**
      * Called to set the default values of all variables.  Must be run before any other updates that could
      * affect these values.
@@ -1227,7 +1294,7 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
     public void updateVariableModifiers() {
         if (definition.variableModifiers != null) {
             for (JSONVariableModifier modifier : definition.variableModifiers) {
-            	ComputedVariable variable = getOrCreateVariable(modifier.variable);
+            	ComputedVariable variable = getOrCreateVariable(modifier.variableSlot, modifier.variable);
             	variable.setTo(adjustVariable(modifier, variable.currentValue), false);
             }
         }
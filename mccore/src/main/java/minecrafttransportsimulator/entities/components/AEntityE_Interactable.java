@@ -291,10 +291,10 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
         if (currentDamage > box.groupDef.health) {
             double amountActuallyNeeded = damageAmount - (currentDamage - box.groupDef.health);
             currentDamage = box.groupDef.health;
-            InterfaceManager.packetInterface.sendToAllClients(new PacketEntityVariableIncrement(variable, amountActuallyNeeded));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityVariableIncrement(variable, amountActuallyNeeded), this);
             getOrCreateVariable("collision_" + (definition.collisionGroups.indexOf(box.groupDef) + 1) + "_totaled").setActive(true, true);
         } else {
-            InterfaceManager.packetInterface.sendToAllClients(new PacketEntityVariableIncrement(variable, damageAmount));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityVariableIncrement(variable, damageAmount), this);
         }
         variable.setTo(currentDamage, false);
     }
@@ -370,9 +370,9 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
                 double currentDamage = damageVar.currentValue + damage.amount;
                 if (currentDamage > definition.general.health) {
                     currentDamage = definition.general.health;
-                    InterfaceManager.packetInterface.sendToAllClients(new PacketEntityVariableSet(damageVar, definition.general.health));
+                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityVariableSet(damageVar, definition.general.health), this);
                 } else {
-                    InterfaceManager.packetInterface.sendToAllClients(new PacketEntityVariableIncrement(damageVar, damage.amount, 0, definition.general.health));
+                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityVariableIncrement(damageVar, damage.amount, 0, definition.general.health), this);
                 }
                 damageVar.setTo(currentDamage, false);
             }
@@ -15,6 +15,7 @@ import java.util.TreeMap;
 import minecrafttransportsimulator.baseclasses.AnimationSwitchbox;
 import minecrafttransportsimulator.baseclasses.BoundingBox;
 import minecrafttransportsimulator.baseclasses.BoundingBoxHitResult;
+import minecrafttransportsimulator.baseclasses.BoundingBoxTree;
 import minecrafttransportsimulator.baseclasses.ColorRGB;
 import minecrafttransportsimulator.baseclasses.ComputedVariable;
 import minecrafttransportsimulator.baseclasses.Damage;
@@ -41,9 +42,6 @@ import minecrafttransportsimulator.mcinterface.IWrapperItemStack;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
-import minecrafttransportsimulator.packets.instances.PacketEntityBulletHitCollision;
-import minecrafttransportsimulator.packets.instances.PacketEntityBulletHitEntity;
-import minecrafttransportsimulator.packets.instances.PacketEntityBulletHitGeneric;
 import minecrafttransportsimulator.packets.instances.PacketPartChange_Add;
 import minecrafttransportsimulator.packets.instances.PacketPartChange_Remove;
 import minecrafttransportsimulator.packets.instances.PacketPlayerChatMessage;
@@ -64,6 +62,11 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
      **/
     public final Set<BoundingBox> allCollisionBoxes = new HashSet<>();
 
+    /**
+     * Tree of {@link #allCollisionBoxes}.  Use this rather than iterating over all boxes when looking for boxes on a ray or in an area.
+     **/
+    public final BoundingBoxTree allCollisionBoxTree = new BoundingBoxTree();
+
     /**
      * This list contains all parts this entity has.  Do NOT directly modify this list.  Instead,
      * call {@link #addPart}, {@link #addPartFromItem}, or {@link #removePart} to ensure all sub-classed
@@ -99,6 +102,8 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
     private static final float PART_SLOT_LARGE_HITBOX_HEIGHT = 2.25F;
     private static final Point3D PART_TRANSFER_GROWTH = new Point3D(16, 16, 16);
     private static final Set<CollisionType> partSlotBoxCollisionTypes = new HashSet<>(Arrays.asList(CollisionType.CLICK));
+    private static final int ATTACK_HIT_TYPES = BoundingBoxTree.getTypeMask(CollisionType.ATTACK);
+    private static final int BULLET_HIT_TYPES = BoundingBoxTree.getTypeMask(CollisionType.ATTACK, CollisionType.BULLET);
 
     public AEntityF_Multipart(AWrapperWorld world, IWrapperPlayer placingPlayer, AItemSubTyped<JSONDefinition> item, IWrapperNBT data) {
         super(world, placingPlayer, item, data);
@@ -159,7 +164,7 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
                 }
             }
             partAnchor.add(position);
-            for (APart partToTransfer : world.getEntitiesExtendingType(APart.class)) {
+            for (APart partToTransfer : world.queryRadius(partAnchor, 2, APart.class)) {
                 if (partToTransfer.definition.generic.canBePlacedOnGround && partToTransfer.masterEntity != masterEntity && partToTransfer.position.isDistanceToCloserThan(partAnchor, 2) && ((AItemPart) partToTransfer.cachedItem).isPartValidForPackDef(partDef, this.subDefinition, true)) {
                     IWrapperNBT data = partToTransfer.save(InterfaceManager.coreInterface.getNewNBTWrapper());
                     IWrapperEntity partRider = partToTransfer.rider;
@@ -177,7 +182,8 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
             if (currentPart.definition.generic.canBePlacedOnGround) {
                 Point3D partAnchor = new Point3D();
                 AItemPart currentPartItem = (AItemPart) currentPart.cachedItem;
-                for (AEntityF_Multipart<?> entity : world.getEntitiesExtendingType(AEntityF_Multipart.class)) {
+                BoundingBox searchBox = new BoundingBox(currentPart.position, PART_TRANSFER_GROWTH.x, PART_TRANSFER_GROWTH.y, PART_TRANSFER_GROWTH.z);
+                for (AEntityF_Multipart<?> entity : world.queryBox(searchBox, AEntityF_Multipart.class)) {
                     //This keeps us from checking things really far away for no reason.
                     if (entity.encompassingBox.isPointInside(currentPart.position, PART_TRANSFER_GROWTH)) {
                         AEntityF_Multipart<?> otherMasterEntity = entity instanceof APart ? ((APart) entity).masterEntity : entity;
@@ -232,6 +238,20 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
         }
     }
 
+    @Override
+    public boolean isIdle() {
+        //Can't be idle if anyone is riding us, we are animating, or any of our parts are doing things.
+        if (rider != null || isAnimating()) {
+            return false;
+        }
+        for (APart part : parts) {
+            if (!part.isIdle()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public double getMass() {
         //Return our mass, plus our parts.
@@ -262,34 +282,34 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
      */
     public Collection<BoundingBoxHitResult> getHitBoxes(Point3D pathStart, Point3D pathEnd, BoundingBox movementBounds, boolean isBullet) {
         if (encompassingBox.intersects(movementBounds)) {
-            //Get all collision boxes and check if we hit any of them.
+            //Get all collision boxes on the path and check if we hit any of them.
             //Sort them by distance for later.
             TreeMap<Double, BoundingBoxHitResult> hitBoxes = new TreeMap<>();
-            for (BoundingBox box : allCollisionBoxes) {
-                if (box.collisionTypes.contains(CollisionType.ATTACK) || (isBullet && box.collisionTypes.contains(CollisionType.BULLET))) {
-                    BoundingBoxHitResult hitResult = box.getIntersection(pathStart, pathEnd);
-                    if (hitResult != null) {
-                        double boxDistance = hitResult.position.distanceTo(pathStart);
-                        boolean addBox = true;
-                        if (box.groupDef != null) {
-                            //Don't add boxes within the same group.
-                            Iterator<Entry<Double, BoundingBoxHitResult>> iterator = hitBoxes.entrySet().iterator();
-                            while (iterator.hasNext()) {
-                                Entry<Double, BoundingBoxHitResult> entry = iterator.next();
-                                BoundingBoxHitResult otherHitEntry = entry.getValue();
-                                if (otherHitEntry.box.groupDef == box.groupDef) {
-                                    if (entry.getKey() > boxDistance) {
-                                        iterator.remove();
-                                    } else {
-                                        addBox = false;
-                                    }
-                                    break;
+            List<BoundingBox> candidateBoxes = new ArrayList<>();
+            allCollisionBoxTree.getRayCandidates(pathStart, pathEnd, isBullet ? BULLET_HIT_TYPES : ATTACK_HIT_TYPES, candidateBoxes);
+            for (BoundingBox box : candidateBoxes) {
+                BoundingBoxHitResult hitResult = box.getIntersection(pathStart, pathEnd);
+                if (hitResult != null) {
+                    double boxDistance = hitResult.position.distanceTo(pathStart);
+                    boolean addBox = true;
+                    if (box.groupDef != null) {
+                        //Don't add boxes within the same group.
+                        Iterator<Entry<Double, BoundingBoxHitResult>> iterator = hitBoxes.entrySet().iterator();
+                        while (iterator.hasNext()) {
+                            Entry<Double, BoundingBoxHitResult> entry = iterator.next();
+                            BoundingBoxHitResult otherHitEntry = entry.getValue();
+                            if (otherHitEntry.box.groupDef == box.groupDef) {
+                                if (entry.getKey() > boxDistance) {
+                                    iterator.remove();
+                                } else {
+                                    addBox = false;
                                 }
+                                break;
                             }
                         }
-                        if (addBox) {
-                            hitBoxes.put(boxDistance, hitResult);
-                        }
+                    }
+                    if (addBox) {
+                        hitBoxes.put(boxDistance, hitResult);
                     }
                 }
             }
@@ -326,7 +346,7 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
                 //Send off packet to damage the health hitbox (or damage directly on server) and continue as if we didn't hit anything.
                 double actualDamage = hitEntry.box.groupDef.damageMultiplier != 0 ? damage.amount * hitEntry.box.groupDef.damageMultiplier : damage.amount;
                 if (world.isClient()) {
-                    InterfaceManager.packetInterface.sendToServer(new PacketEntityBulletHitCollision(hitEntity, hitEntry.box, actualDamage));
+                    world.getBulletHitBatch(bullet.gun).addCollisionHit(hitEntity, hitEntry.box, actualDamage);
                 } else {
                     hitEntity.damageCollisionBox(hitEntry.box, actualDamage);
                 }
@@ -345,7 +365,7 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
                     if (bullet.armorPenetrated > penetrationPotential) {
                         //Bullet hit too much armor.
                         if (world.isClient()) {
-                            InterfaceManager.packetInterface.sendToServer(new PacketEntityBulletHitGeneric(bullet.gun, bullet.bulletNumber, hitEntry.position, hitEntry.side, HitType.ARMOR));
+                            world.getBulletHitBatch(bullet.gun).addGenericHit(bullet.bulletNumber, hitEntry.position, hitEntry.side, HitType.ARMOR);
                             bullet.waitingOnActionPacket = true;
                         } else {
                             EntityBullet.performGenericHitLogic(bullet.gun, bullet.bulletNumber, hitEntry.position, hitEntry.side, HitType.ARMOR);
@@ -372,9 +392,9 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
 
                     bullet.displayDebugMessage("HIT ENTITY BOX FOR DAMAGE: " + (int) damage.amount + " DAMAGE WAS AT " + (int) hitEntity.damageVar.currentValue);
                     if (world.isClient()) {
-                        InterfaceManager.packetInterface.sendToServer(new PacketEntityBulletHitEntity(bullet.gun, hitEntity, damage));
+                        world.getBulletHitBatch(bullet.gun).addEntityHit(hitEntity, damage);
                         if (removeAfterDamage) {
-                            InterfaceManager.packetInterface.sendToServer(new PacketEntityBulletHitGeneric(bullet.gun, bullet.bulletNumber, hitEntry.position, hitEntry.side, HitType.VEHICLE));
+                            world.getBulletHitBatch(bullet.gun).addGenericHit(bullet.bulletNumber, hitEntry.position, hitEntry.side, HitType.VEHICLE);
                             bullet.waitingOnActionPacket = true;
                             return EntityBullet.HitType.VEHICLE;
                         }
@@ -580,11 +600,6 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
 
             //Recalculate slots.
             recalculatePartSlots();
-
-            //If we are on the server, and need to notify clients, do so.
-            if (sendPacket && !world.isClient()) {
-                InterfaceManager.packetInterface.sendToAllClients(new PacketPartChange_Add(this, part));
-            }
         }
 
         //Add the part to the world, if it doesn't exist already.
@@ -592,9 +607,16 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
             world.addEntity(part);
         }
 
+        //If we are on the server, and need to notify clients, do so.
+        //This has to be after the part is added to the world, as that's where it gets its session ID.
+        if (!part.isFake() && sendPacket && !world.isClient()) {
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartChange_Add(this, part), this);
+        }
+
         //Let parts know a change was made.
         part.masterEntity.updateAllpartList();
         part.masterEntity.updatePartList();
+        wakeUp();
     }
 
     /**
@@ -623,12 +645,13 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
 
             //If we are on the server, notify all clients of this change.
             if (!world.isClient() && notifyClients) {
-                InterfaceManager.packetInterface.sendToAllClients(new PacketPartChange_Remove(part, doFinalTick));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartChange_Remove(part, doFinalTick), part);
             }
 
             //Let parts know a change was made.
             part.masterEntity.updateAllpartList();
             part.masterEntity.updatePartList();
+            wakeUp();
         }
     }
 
@@ -830,6 +853,7 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
         for (APart part : parts) {
             allCollisionBoxes.addAll(part.allCollisionBoxes);
         }
+        allCollisionBoxTree.update(allCollisionBoxes);
 
         //Update encompassing bounding box to reflect all bounding boxes of all parts.
         if (!parts.isEmpty()) {
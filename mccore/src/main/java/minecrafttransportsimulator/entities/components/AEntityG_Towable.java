@@ -203,6 +203,13 @@ public abstract class AEntityG_Towable<JSONDefinition extends AJSONPartProvider>
         return towedByConnection != null;
     }
 
+    @Override
+    public boolean isIdle() {
+        //Towed entities are updated by their towers, and towers need to keep pulling, so neither can sleep.
+        //Same goes for connections that are still waiting to be made or broken.
+        return super.isIdle() && towedByConnection == null && towingConnections.isEmpty() && disconnectedTowingConnections.isEmpty() && savedTowedByConnection == null && savedTowingConnections.isEmpty();
+    }
+
     @Override
     public ComputedVariable createComputedVariable(String variable, boolean createDefaultIfNotPresent) {
         if (variable.startsWith("connection")) {
@@ -531,11 +538,13 @@ public abstract class AEntityG_Towable<JSONDefinition extends AJSONPartProvider>
         resetAllVariables();
         connection.towedVehicle.resetAllVariables();
         connection.towedVehicle.parkingBrakeVar.setTo(0, false);
+        wakeUp();
+        connection.towedVehicle.wakeUp();
 
         //Handle connection update requests.
         if (!world.isClient()) {
             if (notifyClient) {
-                InterfaceManager.packetInterface.sendToAllClients(new PacketEntityTowingChange(this, connection));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityTowingChange(this, connection), this);
             }
         } else if (AGUIBase.activeInputGUI instanceof GUIPanel) {
             ((GUIPanel) AGUIBase.activeInputGUI).handleConnectionChange(connection);
@@ -559,9 +568,11 @@ public abstract class AEntityG_Towable<JSONDefinition extends AJSONPartProvider>
         resetAllVariables();
         connection.towedVehicle.resetAllVariables();
         connection.towedVehicle.parkingBrakeVar.setTo(1, false);
+        wakeUp();
+        connection.towedVehicle.wakeUp();
 
         if (!world.isClient()) {
-            InterfaceManager.packetInterface.sendToAllClients(new PacketEntityTowingChange(this, connectionIndex));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityTowingChange(this, connectionIndex), this);
         } else if (AGUIBase.activeInputGUI instanceof GUIPanel) {
             ((GUIPanel) AGUIBase.activeInputGUI).handleConnectionChange(connection);
         }
@@ -576,7 +587,11 @@ public abstract class AEntityG_Towable<JSONDefinition extends AJSONPartProvider>
      * on those clients by the time the packet arrives.
      */
     public void disconnectAllConnections() {
+        towingConnections.forEach(connection -> connection.towedVehicle.wakeUp());
         towingConnections.clear();
+        if (towedByConnection != null) {
+            towedByConnection.towingVehicle.wakeUp();
+        }
         towedByConnection = null;
     }
 
@@ -53,7 +53,7 @@ public abstract class AEntityCrafter extends EntityInventoryContainer {
                 if (!fuelStack.isEmpty()) {
                     ticksFuelProvides = getFuelTime(fuelStack);
                     ticksLeftOfFuel = ticksFuelProvides;
-                    InterfaceManager.packetInterface.sendToAllClients(new PacketCrafterFuelAdd(this));
+                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketCrafterFuelAdd(this), this);
                     removeFromSlot(FUEL_ITEM_SLOT, 1);
                 }
             }
@@ -71,7 +71,7 @@ public abstract class AEntityCrafter extends EntityInventoryContainer {
                 if (!foundInput) {
                     ticksNeededToCraft = 0;
                     ticksLeftToCraft = ticksNeededToCraft;
-                    InterfaceManager.packetInterface.sendToAllClients(new PacketCrafterTimeSet(this));
+                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketCrafterTimeSet(this), this);
                 }
             }
 
@@ -116,7 +116,7 @@ public abstract class AEntityCrafter extends EntityInventoryContainer {
                     if (!outputStack.isEmpty()) {
                         ticksNeededToCraft = (int) (getTimeForItem(inputStack) * 1F / definition.crafterRate);
                         ticksLeftToCraft = ticksNeededToCraft;
-                        InterfaceManager.packetInterface.sendToAllClients(new PacketCrafterTimeSet(this));
+                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketCrafterTimeSet(this), this);
                     }
                 }
             }
@@ -18,6 +18,7 @@ import minecrafttransportsimulator.blocks.tileentities.components.RoadFollowingS
 import minecrafttransportsimulator.blocks.tileentities.components.RoadLane;
 import minecrafttransportsimulator.blocks.tileentities.components.RoadLane.LaneSelectionRequest;
 import minecrafttransportsimulator.blocks.tileentities.instances.TileEntityRoad;
+import minecrafttransportsimulator.collections.BlockPositionSet;
 import minecrafttransportsimulator.entities.components.AEntityE_Interactable;
 import minecrafttransportsimulator.items.instances.ItemItem;
 import minecrafttransportsimulator.items.instances.ItemVehicle;
@@ -28,7 +29,6 @@ import minecrafttransportsimulator.mcinterface.AWrapperWorld;
 import minecrafttransportsimulator.mcinterface.IWrapperEntity;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
-import minecrafttransportsimulator.mcinterface.InterfaceManager;
 import minecrafttransportsimulator.packets.instances.PacketPlayerChatMessage;
 import minecrafttransportsimulator.packets.instances.PacketVehicleServerMovement;
 import minecrafttransportsimulator.systems.ConfigSystem;
@@ -67,6 +67,8 @@ abstract class AEntityVehicleD_Moving extends AEntityVehicleC_Colliding {
     public double weightTransfer = 0;
     public final RotationMatrix rotation = new RotationMatrix();
     private final IWrapperPlayer placingPlayer;
+    private static final double IDLE_MOTION = 0.001;
+    private static final double IDLE_ROTATION = 0.01;
 
     //Properties
     public final ComputedVariable steeringForceIgnoresSpeedVar;
@@ -92,6 +94,11 @@ abstract class AEntityVehicleD_Moving extends AEntityVehicleC_Colliding {
     private final Point3D serverDeltaMApplied = new Point3D();
     private final Point3D serverDeltaRApplied = new Point3D();
     private double serverDeltaPApplied;
+    private final Point3D serverDeltaMUnsent = new Point3D();
+    private final Point3D serverDeltaRUnsent = new Point3D();
+    private double serverDeltaPUnsent;
+    private boolean hasUnsentServerDeltas;
+    private boolean movedSinceServerDeltasSent;
 
     private final Point3D clientDeltaM;
     private final Point3D clientDeltaR;
@@ -110,6 +117,9 @@ abstract class AEntityVehicleD_Moving extends AEntityVehicleC_Colliding {
     private double pathingApplied;
 
     private final Point3D tempBoxPosition = new Point3D();
+    private final BoundingBox sweptCollisionBox = new BoundingBox(new Point3D(), 0);
+    private final BlockPositionSet collisionIgnoredBlocks = new BlockPositionSet();
+    private final Point3D collisionBlockPosition = new Point3D();
     private final Point3D normalizedGroundVelocityVector = new Point3D();
     private final Point3D normalizedGroundHeadingVector = new Point3D();
     public final List<BoundingBox> allBlockCollisionBoxes = new ArrayList<>(); //Public so we can add ground device boxes to this set.
@@ -152,6 +162,12 @@ abstract class AEntityVehicleD_Moving extends AEntityVehicleC_Colliding {
         addVariable(this.hasSkidSteerVar = new ComputedVariable(this, "hasSkidSteer"));
     }
 
+    @Override
+    public boolean isIdle() {
+        //Can only be idle if we've stopped moving, and aren't sitting on something that could move us.
+        return super.isIdle() && motion.length() < IDLE_MOTION && rotation.angles.length() < IDLE_ROTATION && collidedEntities.isEmpty();
+    }
+
     @Override
     public void update() {
         super.update();
@@ -1007,11 +1023,20 @@ abstract class AEntityVehicleD_Moving extends AEntityVehicleC_Colliding {
         if (!ConfigSystem.settings.general.noclipVehicles.value && motion.length() > 0.001) {
             boolean clearedCache = false;
             for (BoundingBox box : allBlockCollisionBoxes) {
-                tempBoxPosition.set(box.globalCenter).subtract(position).rotate(rotation).subtract(box.globalCenter).add(position).addScaled(motion, speedFactor);
-                if (!box.collidesWithLiquids && world.checkForCollisions(box, tempBoxPosition, !clearedCache, !world.isClient() && ConfigSystem.settings.damage.vehicleBlockBreaking.value)) {
-                    return true;
+                if (!box.collidesWithLiquids) {
+                    //Check the whole area the box passes through, not just where it ends up.
+                    //Otherwise, fast vehicles could go through thin walls without ever colliding with them.
+                    tempBoxPosition.set(box.globalCenter).subtract(position).rotate(rotation).subtract(box.globalCenter).add(position).addScaled(motion, speedFactor);
+                    sweptCollisionBox.globalCenter.set(box.globalCenter).addScaled(tempBoxPosition, 0.5);
+                    sweptCollisionBox.widthRadius = box.widthRadius + Math.abs(tempBoxPosition.x) / 2D;
+                    sweptCollisionBox.heightRadius = box.heightRadius + Math.abs(tempBoxPosition.y) / 2D;
+                    sweptCollisionBox.depthRadius = box.depthRadius + Math.abs(tempBoxPosition.z) / 2D;
+                    tempBoxPosition.set(0D, 0D, 0D);
+                    if (world.checkForCollisions(sweptCollisionBox, tempBoxPosition, !clearedCache, !world.isClient() && ConfigSystem.settings.damage.vehicleBlockBreaking.value)) {
+                        return true;
+                    }
+                    clearedCache = true;
                 }
-                clearedCache = true;
             }
         }
         return false;
@@ -1019,8 +1044,10 @@ abstract class AEntityVehicleD_Moving extends AEntityVehicleC_Colliding {
 
     /**
      * If a collision box collided, we need to restrict our proposed movement.
-     * Do this by removing motions that cause collisions.
-     * If the motion has a value of 0, skip it as it couldn't have caused the collision.
+     * Do this by sweeping each box along our motion to find the blocks it hits, in the order it hits them.
+     * Blocks that we can break are broken, and the rest block us.  Once we know what blocks us,
+     * all boxes are swept together one axis at a time to remove the motion that would put us into them.
+     * Sweeping rather than checking where the boxes end up prevents fast vehicles from going through blocks.
      * Note that even though motionY may have been adjusted for ground device operation prior to this call,
      * we shouldn't have an issue with the change as this logic takes priority over that logic to ensure
      * no collision box collides with another block, even if it requires all the ground devices to be collided.
@@ -1029,15 +1056,19 @@ abstract class AEntityVehicleD_Moving extends AEntityVehicleC_Colliding {
      */
     private boolean correctCollidingMovement() {
         double hardnessHitThisTick = 0;
+        boolean movementInhibited = false;
         Point3D collisionMotion = motion.copy().scale(speedFactor);
+        collisionIgnoredBlocks.clear();
         for (BoundingBox box : allBlockCollisionBoxes) {
             //If we collided, so check to see if we can break some blocks or if we need to explode.
             //Don't bother with this logic if it's impossible for us to break anything.
-            if (box.updateCollisions(world, collisionMotion, true)) {
+            if (world.sweepBoundingBoxCollisions(box, collisionMotion)) {
                 float hardnessHitThisBox = 0;
                 boolean inhibitMovement = false;
                 boolean hitBlock = false;
-                for (Point3D blockPosition : box.collidingBlockPositions) {
+                for (int i = 0; i < box.collidingBlockPositions.size(); ++i) {
+                    long blockKey = box.collidingBlockPositions.get(i);
+                    Point3D blockPosition = collisionBlockPosition.set(BlockPositionSet.getX(blockKey), BlockPositionSet.getY(blockKey), BlockPositionSet.getZ(blockKey));
                     float blockHardness = world.getBlockHardness(blockPosition);
                     if (!world.isBlockLiquid(blockPosition)) {
                         if (blockBreakDelay == 0 && blockHardness >= 0) {
@@ -1048,7 +1079,9 @@ abstract class AEntityVehicleD_Moving extends AEntityVehicleC_Colliding {
                                 //If we are supposed to break the block, do so now.
                                 if (ConfigSystem.settings.damage.vehicleBlockBreaking.value) {
                                     //Scale motion back for broken block, and break block and damage vehicle.
+                                    //Broken blocks are ignored when we check what blocks us, as clients don't break them until the server tells them to.
                                     motion.scale(Math.max(1.0F - blockHardness * 0.5F / ((1000F + currentMass) / 1000F), 0.0F));
+                                    collisionIgnoredBlocks.add(blockKey);
                                     if (!world.isClient()) {
                                         world.destroyBlock(blockPosition, true);
                                         if (box.groupDef != null && blockHardness > 0) {
@@ -1105,22 +1138,26 @@ abstract class AEntityVehicleD_Moving extends AEntityVehicleC_Colliding {
                 }
 
                 //If we didn't break all our blocks, we need to inhibit our movement to prevent us from going inside them.
-                if (inhibitMovement) {
-                    motion.subtract(box.currentCollisionDepth.scale(1 / speedFactor));
-                    collisionMotion.set(motion.copy().scale(speedFactor));
-                }
+                //Breaking blocks may have slowed us down, so the remaining boxes only need to check our new motion.
+                movementInhibited |= inhibitMovement;
+                collisionMotion.set(motion).scale(speedFactor);
             }
         }
+        if (movementInhibited && world.clampMotionForCollisions(allBlockCollisionBoxes, collisionMotion, collisionIgnoredBlocks)) {
+            motion.set(collisionMotion).scale(1 / speedFactor);
+        }
 
         //Check the rotation.
         if (!rotation.angles.isZero()) {
+            boolean clearedCache = false;
             for (BoundingBox box : allBlockCollisionBoxes) {
-                tempBoxPosition.set(box.globalCenter).subtract(position).rotate(rotation).add(position).addScaled(motion, speedFactor);
-                if (box.updateCollisions(world, tempBoxPosition.subtract(box.globalCenter), false)) {
+                tempBoxPosition.set(box.globalCenter).subtract(position).rotate(rotation).add(position).addScaled(motion, speedFactor).subtract(box.globalCenter);
+                if (world.checkForCollisions(box, tempBoxPosition, !clearedCache, false)) {
                     rotation.setToZero();
                     rotation.angles.set(0, 0, 0);
                     break;
                 }
+                clearedCache = true;
             }
         }
         return false;
@@ -1133,22 +1170,75 @@ abstract class AEntityVehicleD_Moving extends AEntityVehicleC_Colliding {
             serverDeltaR.add(rotationAdded);
             serverDeltaP += pathingAdded;
         } else {
-            //Internal call, add normally and send packet if needed.
+            //Internal call, add normally and queue to send to clients.
             if (!motionApplied.isZero()) {
                 serverDeltaMApplied.set(motionApplied);
                 serverDeltaM.add(motionApplied);
+                serverDeltaMUnsent.add(motionApplied);
                 if (!orientation.angles.equals(prevOrientation.angles)) {
                     rotationApplied.angles.set(orientation.angles).subtract(prevOrientation.angles).clamp180();
                     serverDeltaRApplied.set(rotationApplied.angles);
                     serverDeltaR.add(rotationApplied.angles);
+                    serverDeltaRUnsent.add(rotationApplied.angles);
                 }
                 serverDeltaPApplied += pathingApplied;
                 serverDeltaP += pathingApplied;
-                InterfaceManager.packetInterface.sendToAllClients(new PacketVehicleServerMovement((EntityVehicleF_Physics) this, motionApplied, rotationApplied.angles, pathingApplied));
+                serverDeltaPUnsent += pathingApplied;
+                hasUnsentServerDeltas = true;
+                movedSinceServerDeltasSent = true;
             }
         }
     }
 
+    /**
+     * Converts the server deltas that haven't been sent to clients yet to fixed-point values for a
+     * {@link PacketVehicleServerMovement}, and puts them in the passed-in array at the passed-in offset.
+     * The converted amounts are taken off the unsent deltas, so any rounding error stays here and is sent
+     * with the next movement rather than being lost.  Once the vehicle stops moving, whatever is left is sent
+     * with {@link PacketVehicleServerMovement#FINE_SCALE}, as otherwise remainders under half a step would never
+     * go out and clients would stay slightly off from the server.  Returns false if the deltas are too small
+     * to send.  Call this ONLY on the server.
+     */
+    public boolean quantizeUnsentServerDeltas(int[] values, int offset) {
+        if (!hasUnsentServerDeltas) {
+            return false;
+        }
+        boolean fine = !movedSinceServerDeltasSent;
+        double fineScale = fine ? PacketVehicleServerMovement.FINE_SCALE : 1;
+        double motionScale = PacketVehicleServerMovement.MOTION_SCALE * fineScale;
+        double rotationScale = PacketVehicleServerMovement.ROTATION_SCALE * fineScale;
+        double pathingScale = PacketVehicleServerMovement.PATHING_SCALE * fineScale;
+        values[offset] = PacketVehicleServerMovement.quantize(serverDeltaMUnsent.x, motionScale);
+        values[offset + 1] = PacketVehicleServerMovement.quantize(serverDeltaMUnsent.y, motionScale);
+        values[offset + 2] = PacketVehicleServerMovement.quantize(serverDeltaMUnsent.z, motionScale);
+        values[offset + 3] = PacketVehicleServerMovement.quantize(serverDeltaRUnsent.x, rotationScale);
+        values[offset + 4] = PacketVehicleServerMovement.quantize(serverDeltaRUnsent.y, rotationScale);
+        values[offset + 5] = PacketVehicleServerMovement.quantize(serverDeltaRUnsent.z, rotationScale);
+        values[offset + 6] = PacketVehicleServerMovement.quantize(serverDeltaPUnsent, pathingScale);
+        values[offset + PacketVehicleServerMovement.FINE_INDEX] = fine ? 1 : 0;
+        boolean anyToSend = false;
+        for (int i = offset; i < offset + PacketVehicleServerMovement.FINE_INDEX; ++i) {
+            if (values[i] != 0) {
+                anyToSend = true;
+                break;
+            }
+        }
+        if (anyToSend) {
+            serverDeltaMUnsent.x -= values[offset] / motionScale;
+            serverDeltaMUnsent.y -= values[offset + 1] / motionScale;
+            serverDeltaMUnsent.z -= values[offset + 2] / motionScale;
+            serverDeltaRUnsent.x -= values[offset + 3] / rotationScale;
+            serverDeltaRUnsent.y -= values[offset + 4] / rotationScale;
+            serverDeltaRUnsent.z -= values[offset + 5] / rotationScale;
+            serverDeltaPUnsent -= values[offset + 6] / pathingScale;
+        }
+        //Keep going until a fine pass has nothing left to send.
+        //Anything under a fine step is kept and goes with the next movement.
+        hasUnsentServerDeltas = !fine || anyToSend;
+        movedSinceServerDeltasSent = false;
+        return anyToSend;
+    }
+
     /**
      * Locks or unlocks this entity.  Allows for supplemental logic.
      * Call this ONLY on the server.
@@ -97,6 +97,26 @@ public abstract class AEntityVehicleE_Powered extends AEntityVehicleD_Moving {
     	addVariable(this.reverseThrustVar = new ComputedVariable(this, "reverser", data));
     }
 
+    @Override
+    public boolean isIdle() {
+        if (!super.isIdle() || enginesOn || beingFueled || electricFlow != 0 || !missilesIncoming.isEmpty() || !radarsTracking.isEmpty()) {
+            return false;
+        }
+        //Need to finish moving our gear, and need to keep counting down to despawn if we're dead.
+        if (gearMovementTime != (retractGearVar.isActive ? definition.motorized.gearSequenceDuration : 0) || (outOfHealth && ConfigSystem.settings.general.vehicleDeathDespawnTime.value > 0)) {
+            return false;
+        }
+        //Can't sleep if we have tanks that are filling us.
+        if (fuelTank.getFluidLevel() < definition.motorized.fuelCapacity - 100) {
+            for (APart part : allParts) {
+                if (part instanceof PartInteractable && part.isActive && part.definition.interactable.feedsVehicles && ((PartInteractable) part).tank != null && ((PartInteractable) part).tank.getFluidLevel() > 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     @Override
     public void update() {
         super.update();
@@ -91,6 +91,7 @@ public abstract class APart extends AEntityF_Multipart<JSONPart> {
     private final AnimationSwitchbox internalActiveSwitchbox;
     private final AnimationSwitchbox placementMovementSwitchbox;
     private final AnimationSwitchbox internalMovementSwitchbox;
+    private final Point3D scratchTranslation = new Point3D();
 
     public APart(AEntityF_Multipart<?> entityOn, IWrapperPlayer placingPlayer, JSONPartDefinition placementDefinition, AItemPart item, IWrapperNBT data) {
         super(entityOn.world, placingPlayer, item, data);
@@ -257,14 +258,14 @@ public abstract class APart extends AEntityF_Multipart<JSONPart> {
             isInvisible = !internalMovementSwitchbox.runSwitchbox(0, false) || isInvisible;
             //Offset here, to apply to locals, needs to be multiplied by scale and local orientation.
             //If we don't do this, then we won't calculate the locals right.
-            localOffset.add(internalMovementSwitchbox.translation.multiply(scale).rotate(localOrientation));
+            //Use a scratch copy of the translation, as the switchbox will keep it if its variables don't change.
+            localOffset.add(scratchTranslation.set(internalMovementSwitchbox.translation).multiply(scale).rotate(localOrientation));
             localOrientation.multiply(internalMovementSwitchbox.rotation);
         }
 
         //Set global position to reflect new local position.
         world.beginProfiling("AlignmentApply", false);
-        Point3D localPositionDelta = new Point3D().set(localOffset).rotate(orientation);
-        position.add(localPositionDelta);
+        position.add(scratchTranslation.set(localOffset).rotate(orientation));
         orientation.multiply(localOrientation);
 
         //Adjust localOffset to align with actual local offset.  This happens if we are a sub-part.
@@ -286,6 +287,28 @@ public abstract class APart extends AEntityF_Multipart<JSONPart> {
         return entityOn.getUpdateTime();
     }
 
+    @Override
+    public boolean isSleeping() {
+        //Parts sleep with what they are on, they are never put to sleep on their own.
+        return masterEntity.isSleeping();
+    }
+
+    @Override
+    public boolean isIdle() {
+        //Need to wait for the newly-added variable to clear before we can be idle.
+        return ticksExisted > 5 && super.isIdle();
+    }
+
+    @Override
+    public void updateSleepState() {
+        //Our master entity checks us when it checks its own state, so we don't do anything here.
+    }
+
+    @Override
+    public void wakeUp() {
+        masterEntity.wakeUp();
+    }
+
     @Override
     public boolean requiresDeltaUpdates() {
         return entityOn.requiresDeltaUpdates() || isMoveable || super.requiresDeltaUpdates();
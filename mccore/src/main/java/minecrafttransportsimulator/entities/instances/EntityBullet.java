@@ -23,9 +23,6 @@ import minecrafttransportsimulator.jsondefs.JSONPart.TargetType;
 import minecrafttransportsimulator.mcinterface.IWrapperEntity;
 import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
-import minecrafttransportsimulator.packets.instances.PacketEntityBulletHitBlock;
-import minecrafttransportsimulator.packets.instances.PacketEntityBulletHitExternalEntity;
-import minecrafttransportsimulator.packets.instances.PacketEntityBulletHitGeneric;
 import minecrafttransportsimulator.packets.instances.PacketPlayerChatMessage;
 import minecrafttransportsimulator.systems.ConfigSystem;
 import minecrafttransportsimulator.systems.LanguageSystem;
@@ -136,7 +133,7 @@ public class EntityBullet extends AEntityD_Definable<JSONBullet> {
         //particles and sounds prior to the request from the internal system for the destruction of this block.
         if (hitBlock != null) {
             if (world.isClient()) {
-                InterfaceManager.packetInterface.sendToServer(new PacketEntityBulletHitBlock(gun, bulletNumber, hitBlock.blockPosition, hitBlock.side));
+                world.getBulletHitBatch(gun).addBlockHit(bulletNumber, hitBlock.blockPosition, hitBlock.side);
             } else {
                 performBlockHitLogic(gun, bulletNumber, hitBlock.blockPosition, hitBlock.side);
             }
@@ -413,8 +410,8 @@ public class EntityBullet extends AEntityD_Definable<JSONBullet> {
                 //Now attack the block or external entity, if we have either.
                 if (hitExternalEntity != null) {
                     if (world.isClient()) {
-                        InterfaceManager.packetInterface.sendToServer(new PacketEntityBulletHitExternalEntity(hitExternalEntity, damage));
-                        InterfaceManager.packetInterface.sendToServer(new PacketEntityBulletHitGeneric(gun, bulletNumber, hitExternalEntity.getPosition(), Axis.getFromVector(motion), HitType.ENTITY));
+                        world.getBulletHitBatch(gun).addExternalEntityHit(hitExternalEntity, damage);
+                        world.getBulletHitBatch(gun).addGenericHit(bulletNumber, hitExternalEntity.getPosition(), Axis.getFromVector(motion), HitType.ENTITY);
                         waitingOnActionPacket = true;
                     } else {
                         performExternalEntityHitLogic(hitExternalEntity, damage);
@@ -437,7 +434,7 @@ public class EntityBullet extends AEntityD_Definable<JSONBullet> {
                         hitBlock.hitPosition.z -= 0.000001;
                     }
                     if (world.isClient()) {
-                        InterfaceManager.packetInterface.sendToServer(new PacketEntityBulletHitGeneric(gun, bulletNumber, hitBlock.hitPosition, hitBlock.side, HitType.BLOCK));
+                        world.getBulletHitBatch(gun).addGenericHit(bulletNumber, hitBlock.hitPosition, hitBlock.side, HitType.BLOCK);
                         waitingOnActionPacket = true;
                     } else {
                         performGenericHitLogic(gun, bulletNumber, hitBlock.hitPosition, hitBlock.side, HitType.BLOCK);
@@ -520,7 +517,7 @@ public class EntityBullet extends AEntityD_Definable<JSONBullet> {
                             position.interpolate(targetToHit, (distanceToTarget - definition.bullet.proximityFuze) / definition.bullet.proximityFuze);
                         }
                         if (world.isClient()) {
-                            InterfaceManager.packetInterface.sendToServer(new PacketEntityBulletHitGeneric(gun, bulletNumber, position, Axis.getFromVector(motion), hitType));
+                            world.getBulletHitBatch(gun).addGenericHit(bulletNumber, position, Axis.getFromVector(motion), hitType);
                             waitingOnActionPacket = true;
                         } else {
                             performGenericHitLogic(gun, bulletNumber, position, Axis.getFromVector(motion), hitType);
@@ -533,7 +530,7 @@ public class EntityBullet extends AEntityD_Definable<JSONBullet> {
                 if (definition.bullet.airBurstDelay != 0) {
                     if (ticksExisted > definition.bullet.airBurstDelay) {
                         if (world.isClient()) {
-                            InterfaceManager.packetInterface.sendToServer(new PacketEntityBulletHitGeneric(gun, bulletNumber, position, Axis.NONE, HitType.BURST));
+                            world.getBulletHitBatch(gun).addGenericHit(bulletNumber, position, Axis.NONE, HitType.BURST);
                             waitingOnActionPacket = true;
                         } else {
                             performGenericHitLogic(gun, bulletNumber, position, Axis.NONE, HitType.BURST);
@@ -608,7 +605,7 @@ public class EntityBullet extends AEntityD_Definable<JSONBullet> {
     public static void performBlockHitLogic(PartGun gun, int bulletNumber, Point3D blockPosition, Axis blockSide) {
         //This is for block state-changes.  Particles and animations are handled in generic.
         if (!gun.world.isClient()) {
-            InterfaceManager.packetInterface.sendToAllClients(new PacketEntityBulletHitBlock(gun, bulletNumber, blockPosition, blockSide));
+            gun.world.getBulletHitBatch(gun).addBlockHit(bulletNumber, blockPosition, blockSide);
             if (gun.lastLoadedBullet.definition.bullet.types.contains(BulletType.WATER)) {
                 gun.world.extinguish(blockPosition, blockSide);
             } else if (ConfigSystem.settings.damage.bulletBlockBreaking.value) {
@@ -628,10 +625,10 @@ public class EntityBullet extends AEntityD_Definable<JSONBullet> {
     }
 
     public static void performGenericHitLogic(PartGun gun, int bulletNumber, Point3D position, Axis hitSide, HitType hitType) {
-        //Query up return packets first.  This ensures that we get to do this generic logic which spawns particles on clients before
-        //any block-breaking packets arrive.
+        //Queue up return hits first.  This ensures that we get to do this generic logic which spawns particles on clients before
+        //any block-breaking hits arrive.
         if (!gun.world.isClient()) {
-            InterfaceManager.packetInterface.sendToAllClients(new PacketEntityBulletHitGeneric(gun, bulletNumber, position, hitSide, hitType));
+            gun.world.getBulletHitBatch(gun).addGenericHit(bulletNumber, position, hitSide, hitType);
         }
 
         //Spawn an explosion if we are an explosive bullet on the server.
@@ -111,7 +111,7 @@ public class EntityFluidTank extends AEntityA_Base {
                 }
                 //Send off packet now that we know what fluid we will have on this tank.
                 if (!world.isClient()) {
-                    InterfaceManager.packetInterface.sendToAllClients(new PacketFluidTankChange(this, maxAmount));
+                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketFluidTankChange(this, maxAmount), this);
                 }
             }
             return maxAmount;
@@ -135,7 +135,7 @@ public class EntityFluidTank extends AEntityA_Base {
             if (doDrain) {
                 //Need to send off packet before we remove fluid due to empty tank.
                 if (!world.isClient()) {
-                    InterfaceManager.packetInterface.sendToAllClients(new PacketFluidTankChange(this, -maxAmount));
+                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketFluidTankChange(this, -maxAmount), this);
                 }
                 fluidLevel -= maxAmount;
                 if (fluidLevel == 0) {
@@ -73,7 +73,7 @@ public class EntityInventoryContainer extends AEntityA_Base implements IInventor
         cachedStackCount = getStackCount();
         cachedItemCount = getItemCount();
         if (!world.isClient()) {
-            InterfaceManager.packetInterface.sendToAllClients(new PacketInventoryContainerChange(this, index, stackToSet));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketInventoryContainerChange(this, index, stackToSet), this);
         }
     }
 
@@ -105,6 +105,12 @@ public class EntityPlacedPart extends AEntityF_Multipart<JSONDummyPartProvider>
         }
     }
 
+    @Override
+    public boolean isIdle() {
+        //Need to stay awake until we have our part and have landed on the ground, if we fall to it.
+        return super.isIdle() && currentPart != null && motion.y == 0;
+    }
+
     @Override
     public void addPart(APart part, boolean sendPacket) {
         super.addPart(part, sendPacket);
@@ -263,6 +263,12 @@ public class EntityPlayerGun extends AEntityF_Multipart<JSONDummyPartProvider> {
         return EntityAutoUpdateTime.AFTER_PLAYER;
     }
 
+    @Override
+    public boolean isIdle() {
+        //Need to follow our player at all times, so we never sleep.
+        return false;
+    }
+
     @Override
     public void removePart(APart part, boolean doFinalTick, boolean notifyClients) {
         super.removePart(part, doFinalTick, notifyClients);
@@ -73,6 +73,11 @@ public class PartEffector extends APart {
         }
     }
 
+    @Override
+    public boolean isIdle() {
+        return super.isIdle() && (!isActive || outOfHealth);
+    }
+
     @Override
     public void update() {
         super.update();
@@ -172,7 +177,7 @@ public class PartEffector extends APart {
                                             if (++blocksBroken == definition.effector.drillDurability) {
                                                 remove();
                                             } else {
-                                                InterfaceManager.packetInterface.sendToAllClients(new PacketPartEffector(this, true));
+                                                InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEffector(this, true), this);
                                             }
                                             activatedThisTick = true;
                                         } else {
@@ -298,7 +303,7 @@ public class PartEffector extends APart {
                 }
             }
             if (activatedThisTick) {
-                InterfaceManager.packetInterface.sendToAllClients(new PacketPartEffector(this, false));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEffector(this, false), this);
             }
         }
     }
@@ -195,6 +195,12 @@ public class PartEngine extends APart {
         }
     }
 
+    @Override
+    public boolean isIdle() {
+        //Engines that are still cooling down stay awake until they are near ambient, else they'd stay hot while parked.
+        return super.isIdle() && !running && rpm == 0 && starterLevel == 0 && !autoStarterEngaged && !electricStarterVar.isActive && !handStarterVar.isActive && Math.abs(temp - ambientTemp) < COLD_TEMP;
+    }
+
     @Override
     public void attack(Damage damage) {
         super.attack(damage);
@@ -205,7 +211,7 @@ public class PartEngine extends APart {
                     //Don't hand-start engines from seated players.  Lazy bums...
                     if (!masterEntity.allParts.contains(damage.entityResponsible.getEntityRiding())) {
                         handStartEngine();
-                        InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.HS_ON));
+                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.HS_ON), this);
                         return;
                     }
                 }
@@ -216,11 +222,11 @@ public class PartEngine extends APart {
                     hoursApplied *= 10;
                 }
                 hours += hoursApplied;
-                InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, hoursApplied));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, hoursApplied), this);
             }
         } else if (definition.engine.type == JSONPart.EngineType.NORMAL) {
             stallEngine(Signal.DROWN);
-            InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.DROWN));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.DROWN), this);
         }
     }
 
@@ -400,13 +406,13 @@ public class PartEngine extends APart {
                 if (!world.isClient()) {
                     if (!isActive) {
                         stallEngine(Signal.INACTIVE);
-                        InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.INACTIVE));
+                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.INACTIVE), this);
                     } else if (outOfHealth || vehicleOn.outOfHealth) {
                         stallEngine(Signal.OUT_OF_HEALTH);
-                        InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.OUT_OF_HEALTH));
+                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.OUT_OF_HEALTH), this);
                     } else if (isInvalidDimension()) {
                         stallEngine(Signal.INVALID_DIMENSION);
-                        InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.INVALID_DIMENSION));
+                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.INVALID_DIMENSION), this);
                     }
                 }
 
@@ -475,7 +481,7 @@ public class PartEngine extends APart {
                         if (hours >= 500 && !world.isClient()) {
                             if (Math.random() < (hours / 3) / (500 + (10000 - hours)) * (maxSafeRPMVar.currentValue / (rpm + maxSafeRPMVar.currentValue / 1.5))) {
                                 backfireEngine();
-                                InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.BACKFIRE));
+                                InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.BACKFIRE), this);
                             }
                         }
 
@@ -483,16 +489,16 @@ public class PartEngine extends APart {
                         if (!world.isClient()) {
                             if (isInLiquid()) {
                                 stallEngine(Signal.DROWN);
-                                InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.DROWN));
+                                InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.DROWN), this);
                             } else if (!vehicleOn.isCreative && ConfigSystem.settings.general.fuelUsageFactor.value != 0 && vehicleOn.fuelTank.getFluidLevel() == 0) {
                                 stallEngine(Signal.FUEL_OUT);
-                                InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.FUEL_OUT));
+                                InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.FUEL_OUT), this);
                             } else if (rpm < stallRPMVar.currentValue) {
                                 stallEngine(Signal.TOO_SLOW);
-                                InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.TOO_SLOW));
+                                InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.TOO_SLOW), this);
                             } else if (!isActive) {
                                 stallEngine(Signal.INACTIVE);
-                                InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.INACTIVE));
+                                InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.INACTIVE), this);
                             }
                         }
                     } else {
@@ -511,7 +517,7 @@ public class PartEngine extends APart {
                             if (vehicleOn.isCreative || ConfigSystem.settings.general.fuelUsageFactor.value == 0 || vehicleOn.fuelTank.getFluidLevel() > 0) {
                                 if (isActive && !isInLiquid() && magnetoVar.isActive) {
                                     startEngine();
-                                    InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.START));
+                                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.START), this);
                                 }
                             }
                         }
@@ -549,7 +555,7 @@ public class PartEngine extends APart {
                         if (!world.isClient()) {
                             if (!vehicleOn.isCreative && ConfigSystem.settings.general.fuelUsageFactor.value != 0 && vehicleOn.fuelTank.getFluidLevel() == 0) {
                                 stallEngine(Signal.FUEL_OUT);
-                                InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.FUEL_OUT));
+                                InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.FUEL_OUT), this);
                             }
                         }
                     } else {
@@ -558,7 +564,7 @@ public class PartEngine extends APart {
                             if (isActive && (vehicleOn.isCreative || ConfigSystem.settings.general.fuelUsageFactor.value == 0 || vehicleOn.fuelTank.getFluidLevel() > 0)) {
                                 if (magnetoVar.isActive) {
                                     startEngine();
-                                    InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.START));
+                                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.START), this);
                                 }
                             }
                         }
@@ -576,7 +582,7 @@ public class PartEngine extends APart {
                             if (isActive) {
                                 if (magnetoVar.isActive){
                                     startEngine();
-                                    InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.START));
+                                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.START), this);
                                 }
                             }
                         }
@@ -1050,10 +1056,10 @@ public class PartEngine extends APart {
                 shiftCooldown = definition.engine.shiftSpeed;
                 upshiftCountdown = definition.engine.clutchTime;
                 if (!world.isClient()) {
-                    InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.SHIFT_UP));
+                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.SHIFT_UP), this);
                 }
             } else {
-                InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.BAD_SHIFT));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.BAD_SHIFT), this);
             }
         }
         return doShift;
@@ -1081,10 +1087,10 @@ public class PartEngine extends APart {
                 shiftCooldown = definition.engine.shiftSpeed;
                 downshiftCountdown = definition.engine.clutchTime;
                 if (!world.isClient()) {
-                    InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.SHIFT_DOWN));
+                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.SHIFT_DOWN), this);
                 }
             } else {
-                InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.BAD_SHIFT));
+                InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.BAD_SHIFT), this);
             }
         }
         return doShift;
@@ -1101,7 +1107,7 @@ public class PartEngine extends APart {
                 shiftCooldown = definition.engine.shiftSpeed;
                 currentGearVar.setTo(0, false);
                 if (!world.isClient()) {
-                    InterfaceManager.packetInterface.sendToAllClients(new PacketPartEngine(this, Signal.SHIFT_NEUTRAL));
+                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartEngine(this, Signal.SHIFT_NEUTRAL), this);
                 }
             }
         }
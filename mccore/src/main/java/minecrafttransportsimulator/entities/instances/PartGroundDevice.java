@@ -110,6 +110,11 @@ public class PartGroundDevice extends APart {
         }
     }
 
+    @Override
+    public boolean isIdle() {
+        return super.isIdle() && Math.abs(angularVelocity) < 0.001 && ticksCalcsSkipped == 0;
+    }
+
     @Override
     public void update() {
         if (vehicleOn != null && !isSpare) {
@@ -311,7 +316,7 @@ public class PartGroundDevice extends APart {
                 }
             }
             //Valid conditions, send packet before continuing.
-            InterfaceManager.packetInterface.sendToAllClients(new PacketPartGroundDevice(this, setFlat));
+            InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartGroundDevice(this, setFlat), this);
         }
         flatVar.setActive(setFlat, false);
     }
@@ -282,6 +282,12 @@ public class PartGun extends APart {
         addVariable(this.twoHandedVar = new ComputedVariable(this, "isTwoHanded"));
     }
 
+    @Override
+    public boolean isIdle() {
+        //Guns can only be idle if nobody is using them and they're done with any reloading, cooldown, windup, or movement.
+        return super.isIdle() && !state.isAtLeast(GunState.CONTROLLED) && !isReloading && reloadDelayRemaining == 0 && cooldownTimeRemaining == 0 && windupTimeCurrent == 0 && activeManualBullets.isEmpty() && internalOrientation.angles.equals(prevInternalOrientation.angles);
+    }
+
     @Override
     public boolean interact(IWrapperPlayer player) {
         //Check to see if we have any bullets in our hands.
@@ -499,7 +505,7 @@ public class PartGun extends APart {
                                 if (isHandHeld) {
                                     if (!world.isClient()) {
                                         performGunKnockback();
-                                        InterfaceManager.packetInterface.sendToAllClients(new PacketPartGun(this, PacketPartGun.Request.KNOCKBACK));
+                                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartGun(this, PacketPartGun.Request.KNOCKBACK), this);
                                     } else if (InterfaceManager.clientInterface.getClientPlayer().equals(lastController)) {
                                         InterfaceManager.packetInterface.sendToServer(new PacketPartGun(this, PacketPartGun.Request.KNOCKBACK));
                                     }
@@ -520,7 +526,7 @@ public class PartGun extends APart {
                                             lastLoadedBullet = loadedBullets.get(0);
                                         } else {
                                             if (!world.isClient()) {
-                                                InterfaceManager.packetInterface.sendToAllClients(new PacketPartGun(this, PacketPartGun.Request.BULLETS_OUT));
+                                                InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartGun(this, PacketPartGun.Request.BULLETS_OUT), this);
                                             }
                                             break;
                                         }
@@ -601,7 +607,7 @@ public class PartGun extends APart {
                     reloadingBulletCount -= countToLoad;
                     firedBullets.clear();//Clear fired bullets in case we haven't used them for any animations, don't want an overflow list.
                     if (!world.isClient()) {
-                        InterfaceManager.packetInterface.sendToAllClients(new PacketPartGun(this, PacketPartGun.Request.BULLETS_PRESENT));
+                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartGun(this, PacketPartGun.Request.BULLETS_PRESENT), this);
                     }
                     if (reloadingBullets.isEmpty() && reloadEndTimeRemaining == 0) {
                         //No winddown, and no bullets left to reload, reloading ends here.
@@ -703,7 +709,7 @@ public class PartGun extends APart {
                         internalOrientation.angles.x = adjustVariable(modifier, internalOrientation.angles.x);
                         break;
                     default:
-                    	ComputedVariable variable = getOrCreateVariable(modifier.variable);
+                    	ComputedVariable variable = getOrCreateVariable(modifier.variableSlot, modifier.variable);
                     	variable.setTo(adjustVariable(modifier, variable.currentValue), false);
                         break;
                 }
@@ -818,7 +824,7 @@ public class PartGun extends APart {
                         normalizedConeVector.set(searchVector).normalize();
                         EntityVehicleF_Physics vehicleTarget = null;
                         double smallestDistance = searchVector.length();
-                        for (EntityVehicleF_Physics vehicle : world.getEntitiesOfType(EntityVehicleF_Physics.class)) {
+                        for (EntityVehicleF_Physics vehicle : world.queryRadius(startPoint, smallestDistance, EntityVehicleF_Physics.class)) {
                             //Make sure we don't lock-on to our own vehicle.  Also, ensure if we want aircraft, or ground, we only get those.
                             if (vehicle != vehicleOn && (definition.gun.targetType != TargetType.AIRCRAFT || vehicle.definition.motorized.isAircraft) && (definition.gun.targetType != TargetType.GROUND || !vehicle.definition.motorized.isAircraft)) {
                                 targetVector.set(vehicle.position).subtract(startPoint);
@@ -1050,7 +1056,7 @@ public class PartGun extends APart {
                         IWrapperItemStack bulletStack = loadedBullets.get(0).getNewStack(data);
                         clearBullets();
                         if (holdingPlayer.getInventory().addStack(bulletStack)) {
-                            InterfaceManager.packetInterface.sendToAllClients(new PacketPartGun(this, PacketPartGun.Request.CLEAR_ONCLIENT));
+                            InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartGun(this, PacketPartGun.Request.CLEAR_ONCLIENT), this);
                         } else {
                             //Can't add the clip to the player's inventory.
                             return false;
@@ -1073,7 +1079,7 @@ public class PartGun extends APart {
                     if (bulletQty + loadedBulletCount + reloadingBulletCount <= definition.gun.capacity) {
                         //Able to load, do so now (above check shouldn't matter for hand-helds since those always have capacity, but common code is common).
                         setReloadVars(bulletItem, bulletQty);
-                        InterfaceManager.packetInterface.sendToAllClients(new PacketPartGun(this, bulletItem, bulletQty));
+                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketPartGun(this, bulletItem, bulletQty), this);
                         return true;
                     }
                 }
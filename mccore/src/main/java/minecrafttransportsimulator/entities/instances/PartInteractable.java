@@ -103,7 +103,7 @@ public final class PartInteractable extends APart {
                 case CRAFTING_TABLE: {
                     player.openCraftingGUI();
                     playersInteracting.add(player);
-                    InterfaceManager.packetInterface.sendToAllClients(new PacketEntityInteractGUI(this, player, true));
+                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketEntityInteractGUI(this, player, true), this);
                     break;
                 }
                 case JERRYCAN:
@@ -123,6 +123,12 @@ public final class PartInteractable extends APart {
         return true;
     }
 
+    @Override
+    public boolean isIdle() {
+        //Crafters get their inventories changed without going through us, and linked tanks transfer fluid every tick, so both need to keep us awake.
+        return super.isIdle() && crafter == null && linkedVehicle == null && linkedPart == null && playersInteracting.isEmpty();
+    }
+
     @Override
     public LanguageEntry checkForRemoval(IWrapperPlayer player) {
         if (!definition.generic.canBeRemovedByHand && inventory != null && getMass() > definition.generic.mass) {
@@ -257,7 +263,7 @@ public final class PartInteractable extends APart {
                                         crafter.ticksFuelProvides = stack.getFurnaceFuelValue();
                                         crafter.ticksLeftOfFuel = crafter.ticksFuelProvides;
                                         crate.inventory.removeFromSlot(i, 1);
-                                        InterfaceManager.packetInterface.sendToAllClients(new PacketCrafterFuelAdd(crafter));
+                                        InterfaceManager.packetInterface.sendToTrackingClients(new PacketCrafterFuelAdd(crafter), crafter);
                                         return;
                                     }
                                 }
@@ -277,7 +283,7 @@ public final class PartInteractable extends APart {
                                 crafter.ticksFuelProvides = (int) (ConfigSystem.settings.fuel.fuels.get(EntityFurnace.FURNACE_FUEL_NAME).get(barrel.tank.getFluid()) * 20 * crafter.definition.crafterEfficiency);
                                 crafter.ticksLeftOfFuel = crafter.ticksFuelProvides;
                                 barrel.tank.drain(1, true);
-                                InterfaceManager.packetInterface.sendToAllClients(new PacketCrafterFuelAdd(crafter));
+                                InterfaceManager.packetInterface.sendToTrackingClients(new PacketCrafterFuelAdd(crafter), crafter);
                             }
                         }
                     }
@@ -292,7 +298,7 @@ public final class PartInteractable extends APart {
                     crafter.powerToDrawPerTick = 1D / ticksToDrawPower;
                     crafter.ticksFuelProvides = ticksToDrawPower;
                     crafter.ticksLeftOfFuel = crafter.ticksFuelProvides;
-                    InterfaceManager.packetInterface.sendToAllClients(new PacketCrafterFuelAdd(crafter));
+                    InterfaceManager.packetInterface.sendToTrackingClients(new PacketCrafterFuelAdd(crafter), crafter);
                 }
                 break;
             }
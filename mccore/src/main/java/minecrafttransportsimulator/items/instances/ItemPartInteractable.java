@@ -124,7 +124,7 @@ public class ItemPartInteractable extends AItemPart implements IItemEntityIntera
                                 int addedFuel = (int) (ConfigSystem.settings.fuel.fuels.get(crafter.getFuelName()).get(jerrrycanFluid) * 1000 * 20 * crafter.definition.crafterEfficiency);
                                 int priorFuel = crafter.ticksLeftOfFuel;
                                 crafter.ticksLeftOfFuel = addedFuel;
-                                InterfaceManager.packetInterface.sendToAllClients(new PacketCrafterFuelAdd(crafter));
+                                InterfaceManager.packetInterface.sendToTrackingClients(new PacketCrafterFuelAdd(crafter), crafter);
                                 crafter.ticksLeftOfFuel += priorFuel;
                                 crafter.ticksFuelProvides = crafter.ticksLeftOfFuel;
 
@@ -3,6 +3,7 @@ package minecrafttransportsimulator.jsondefs;
 import java.util.List;
 import java.util.Map;
 
+import minecrafttransportsimulator.packloading.JSONParser;
 import minecrafttransportsimulator.packloading.JSONParser.JSONDescription;
 import minecrafttransportsimulator.packloading.JSONParser.JSONRequired;
 import minecrafttransportsimulator.packloading.PackResourceLoader;
@@ -31,6 +32,13 @@ public abstract class AJSONMultiModelProvider extends AJSONItem {
     @Deprecated
     public List<String> constants;
 
+    /**
+     * Variable names referenced by this definition, indexed by slot.  Compiled at pack load by
+     * {@link JSONParser#compileVariableSlots(AJSONMultiModelProvider)}, and used by entities to
+     * look up variables by index rather than by name.  Null if this definition wasn't compiled.
+     */
+    public transient String[] variableSlots;
+
     /**
      * Returns the model location in the classpath for this definition.
      */
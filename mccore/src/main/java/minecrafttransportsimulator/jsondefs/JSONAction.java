@@ -9,6 +9,12 @@ public class JSONAction {
     @JSONDescription("The variable to perform the action on.")
     public String variable;
 
+    /**
+     * Slot for {@link #variable} in the owning definition's {@link AJSONMultiModelProvider#variableSlots}.
+     * Set when the definition is compiled at pack load, or -1 if it hasn't been.
+     */
+    public transient int variableSlot = -1;
+
     @JSONDescription("The value to use in the action.")
     public double value;
 
@@ -13,6 +13,12 @@ public class JSONAnimationDefinition {
     @JSONDescription("The variable to use in animation.")
     public String variable;
 
+    /**
+     * Slot for {@link #variable} in the owning definition's {@link AJSONMultiModelProvider#variableSlots}.
+     * Set when the definition is compiled at pack load, or -1 if it hasn't been.
+     */
+    public transient int variableSlot = -1;
+
     @JSONRequired(dependentField = "animationType", dependentValues = {"ROTATION", "SCALING"})
     @JSONDescription("The x, y, z position that this animation should be performed at.  If this is rotation, it is the rotation point.")
     public Point3D centerPoint;
@@ -43,6 +43,8 @@ public class JSONConfigSettings {
         public JSONConfigEntry<Boolean> forceRenderLastSolid = new JSONConfigEntry<>(false, "If enabled, MTS will do rendering on the world-last Forge event.  This is not normally something you want, but can be used if some mods make things invisible.  Replaymod being one such example.");
         public JSONConfigEntry<Boolean> devMode = new JSONConfigEntry<>(false, "If enabled, MTS will allow access to the dev mode GUI while sitting in vehicles.  The GUI allows editing JSONs in-game without the need to restart.");
         public JSONConfigEntry<Integer> roadMaxLength = new JSONConfigEntry<>(32, "How long a single segment of road can be, in blocks.  While you can have longer segements, be aware they have more collision boxes and will generate more lag when broken or interacted with, and may not render if outside the chunk they are in.  Must be a whole number.");
+        public JSONConfigEntry<Integer> entitySyncBytesPerTick = new JSONConfigEntry<>(65536, "How many bytes of entity data can be sent to each player every tick when they join or load new areas.  Lower values spread the data out over more ticks, which keeps players from freezing or timing out in areas with lots of vehicles.  The vehicle the player is in and the closest entities are sent first.  Must be a whole number.");
+        public JSONConfigEntry<Integer> networkStatsLogInterval = new JSONConfigEntry<>(0, "How often, in seconds, to write MTS network stats to the log.  These are the same stats shown by the '/mts netstats' command.  Setting this to 0 (default) disables logging.  Must be a whole number.");
         public JSONConfigEntry<Double> aircraftSpeedFactor = new JSONConfigEntry<>(0.35D, "Factor to apply to aircraft movement.  1 is the realistic value, but this makes vehicles move too fast for Minecraft. Adjust with caution.");
         public JSONConfigEntry<Double> carSpeedFactor = new JSONConfigEntry<>(0.35D, "Factor to apply to car movement.  1 is the realistic value, but this makes vehicles move too fast for Minecraft. Adjust with caution.");
         public JSONConfigEntry<Double> fuelUsageFactor = new JSONConfigEntry<>(1.0D, "Factor times which engines use fuel.  Change this if you think engines use fuel too fast or slow.  Setting it to 0 will disable fuel and allow engines to run without it.");
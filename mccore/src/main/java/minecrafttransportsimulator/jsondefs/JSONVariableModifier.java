@@ -11,6 +11,12 @@ public class JSONVariableModifier {
     @JSONDescription("The name of the variable to modify.  You may also modify the property values in the vehicle motorized section.  Just use the same name.")
     public String variable;
 
+    /**
+     * Slot for {@link #variable} in the owning definition's {@link AJSONMultiModelProvider#variableSlots}.
+     * Set when the definition is compiled at pack load, or -1 if it hasn't been.
+     */
+    public transient int variableSlot = -1;
+
     @JSONDescription("The value to add to the specified variable.")
     public float addValue;
 
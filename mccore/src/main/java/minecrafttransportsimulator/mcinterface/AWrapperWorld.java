@@ -1,6 +1,7 @@
 package minecrafttransportsimulator.mcinterface;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -16,10 +17,12 @@ import minecrafttransportsimulator.blocks.components.ABlockBase.Axis;
 import minecrafttransportsimulator.blocks.components.ABlockBase.BlockMaterial;
 import minecrafttransportsimulator.blocks.components.ABlockBaseTileEntity;
 import minecrafttransportsimulator.blocks.tileentities.components.ATileEntityBase;
+import minecrafttransportsimulator.collections.BlockPositionSet;
 import minecrafttransportsimulator.entities.components.AEntityA_Base;
 import minecrafttransportsimulator.entities.components.AEntityB_Existing;
 import minecrafttransportsimulator.entities.components.AEntityE_Interactable;
 import minecrafttransportsimulator.jsondefs.AJSONMultiModelProvider;
+import minecrafttransportsimulator.mcinterface.BlockCollisionCache.BlockCollisionShape;
 
 /**
  * IWrapper to a world instance.  This contains many common methods that
@@ -33,6 +36,13 @@ import minecrafttransportsimulator.jsondefs.AJSONMultiModelProvider;
  * @author don_bruce
  */
 public abstract class AWrapperWorld extends EntityManager {
+    public final BlockCollisionCache blockCollisionCache = new BlockCollisionCache();
+    private final BlockPositionSet knownAirBlocks = new BlockPositionSet();
+    private double[] sweepHitTimes = new double[16];
+    private long[] sweepHitBlocks = new long[16];
+    private final double[] sweepBoxMin = new double[3];
+    private final double[] sweepBoxMax = new double[3];
+    private final int[] sweepBlockPosition = new int[3];
 
     /**
      * Returns true if this is a client world, false if we're on the server.
@@ -251,7 +261,104 @@ public abstract class AWrapperWorld extends EntityManager {
      * collisionMotion axis.  If this value is not set, the function simply looks for a non-zero value to make the
      * collisionDepth be set for that axis.  Note that leaves are never checked in this code.
      */
-    public abstract void updateBoundingBoxCollisions(BoundingBox box, Point3D collisionMotion, boolean ignoreIfGreater);
+    public void updateBoundingBoxCollisions(BoundingBox box, Point3D collisionMotion, boolean ignoreIfGreater) {
+        double minX = box.globalCenter.x - box.widthRadius;
+        double maxX = box.globalCenter.x + box.widthRadius;
+        double minY = box.globalCenter.y - box.heightRadius;
+        double maxY = box.globalCenter.y + box.heightRadius;
+        double minZ = box.globalCenter.z - box.depthRadius;
+        double maxZ = box.globalCenter.z + box.depthRadius;
+        box.collidingBlockPositions.clear();
+        box.currentCollisionDepth.set(0D, 0D, 0D);
+        for (int i = (int) Math.floor(minX); i < Math.ceil(maxX); ++i) {
+            for (int j = (int) Math.floor(minY); j < Math.ceil(maxY); ++j) {
+                for (int k = (int) Math.floor(minZ); k < Math.ceil(maxZ); ++k) {
+                    BlockCollisionShape shape = getCollisionShape(i, j, k);
+                    if (shape != null) {
+                        boolean collided = false;
+                        if (!shape.isLeaves) {
+                            for (int boxIndex = 0; boxIndex < shape.boxes.length; boxIndex += 6) {
+                                if (shape.intersects(boxIndex, i, j, k, minX, minY, minZ, maxX, maxY, maxZ)) {
+                                    addCollisionDepth(box, collisionMotion, minX, minY, minZ, maxX, maxY, maxZ, i + shape.boxes[boxIndex], j + shape.boxes[boxIndex + 1], k + shape.boxes[boxIndex + 2], i + shape.boxes[boxIndex + 3], j + shape.boxes[boxIndex + 4], k + shape.boxes[boxIndex + 5]);
+                                    collided = true;
+                                }
+                            }
+                        }
+                        if (box.collidesWithLiquids && shape.isLiquid) {
+                            addCollisionDepth(box, collisionMotion, minX, minY, minZ, maxX, maxY, maxZ, i, j, k, i + 1, j + 1, k + 1);
+                            collided = true;
+                        }
+                        if (collided) {
+                            box.collidingBlockPositions.add(i, j, k);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (ignoreIfGreater) {
+            if (collisionMotion.x > 0 && box.currentCollisionDepth.x > collisionMotion.x) {
+                box.currentCollisionDepth.x = collisionMotion.x;
+            } else if (collisionMotion.x < 0 && box.currentCollisionDepth.x < collisionMotion.x) {
+                box.currentCollisionDepth.x = collisionMotion.x;
+            }
+            if (collisionMotion.y > 0 && box.currentCollisionDepth.y > collisionMotion.y) {
+                box.currentCollisionDepth.y = collisionMotion.y;
+            } else if (collisionMotion.y < 0 && box.currentCollisionDepth.y < collisionMotion.y) {
+                box.currentCollisionDepth.y = collisionMotion.y;
+            }
+            if (collisionMotion.z > 0 && box.currentCollisionDepth.z > collisionMotion.z) {
+                box.currentCollisionDepth.z = collisionMotion.z;
+            } else if (collisionMotion.z < 0 && box.currentCollisionDepth.z < collisionMotion.z) {
+                box.currentCollisionDepth.z = collisionMotion.z;
+            }
+        }
+
+        if (box.currentCollisionDepth.isZero()) {
+            box.collidingBlockPositions.clear();
+        }
+    }
+
+    /**
+     * Helper method for {@link #updateBoundingBoxCollisions(BoundingBox, Point3D, boolean)}.  If the box is in the
+     * depth bounds for the collision with the block box, sets it as the collision depth.
+     */
+    private static void addCollisionDepth(BoundingBox box, Point3D collisionMotion, double minX, double minY, double minZ, double maxX, double maxY, double maxZ, double blockMinX, double blockMinY, double blockMinZ, double blockMaxX, double blockMaxY, double blockMaxZ) {
+        double boxCollisionDepth;
+        if (collisionMotion.x > 0) {
+            boxCollisionDepth = maxX - blockMinX;
+            if (box.currentCollisionDepth.x < boxCollisionDepth) {
+                box.currentCollisionDepth.x = boxCollisionDepth;
+            }
+        } else if (collisionMotion.x < 0) {
+            boxCollisionDepth = -(blockMaxX - minX);
+            if (box.currentCollisionDepth.x > boxCollisionDepth) {
+                box.currentCollisionDepth.x = boxCollisionDepth;
+            }
+        }
+        if (collisionMotion.y > 0) {
+            boxCollisionDepth = maxY - blockMinY;
+            if (box.currentCollisionDepth.y < boxCollisionDepth) {
+                box.currentCollisionDepth.y = boxCollisionDepth;
+            }
+        } else if (collisionMotion.y < 0) {
+            boxCollisionDepth = -(blockMaxY - minY);
+            if (box.currentCollisionDepth.y > boxCollisionDepth) {
+                box.currentCollisionDepth.y = boxCollisionDepth;
+            }
+        }
+        if (collisionMotion.z > 0) {
+            boxCollisionDepth = maxZ - blockMinZ;
+            if (box.currentCollisionDepth.z < boxCollisionDepth) {
+                box.currentCollisionDepth.z = boxCollisionDepth;
+            }
+        } else if (collisionMotion.z < 0) {
+            boxCollisionDepth = -(blockMaxZ - minZ);
+            if (box.currentCollisionDepth.z > boxCollisionDepth) {
+                box.currentCollisionDepth.z = boxCollisionDepth;
+            }
+        }
+    }
 
     /**
      * Checks the passed-in bounding box for collisions with other blocks.  Returns true if they collided,
@@ -259,7 +366,269 @@ public abstract class AWrapperWorld extends EntityManager {
      * it stores a listing of known air blocks.  If a block has been checked before and is air, it is ignored.
      * To reset this list, pass in clearCache.  Note that leaves are ignored, but can be broken if requested.
      */
-    public abstract boolean checkForCollisions(BoundingBox box, Point3D offset, boolean clearCache, boolean breakLeaves);
+    public boolean checkForCollisions(BoundingBox box, Point3D offset, boolean clearCache, boolean breakLeaves) {
+        if (clearCache) {
+            knownAirBlocks.clear();
+        }
+        double minX = offset.x + box.globalCenter.x - box.widthRadius;
+        double maxX = offset.x + box.globalCenter.x + box.widthRadius;
+        double minY = offset.y + box.globalCenter.y - box.heightRadius;
+        double maxY = offset.y + box.globalCenter.y + box.heightRadius;
+        double minZ = offset.z + box.globalCenter.z - box.depthRadius;
+        double maxZ = offset.z + box.globalCenter.z + box.depthRadius;
+        for (int i = (int) Math.floor(minX); i < Math.ceil(maxX); ++i) {
+            for (int j = (int) Math.floor(minY); j < Math.ceil(maxY); ++j) {
+                for (int k = (int) Math.floor(minZ); k < Math.ceil(maxZ); ++k) {
+                    long key = BlockPositionSet.getKey(i, j, k);
+                    if (!knownAirBlocks.contains(key)) {
+                        BlockCollisionShape shape = getCollisionShape(i, j, k);
+                        if (shape != null) {
+                            if (!shape.isLeaves) {
+                                if (shape.intersects(i, j, k, minX, minY, minZ, maxX, maxY, maxZ)) {
+                                    return true;
+                                } else if (box.collidesWithLiquids && shape.isLiquid) {
+                                    //Liquids are always full blocks, and we know this block is in our bounds.
+                                    return true;
+                                } else if (shape.isEmpty() && !shape.isLiquid) {
+                                    //Only blocks with no shape at all are air to every box.  A shape that misses
+                                    //this box may hit the next one, and liquids still matter to liquid boxes.
+                                    knownAirBlocks.add(key);
+                                }
+                            } else if (breakLeaves) {
+                                destroyBlock(new Point3D(i, j, k), false);
+                                blockCollisionCache.invalidate(i, j, k);
+                            } else {
+                                knownAirBlocks.add(key);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Swept version of {@link #updateBoundingBoxCollisions(BoundingBox, Point3D, boolean)}.  Rather than only checking
+     * the blocks at the end of the motion, this checks every block the box passes through while moving, so fast boxes
+     * can't skip over blocks.  The box's collidingBlockPositions are set to all blocks hit, in the order they are hit.
+     * Blocks the box already overlaps are hit right away.  Leaves and liquids don't block movement, so they are ignored.
+     * Returns true if any blocks were hit.
+     */
+    public boolean sweepBoundingBoxCollisions(BoundingBox box, Point3D motion) {
+        double minX = box.globalCenter.x - box.widthRadius;
+        double maxX = box.globalCenter.x + box.widthRadius;
+        double minY = box.globalCenter.y - box.heightRadius;
+        double maxY = box.globalCenter.y + box.heightRadius;
+        double minZ = box.globalCenter.z - box.depthRadius;
+        double maxZ = box.globalCenter.z + box.depthRadius;
+        box.collidingBlockPositions.clear();
+        int hitCount = 0;
+        for (int i = (int) Math.floor(minX + Math.min(motion.x, 0)); i < Math.ceil(maxX + Math.max(motion.x, 0)); ++i) {
+            for (int j = (int) Math.floor(minY + Math.min(motion.y, 0)); j < Math.ceil(maxY + Math.max(motion.y, 0)); ++j) {
+                for (int k = (int) Math.floor(minZ + Math.min(motion.z, 0)); k < Math.ceil(maxZ + Math.max(motion.z, 0)); ++k) {
+                    BlockCollisionShape shape = getCollisionShape(i, j, k);
+                    if (shape != null && !shape.isLeaves) {
+                        double hitTime = Double.MAX_VALUE;
+                        for (int boxIndex = 0; boxIndex < shape.boxes.length; boxIndex += 6) {
+                            hitTime = Math.min(hitTime, getImpactTime(minX, minY, minZ, maxX, maxY, maxZ, motion, i + shape.boxes[boxIndex], j + shape.boxes[boxIndex + 1], k + shape.boxes[boxIndex + 2], i + shape.boxes[boxIndex + 3], j + shape.boxes[boxIndex + 4], k + shape.boxes[boxIndex + 5]));
+                        }
+                        if (hitTime <= 1) {
+                            //Insert in order of impact time, so the first block hit comes first.
+                            if (hitCount == sweepHitTimes.length) {
+                                sweepHitTimes = Arrays.copyOf(sweepHitTimes, hitCount * 2);
+                                sweepHitBlocks = Arrays.copyOf(sweepHitBlocks, hitCount * 2);
+                            }
+                            int index = hitCount++;
+                            while (index > 0 && sweepHitTimes[index - 1] > hitTime) {
+                                sweepHitTimes[index] = sweepHitTimes[index - 1];
+                                sweepHitBlocks[index] = sweepHitBlocks[index - 1];
+                                --index;
+                            }
+                            sweepHitTimes[index] = hitTime;
+                            sweepHitBlocks[index] = BlockPositionSet.getKey(i, j, k);
+                        }
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < hitCount; ++i) {
+            box.collidingBlockPositions.add(sweepHitBlocks[i]);
+        }
+        return hitCount > 0;
+    }
+
+    /**
+     * Helper method for {@link #sweepBoundingBoxCollisions(BoundingBox, Point3D)}.  Returns the fraction of the motion at which
+     * the box starts to overlap the block box, or {@link Double#MAX_VALUE} if it never does.  Boxes that already overlap return 0.
+     * Boxes that only touch don't count as overlapping, so boxes resting on blocks can slide along them.
+     */
+    private static double getImpactTime(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, Point3D motion, double blockMinX, double blockMinY, double blockMinZ, double blockMaxX, double blockMaxY, double blockMaxZ) {
+        double entryTime = -Double.MAX_VALUE;
+        double exitTime = Double.MAX_VALUE;
+        if (motion.x == 0) {
+            if (minX >= blockMaxX || maxX <= blockMinX) {
+                return Double.MAX_VALUE;
+            }
+        } else {
+            double firstTime = (blockMinX - maxX) / motion.x;
+            double secondTime = (blockMaxX - minX) / motion.x;
+            entryTime = Math.max(entryTime, Math.min(firstTime, secondTime));
+            exitTime = Math.min(exitTime, Math.max(firstTime, secondTime));
+        }
+        if (motion.y == 0) {
+            if (minY >= blockMaxY || maxY <= blockMinY) {
+                return Double.MAX_VALUE;
+            }
+        } else {
+            double firstTime = (blockMinY - maxY) / motion.y;
+            double secondTime = (blockMaxY - minY) / motion.y;
+            entryTime = Math.max(entryTime, Math.min(firstTime, secondTime));
+            exitTime = Math.min(exitTime, Math.max(firstTime, secondTime));
+        }
+        if (motion.z == 0) {
+            if (minZ >= blockMaxZ || maxZ <= blockMinZ) {
+                return Double.MAX_VALUE;
+            }
+        } else {
+            double firstTime = (blockMinZ - maxZ) / motion.z;
+            double secondTime = (blockMaxZ - minZ) / motion.z;
+            entryTime = Math.max(entryTime, Math.min(firstTime, secondTime));
+            exitTime = Math.min(exitTime, Math.max(firstTime, secondTime));
+        }
+        return entryTime < exitTime && entryTime <= 1 && exitTime > 0 ? Math.max(entryTime, 0) : Double.MAX_VALUE;
+    }
+
+    /**
+     * Reduces the passed-in motion so that none of the passed-in boxes move into blocks.  The motion is swept one axis at a
+     * time for all boxes, always in Y, X, Z order, with each axis starting where the prior ones stopped.  This is the same
+     * order MC uses for entities, and keeps results stable between ticks.  Blocks the boxes already overlap only stop motion
+     * that would push further into them, so boxes can always move back out.  Blocks with keys from
+     * in the ignored set are skipped, which lets callers pass through blocks
+     * they are breaking.  Leaves and liquids don't block movement, so they are ignored.
+     * <br><br>
+     * The motion each box removed is set as that box's currentCollisionDepth, so the sign on each axis is the face that was blocked.
+     * Returns true if the motion was reduced.
+     */
+    public boolean clampMotionForCollisions(List<BoundingBox> boxes, Point3D motion, BlockPositionSet ignoredBlocks) {
+        boolean clamped = false;
+        for (BoundingBox box : boxes) {
+            box.currentCollisionDepth.set(0D, 0D, 0D);
+        }
+        if (motion.y != 0) {
+            double allowedMotion = motion.y;
+            for (BoundingBox box : boxes) {
+                double boxMotion = getAllowedMotion(box, 1, motion.y, 0, 0, 0, ignoredBlocks);
+                box.currentCollisionDepth.y = motion.y - boxMotion;
+                allowedMotion = motion.y > 0 ? Math.min(allowedMotion, boxMotion) : Math.max(allowedMotion, boxMotion);
+            }
+            clamped |= allowedMotion != motion.y;
+            motion.y = allowedMotion;
+        }
+        if (motion.x != 0) {
+            double allowedMotion = motion.x;
+            for (BoundingBox box : boxes) {
+                double boxMotion = getAllowedMotion(box, 0, motion.x, 0, motion.y, 0, ignoredBlocks);
+                box.currentCollisionDepth.x = motion.x - boxMotion;
+                allowedMotion = motion.x > 0 ? Math.min(allowedMotion, boxMotion) : Math.max(allowedMotion, boxMotion);
+            }
+            clamped |= allowedMotion != motion.x;
+            motion.x = allowedMotion;
+        }
+        if (motion.z != 0) {
+            double allowedMotion = motion.z;
+            for (BoundingBox box : boxes) {
+                double boxMotion = getAllowedMotion(box, 2, motion.z, motion.x, motion.y, 0, ignoredBlocks);
+                box.currentCollisionDepth.z = motion.z - boxMotion;
+                allowedMotion = motion.z > 0 ? Math.min(allowedMotion, boxMotion) : Math.max(allowedMotion, boxMotion);
+            }
+            clamped |= allowedMotion != motion.z;
+            motion.z = allowedMotion;
+        }
+        return clamped;
+    }
+
+    /**
+     * Helper method for {@link #clampMotionForCollisions(List, Point3D, BlockPositionSet)}.  Returns how far the box, offset by the passed-in
+     * amounts, can move along the axis (0 for X, 1 for Y, 2 for Z) before it hits a block.
+     */
+    private double getAllowedMotion(BoundingBox box, int axis, double axisMotion, double offsetX, double offsetY, double offsetZ, BlockPositionSet ignoredBlocks) {
+        sweepBoxMin[0] = box.globalCenter.x - box.widthRadius + offsetX;
+        sweepBoxMin[1] = box.globalCenter.y - box.heightRadius + offsetY;
+        sweepBoxMin[2] = box.globalCenter.z - box.depthRadius + offsetZ;
+        sweepBoxMax[0] = box.globalCenter.x + box.widthRadius + offsetX;
+        sweepBoxMax[1] = box.globalCenter.y + box.heightRadius + offsetY;
+        sweepBoxMax[2] = box.globalCenter.z + box.depthRadius + offsetZ;
+        int firstAxis = axis == 0 ? 1 : 0;
+        int secondAxis = axis == 2 ? 1 : 2;
+        double boxMin = sweepBoxMin[axis];
+        double boxMax = sweepBoxMax[axis];
+        double allowedMotion = axisMotion;
+
+        //Check all blocks in the box's path on the axis.
+        int minI = (int) Math.floor(sweepBoxMin[0] + (axis == 0 ? Math.min(axisMotion, 0) : 0));
+        int maxI = (int) Math.ceil(sweepBoxMax[0] + (axis == 0 ? Math.max(axisMotion, 0) : 0));
+        int minJ = (int) Math.floor(sweepBoxMin[1] + (axis == 1 ? Math.min(axisMotion, 0) : 0));
+        int maxJ = (int) Math.ceil(sweepBoxMax[1] + (axis == 1 ? Math.max(axisMotion, 0) : 0));
+        int minK = (int) Math.floor(sweepBoxMin[2] + (axis == 2 ? Math.min(axisMotion, 0) : 0));
+        int maxK = (int) Math.ceil(sweepBoxMax[2] + (axis == 2 ? Math.max(axisMotion, 0) : 0));
+        for (int i = minI; i < maxI; ++i) {
+            for (int j = minJ; j < maxJ; ++j) {
+                for (int k = minK; k < maxK; ++k) {
+                    BlockCollisionShape shape = getCollisionShape(i, j, k);
+                    if (shape != null && !shape.isLeaves && !shape.isEmpty() && (ignoredBlocks.isEmpty() || !ignoredBlocks.contains(i, j, k))) {
+                        sweepBlockPosition[0] = i;
+                        sweepBlockPosition[1] = j;
+                        sweepBlockPosition[2] = k;
+                        for (int boxIndex = 0; boxIndex < shape.boxes.length; boxIndex += 6) {
+                            //Block box has to overlap on the other two axes to be in the way.
+                            if (sweepBoxMin[firstAxis] < sweepBlockPosition[firstAxis] + shape.boxes[boxIndex + 3 + firstAxis] && sweepBoxMax[firstAxis] > sweepBlockPosition[firstAxis] + shape.boxes[boxIndex + firstAxis] && sweepBoxMin[secondAxis] < sweepBlockPosition[secondAxis] + shape.boxes[boxIndex + 3 + secondAxis] && sweepBoxMax[secondAxis] > sweepBlockPosition[secondAxis] + shape.boxes[boxIndex + secondAxis]) {
+                                double blockMin = sweepBlockPosition[axis] + shape.boxes[boxIndex + axis];
+                                double blockMax = sweepBlockPosition[axis] + shape.boxes[boxIndex + 3 + axis];
+                                if (axisMotion > 0 && blockMax > boxMax) {
+                                    allowedMotion = Math.min(allowedMotion, Math.max(blockMin - boxMax, 0));
+                                } else if (axisMotion < 0 && blockMin < boxMin) {
+                                    allowedMotion = Math.max(allowedMotion, Math.min(blockMax - boxMin, 0));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return allowedMotion;
+    }
+
+    /**
+     * Called by the interface when the block at the passed-in position changes.  Clears the cached collision
+     * shape for it, and wakes any sleeping entities next to it in case they need to move.
+     */
+    public void onBlockChanged(int x, int y, int z) {
+        blockCollisionCache.invalidate(x, y, z);
+        wakeEntitiesNearBlock(x, y, z);
+    }
+
+    /**
+     * Returns the collision shape of the block at the passed-in position, using the {@link #blockCollisionCache} if possible.
+     * Returns null if the block isn't loaded.
+     */
+    private BlockCollisionShape getCollisionShape(int x, int y, int z) {
+        BlockCollisionShape shape = blockCollisionCache.get(x, y, z);
+        if (shape == null) {
+            shape = loadCollisionShape(x, y, z);
+            if (shape != null) {
+                blockCollisionCache.put(x, y, z, shape);
+            }
+        }
+        return shape;
+    }
+
+    /**
+     * Gets the collision shape of the block at the passed-in position from the world.  This should
+     * return null if the block isn't loaded.  Shapes are cached by the caller, so this is only
+     * called once per block per tick unless the block changes.
+     */
+    protected abstract BlockCollisionShape loadCollisionShape(int x, int y, int z);
 
     /**
      * Returns the current redstone power at the passed-in position.
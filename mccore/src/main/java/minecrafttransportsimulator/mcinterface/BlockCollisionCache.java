@@ -0,0 +1,120 @@
+package minecrafttransportsimulator.mcinterface;
+
+import minecrafttransportsimulator.collections.BlockPositionMap;
+
+/**
+ * Cache of block collision shapes for a world.  Getting a block's collision shape from MC requires looking up
+ * the chunk, the block state, and then making the shape, which adds up fast when every collision box on every
+ * vehicle checks every block it overlaps multiple times a tick.  This cache lets all those checks share the work.
+ * Shapes are keyed by their block position, and are only valid for the current tick, so the cache is
+ * cleared by the world at the start of every tick.  Blocks that change mid-tick must be invalidated by the world.
+ *
+ * @author don_bruce
+ */
+public class BlockCollisionCache {
+    private final BlockPositionMap<BlockCollisionShape> shapes = new BlockPositionMap<>();
+
+    /**
+     * Returns the cached shape for the block, or null if it isn't cached.
+     */
+    public BlockCollisionShape get(int x, int y, int z) {
+        return shapes.get(x, y, z);
+    }
+
+    /**
+     * Caches the shape for the block.
+     */
+    public void put(int x, int y, int z, BlockCollisionShape shape) {
+        shapes.put(x, y, z, shape);
+    }
+
+    /**
+     * Removes the block from the cache.  Neighbors are removed as well, as some blocks,
+     * like fences and walls, change their shape based on the blocks next to them.
+     */
+    public void invalidate(int x, int y, int z) {
+        if (!shapes.isEmpty()) {
+            shapes.remove(x, y, z);
+            shapes.remove(x + 1, y, z);
+            shapes.remove(x - 1, y, z);
+            shapes.remove(x, y + 1, z);
+            shapes.remove(x, y - 1, z);
+            shapes.remove(x, y, z + 1);
+            shapes.remove(x, y, z - 1);
+        }
+    }
+
+    /**
+     * Clears the cache.  Called at the start of every tick.
+     */
+    public void clear() {
+        shapes.clear();
+    }
+
+    /**
+     * Collision shape of a block.  The shape is made of boxes, which are stored in a single array
+     * as minX, minY, minZ, maxX, maxY, maxZ for each box, relative to the block's position.
+     * As the boxes are relative, blocks with the same shape can share the same object, which
+     * the common shapes do via the constants in this class.
+     */
+    public static class BlockCollisionShape {
+        public static final double[] NO_BOXES = new double[0];
+        public static final double[] FULL_CUBE_BOXES = new double[] { 0, 0, 0, 1, 1, 1 };
+        public static final BlockCollisionShape EMPTY = new BlockCollisionShape(NO_BOXES, false, false);
+        public static final BlockCollisionShape FULL_CUBE = new BlockCollisionShape(FULL_CUBE_BOXES, false, false);
+        public static final BlockCollisionShape LIQUID = new BlockCollisionShape(NO_BOXES, false, true);
+
+        public final double[] boxes;
+        public final boolean isLeaves;
+        public final boolean isLiquid;
+
+        private BlockCollisionShape(double[] boxes, boolean isLeaves, boolean isLiquid) {
+            this.boxes = boxes;
+            this.isLeaves = isLeaves;
+            this.isLiquid = isLiquid;
+        }
+
+        /**
+         * Returns a shape with the passed-in boxes and properties.  The common shapes are
+         * returned as their constants, so this only makes a new object for uncommon blocks.
+         */
+        public static BlockCollisionShape create(double[] boxes, boolean isLeaves, boolean isLiquid) {
+            if (!isLeaves) {
+                if (boxes.length == 0) {
+                    return isLiquid ? LIQUID : EMPTY;
+                } else if (!isLiquid && boxes.length == 6 && boxes[0] == 0 && boxes[1] == 0 && boxes[2] == 0 && boxes[3] == 1 && boxes[4] == 1 && boxes[5] == 1) {
+                    return FULL_CUBE;
+                }
+            }
+            return new BlockCollisionShape(boxes, isLeaves, isLiquid);
+        }
+
+        /**
+         * Returns true if this shape has no boxes.
+         */
+        public boolean isEmpty() {
+            return boxes.length == 0;
+        }
+
+        /**
+         * Returns true if any box of this shape, when placed at the block position, overlaps the passed-in bounds.
+         * Boxes that only touch the bounds don't count as overlapping.
+         */
+        public boolean intersects(int x, int y, int z, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+            for (int i = 0; i < boxes.length; i += 6) {
+                if (intersects(i, x, y, z, minX, minY, minZ, maxX, maxY, maxZ)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Like {@link #intersects(int, int, int, double, double, double, double, double, double)}, but only for the box
+         * starting at the passed-in array index.
+         */
+        public boolean intersects(int boxIndex, int x, int y, int z, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+            return minX < x + boxes[boxIndex + 3] && maxX > x + boxes[boxIndex] && minY < y + boxes[boxIndex + 4] && maxY > y + boxes[boxIndex + 1] && minZ < z + boxes[boxIndex + 5] && maxZ > z + boxes[boxIndex + 2];
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package minecrafttransportsimulator.mcinterface;
 
+import java.util.List;
+import java.util.function.Function;
+
 import io.netty.buffer.ByteBuf;
+import minecrafttransportsimulator.entities.components.AEntityA_Base;
 import minecrafttransportsimulator.packets.components.APacketBase;
 
 /**
@@ -15,9 +19,10 @@ import minecrafttransportsimulator.packets.components.APacketBase;
 public interface IInterfacePacket {
 
     /**
-     * Registers the passed-in packet with the interface.
+     * Registers the passed-in packet with the interface.  The factory is used to create the
+     * packet from the buffer when it arrives, and should just be the packet's buffer constructor.
      */
-    void registerPacket(byte packetIndex, Class<? extends APacketBase> packetClass);
+    void registerPacket(byte packetIndex, Class<? extends APacketBase> packetClass, Function<ByteBuf, APacketBase> packetFactory);
 
     /**
      * Gets the index for the passed-in packet from the mapping.
@@ -31,9 +36,35 @@ public interface IInterfacePacket {
 
     /**
      * Sends the passed-in packet to all clients.
+     * For packets about a specific entity, use {@link #sendToTrackingClients(APacketBase, AEntityA_Base)}.
      */
     void sendToAllClients(APacketBase packet);
 
+    /**
+     * Sends the passed-in packet to all clients in the passed-in world.
+     * Used for packets that cover many entities in the world at once.
+     * Note that this may ONLY be called on the server.
+     */
+    void sendToAllClientsInWorld(APacketBase packet, AWrapperWorld world);
+
+    /**
+     * Sends the passed-in packet to all clients that are tracking the passed-in entity.
+     * For entities with a position, these are the clients that have the chunk the entity
+     * is in loaded.  For entities without one, like inventories, these are all clients in
+     * the entity's world.  This should be used for all entity packets, as clients that aren't
+     * tracking the entity don't have it and will just discard the packet.
+     * Note that this may ONLY be called on the server.
+     */
+    void sendToTrackingClients(APacketBase packet, AEntityA_Base entity);
+
+    /**
+     * Returns a new, mutable list of all players that are tracking the passed-in entity.  These are the
+     * players that would get a packet sent via {@link #sendToTrackingClients(APacketBase, AEntityA_Base)}.
+     * Used to build per-player packets for data that's sent for many entities at once.
+     * Note that this may ONLY be called on the server.
+     */
+    List<IWrapperPlayer> getTrackingPlayers(AEntityA_Base entity);
+
     /**
      * Sends the passed-in packet to the passed-in player.
      * Note that this may ONLY be called on the server, as
@@ -41,6 +72,13 @@ public interface IInterfacePacket {
      */
     void sendToPlayer(APacketBase packet, IWrapperPlayer player);
 
+    /**
+     * Reads a packet from the buffer.  The first byte is the packet index, the rest is the packet's data.
+     * This is what is used to read packets that arrive over the network, and is provided here for packets
+     * that contain other packets.
+     */
+    APacketBase readPacketFromBuffer(ByteBuf buf);
+
     /**
      * Helper method to write NBT data to the buffer.
      * Note: there is a limit to the size of an NBT tag.
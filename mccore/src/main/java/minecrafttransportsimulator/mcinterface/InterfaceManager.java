@@ -21,6 +21,7 @@ public class InterfaceManager {
     public static String gameDirectory;
     public static IInterfaceCore coreInterface;
     public static IInterfacePacket packetInterface;
+    public static PacketBundler packetBundler;
     public static IInterfaceClient clientInterface;
     public static IInterfaceInput inputInterface;
     public static IInterfaceSound soundInterface;
@@ -30,7 +31,8 @@ public class InterfaceManager {
         InterfaceManager.coreModID = coreModID;
         InterfaceManager.gameDirectory = gameDirectory;
         InterfaceManager.coreInterface = coreInterface;
-        InterfaceManager.packetInterface = packetInterface;
+        InterfaceManager.packetBundler = new PacketBundler(packetInterface);
+        InterfaceManager.packetInterface = packetBundler;
         InterfaceManager.clientInterface = clientInterface;
         InterfaceManager.inputInterface = inputInterface;
         InterfaceManager.soundInterface = soundInterface;
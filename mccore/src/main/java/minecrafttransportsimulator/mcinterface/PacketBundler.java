@@ -0,0 +1,204 @@
+package minecrafttransportsimulator.mcinterface;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import io.netty.buffer.ByteBuf;
+import minecrafttransportsimulator.entities.components.AEntityA_Base;
+import minecrafttransportsimulator.packets.components.APacketBase;
+import minecrafttransportsimulator.packets.instances.PacketBundle;
+import minecrafttransportsimulator.packets.instances.PacketChunk;
+
+/**
+ * Packet interface that sits in front of the real one and bundles packets.  Rather than sending
+ * each packet as it comes in, packets are held until the end of the tick, and then packets sent in a row
+ * to the same destination are sent as one {@link PacketBundle}.  Entities tend to send a lot of
+ * packets at once, so this saves a lot of network overhead.  Packets are only ever added to the newest
+ * bundle, since destinations can overlap, and adding to an older one would let packets arrive before
+ * packets that were sent ahead of them.  Packets that return false for
+ * {@link APacketBase#shouldBundle()} are sent right away, after sending anything already held so
+ * that packets still arrive in the order they were sent.  Those that return true for {@link APacketBase#shouldChunk()}
+ * are also split into {@link PacketChunk}s here if they are too large.  All other calls are passed through.
+ *
+ * @author don_bruce
+ */
+public class PacketBundler implements IInterfacePacket {
+    /**Max packets in a bundle.  Past this, the bundle is sent and a new one started.**/
+    private static final int MAX_BUNDLE_SIZE = 32;
+
+    private final IInterfacePacket packetInterface;
+    private final List<PendingBundle> serverBundles = new ArrayList<>();
+    private final List<APacketBase> clientBundle = new ArrayList<>();
+
+    public PacketBundler(IInterfacePacket packetInterface) {
+        this.packetInterface = packetInterface;
+    }
+
+    /**
+     * Sends all held packets.  Called at the end of every tick.  Clients only send to the server, and
+     * servers only send to clients, so this only needs to send the ones for the side that is ticking.
+     */
+    public void flush(boolean onClient) {
+        if (onClient) {
+            synchronized (clientBundle) {
+                flushClientBundle();
+            }
+        } else {
+            synchronized (serverBundles) {
+                flushServerBundles();
+            }
+        }
+    }
+
+    @Override
+    public void registerPacket(byte packetIndex, Class<? extends APacketBase> packetClass, Function<ByteBuf, APacketBase> packetFactory) {
+        packetInterface.registerPacket(packetIndex, packetClass, packetFactory);
+    }
+
+    @Override
+    public byte getPacketIndex(APacketBase packet) {
+        return packetInterface.getPacketIndex(packet);
+    }
+
+    @Override
+    public void sendToServer(APacketBase packet) {
+        synchronized (clientBundle) {
+            if (packet.shouldBundle()) {
+                clientBundle.add(packet);
+                if (clientBundle.size() == MAX_BUNDLE_SIZE) {
+                    flushClientBundle();
+                }
+            } else {
+                flushClientBundle();
+                packetInterface.sendToServer(packet);
+            }
+        }
+    }
+
+    @Override
+    public void sendToAllClients(APacketBase packet) {
+        queueServerPacket(packet, BundleDestination.ALL, this, null);
+    }
+
+    @Override
+    public void sendToAllClientsInWorld(APacketBase packet, AWrapperWorld world) {
+        queueServerPacket(packet, BundleDestination.WORLD, world, world);
+    }
+
+    @Override
+    public void sendToTrackingClients(APacketBase packet, AEntityA_Base entity) {
+        queueServerPacket(packet, BundleDestination.TRACKING, entity, entity);
+    }
+
+    @Override
+    public List<IWrapperPlayer> getTrackingPlayers(AEntityA_Base entity) {
+        return packetInterface.getTrackingPlayers(entity);
+    }
+
+    @Override
+    public void sendToPlayer(APacketBase packet, IWrapperPlayer player) {
+        queueServerPacket(packet, BundleDestination.PLAYER, player, player);
+    }
+
+    @Override
+    public APacketBase readPacketFromBuffer(ByteBuf buf) {
+        return packetInterface.readPacketFromBuffer(buf);
+    }
+
+    @Override
+    public void writeDataToBuffer(IWrapperNBT data, ByteBuf buf) {
+        packetInterface.writeDataToBuffer(data, buf);
+    }
+
+    @Override
+    public IWrapperNBT readDataFromBuffer(ByteBuf buf) {
+        return packetInterface.readDataFromBuffer(buf);
+    }
+
+    private void queueServerPacket(APacketBase packet, BundleDestination destination, Object key, Object target) {
+        synchronized (serverBundles) {
+            if (packet.shouldBundle()) {
+                PendingBundle bundle = serverBundles.isEmpty() ? null : serverBundles.get(serverBundles.size() - 1);
+                if (bundle == null || !bundle.key.equals(key)) {
+                    bundle = new PendingBundle(destination, key, target);
+                    serverBundles.add(bundle);
+                }
+                bundle.packets.add(packet);
+                if (bundle.packets.size() == MAX_BUNDLE_SIZE) {
+                    //This is the newest bundle, so send everything to keep the older ones ahead of it.
+                    flushServerBundles();
+                }
+            } else {
+                flushServerBundles();
+                sendServerPacket(packet, destination, target);
+            }
+        }
+    }
+
+    private void flushClientBundle() {
+        if (clientBundle.size() == 1) {
+            packetInterface.sendToServer(clientBundle.get(0));
+        } else if (!clientBundle.isEmpty()) {
+            packetInterface.sendToServer(new PacketBundle(new ArrayList<>(clientBundle)));
+        }
+        clientBundle.clear();
+    }
+
+    private void flushServerBundles() {
+        for (PendingBundle bundle : serverBundles) {
+            sendBundle(bundle);
+        }
+        serverBundles.clear();
+    }
+
+    private void sendBundle(PendingBundle bundle) {
+        sendServerPacket(bundle.packets.size() == 1 ? bundle.packets.get(0) : new PacketBundle(bundle.packets), bundle.destination, bundle.target);
+    }
+
+    private void sendServerPacket(APacketBase packet, BundleDestination destination, Object target) {
+        if (packet.shouldChunk()) {
+            List<PacketChunk> chunks = PacketChunk.split(packet);
+            if (chunks != null) {
+                for (PacketChunk chunk : chunks) {
+                    sendServerPacket(chunk, destination, target);
+                }
+                return;
+            }
+        }
+        switch (destination) {
+            case ALL:
+                packetInterface.sendToAllClients(packet);
+                break;
+            case WORLD:
+                packetInterface.sendToAllClientsInWorld(packet, (AWrapperWorld) target);
+                break;
+            case TRACKING:
+                packetInterface.sendToTrackingClients(packet, (AEntityA_Base) target);
+                break;
+            case PLAYER:
+                packetInterface.sendToPlayer(packet, (IWrapperPlayer) target);
+                break;
+        }
+    }
+
+    private static enum BundleDestination {
+        ALL,
+        WORLD,
+        TRACKING,
+        PLAYER;
+    }
+
+    private static class PendingBundle {
+        private final BundleDestination destination;
+        private final Object key;
+        private final Object target;
+        private final List<APacketBase> packets = new ArrayList<>();
+
+        private PendingBundle(BundleDestination destination, Object key, Object target) {
+            this.destination = destination;
+            this.key = key;
+            this.target = target;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package minecrafttransportsimulator.mcinterface;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind store for world saved data.  Rather than writing the whole data file every time
+ * an entry changes, worlds mark the data as dirty here and it is written a short time later.
+ * This coalesces multiple changes into one write.  Writes are done on a background thread from a
+ * snapshot of the data taken on the server thread, so the data can keep changing while it's written.
+ * Data is written to a temp file and then moved over the old file, so a crash mid-write will never
+ * leave a partial file on disk.
+ *
+ * @author don_bruce
+ */
+public class SavedDataWriter {
+    /**How many ticks to wait after the data is first marked dirty before writing it.**/
+    private static final int WRITE_DELAY_TICKS = 20;
+    private static final ExecutorService writeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "MTS Saved Data Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Supplier<File> fileSupplier;
+    private final DataSnapshotter snapshotter;
+    private boolean dirty;
+    private int ticksDirty;
+    private volatile boolean lastWriteFailed;
+    private Future<?> pendingWrite;
+
+    /**
+     * Creates a new writer.  The file supplier is only called when data is written,
+     * so it may reference things that aren't ready when the world is constructed.
+     */
+    public SavedDataWriter(Supplier<File> fileSupplier, DataSnapshotter snapshotter) {
+        this.fileSupplier = fileSupplier;
+        this.snapshotter = snapshotter;
+    }
+
+    /**
+     * Marks the data as changed.  It will be written after {@link #WRITE_DELAY_TICKS}
+     * calls to {@link #tick()}, or on the next call to {@link #flush()}.
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Ticks this writer.  Should be called once every server tick.  Starts a write if
+     * the data has been dirty long enough.  If the last write failed, it is re-tried.
+     */
+    public void tick() {
+        if (lastWriteFailed) {
+            lastWriteFailed = false;
+            dirty = true;
+        }
+        if (dirty && ++ticksDirty >= WRITE_DELAY_TICKS) {
+            startWrite();
+        }
+    }
+
+    /**
+     * Writes any dirty data, and blocks until all writes are complete.
+     * Should be called when the world is unloaded to ensure no data is lost.
+     */
+    public void flush() {
+        if (dirty) {
+            startWrite();
+        }
+        if (pendingWrite != null) {
+            try {
+                pendingWrite.get();
+            } catch (Exception e) {
+                InterfaceManager.coreInterface.logError("Was interrupted while waiting for saved data to write.  Data may not be saved!");
+                e.printStackTrace();
+            }
+            pendingWrite = null;
+        }
+    }
+
+    private void startWrite() {
+        dirty = false;
+        ticksDirty = 0;
+        DataWriter writer = snapshotter.snapshot();
+        File file = fileSupplier.get();
+        pendingWrite = writeExecutor.submit(() -> {
+            Path targetPath = file.toPath();
+            Path tempPath = new File(file.getParentFile(), file.getName() + ".tmp").toPath();
+            try {
+                try (OutputStream stream = Files.newOutputStream(tempPath)) {
+                    writer.write(stream);
+                }
+                try {
+                    Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (Exception e) {
+                InterfaceManager.coreInterface.logError("Could not save data to " + file + ".  Will re-try shortly.");
+                e.printStackTrace();
+                lastWriteFailed = true;
+            }
+        });
+    }
+
+    /**
+     * Takes a snapshot of the data to write.  This is called on the server thread,
+     * and should copy the data so that the returned writer isn't affected by later changes.
+     */
+    @FunctionalInterface
+    public interface DataSnapshotter {
+        DataWriter snapshot();
+    }
+
+    /**
+     * Writes a data snapshot to the stream.  This is called on the writer thread.
+     */
+    @FunctionalInterface
+    public interface DataWriter {
+        void write(OutputStream stream) throws IOException;
+    }
+}
@@ -1,20 +1,23 @@
 package minecrafttransportsimulator.packets.components;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import minecrafttransportsimulator.baseclasses.Point3D;
 import minecrafttransportsimulator.items.components.AItemPack;
 import minecrafttransportsimulator.items.components.AItemSubTyped;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
-import minecrafttransportsimulator.packets.instances.PacketEntityBulletHitBlock;
-import minecrafttransportsimulator.packets.instances.PacketEntityBulletHitCollision;
-import minecrafttransportsimulator.packets.instances.PacketEntityBulletHitEntity;
-import minecrafttransportsimulator.packets.instances.PacketEntityBulletHitExternalEntity;
-import minecrafttransportsimulator.packets.instances.PacketEntityBulletHitGeneric;
+import minecrafttransportsimulator.packets.instances.PacketBundle;
+import minecrafttransportsimulator.packets.instances.PacketChunk;
+import minecrafttransportsimulator.packets.instances.PacketEntityBulletHitBatch;
 import minecrafttransportsimulator.packets.instances.PacketEntityCameraChange;
 import minecrafttransportsimulator.packets.instances.PacketEntityColorChange;
 import minecrafttransportsimulator.packets.instances.PacketEntityCustomKeypress;
@@ -27,6 +30,7 @@ import minecrafttransportsimulator.packets.instances.PacketEntityRiderChange;
 import minecrafttransportsimulator.packets.instances.PacketEntityTextChange;
 import minecrafttransportsimulator.packets.instances.PacketEntityTowingChange;
 import minecrafttransportsimulator.packets.instances.PacketEntityVariableIncrement;
+import minecrafttransportsimulator.packets.instances.PacketEntityVariableKeys;
 import minecrafttransportsimulator.packets.instances.PacketEntityVariableSet;
 import minecrafttransportsimulator.packets.instances.PacketEntityVariableToggle;
 import minecrafttransportsimulator.packets.instances.PacketFluidTankChange;
@@ -73,6 +77,17 @@ import minecrafttransportsimulator.packloading.PackParser;
  * @author don_bruce
  */
 public abstract class APacketBase {
+    /**Data smaller than this, in bytes, isn't compressed.**/
+    private static final int COMPRESSION_THRESHOLD = 256;
+    /**
+     * Dictionary used for compressing data.  This is just the NBT keys that show up the most in entity data.
+     * Keys used most go last, as the compressor can reference those with fewer bits.  Changing this breaks
+     * network compatibility, so servers and clients must be on the same version.
+     */
+    private static final byte[] COMPRESSION_DICTIONARY = String.join("", "towingConnectionCount", "towedByConnection", "disconnectedTowingConnection", "currentMuzzleGroupIndex", "reloadingBullet", "loadedBullet", "bulletsFired", "internalAngles", "serverDeltaM", "serverDeltaR", "serverDeltaP", "electricPower", "fluidLevel", "currentFluid", "inventory", "instrument", "spawnedDefaultParts", "zoomLevel", "cameraIndex", "radio", "text", "running", "hours", "temp", "pressure", "state", "rpm", "count", "subName", "_packID", "_systemName", "position", "motion", "angles", "sessionID", "uniqueUUID", "variables", "part_", "systemName", "packID").getBytes(StandardCharsets.UTF_8);
+
+    /**Bytes for this packet, if {@link #getEncodedBytes()} has been called.**/
+    private byte[] encodedBytes;
 
     /**
      * Constructs the packet from the buffer.  This should
@@ -96,6 +111,27 @@ public abstract class APacketBase {
         return true;
     }
 
+    /**
+     * Returns true if this packet can be bundled with other packets sent in the same tick.
+     * Bundled packets are held until the end of the tick, so packets that need to arrive right away
+     * should return false here.  So should packets that can be large, like ones with NBT data, as bundles
+     * have to fit in one network packet.  Packets that return false will be sent after any packets
+     * already waiting to be bundled, so order is kept.  See {@link minecrafttransportsimulator.mcinterface.PacketBundler}.
+     */
+    public boolean shouldBundle() {
+        return true;
+    }
+
+    /**
+     * Returns true if this packet may be too large to send as one network packet.  These packets are
+     * encoded before they are sent to check their size, and if they are too large they are split up into
+     * {@link PacketChunk} packets and put back together on the other side.  Only done for packets
+     * sent from the server, and only for packets that don't get bundled.
+     */
+    public boolean shouldChunk() {
+        return false;
+    }
+
     /**
      * This is called to write the field values from this class into a buffer.
      * Used prior to sending the packet off over the network.  Make sure to
@@ -106,6 +142,39 @@ public abstract class APacketBase {
         buf.writeByte(InterfaceManager.packetInterface.getPacketIndex(this));
     }
 
+    /**
+     * Returns the bytes {@link #writeToBuffer(ByteBuf)} writes for this packet.  The bytes are only made once,
+     * and are then re-used by {@link #writeEncodedToBuffer(ByteBuf)}, so packets that need to be encoded before
+     * they are sent, such as to check their size, don't get encoded again when they are sent.
+     * The packet must not change after this is called.
+     */
+    public final byte[] getEncodedBytes() {
+        if (encodedBytes == null) {
+            ByteBuf buf = Unpooled.buffer();
+            try {
+                writeToBuffer(buf);
+                byte[] bytes = new byte[buf.readableBytes()];
+                buf.readBytes(bytes);
+                encodedBytes = bytes;
+            } finally {
+                buf.release();
+            }
+        }
+        return encodedBytes;
+    }
+
+    /**
+     * Writes this packet to the buffer.  The network calls this rather than {@link #writeToBuffer(ByteBuf)}, as
+     * this uses the bytes from {@link #getEncodedBytes()} if the packet has already been encoded.
+     */
+    public final void writeEncodedToBuffer(ByteBuf buf) {
+        if (encodedBytes != null) {
+            buf.writeBytes(encodedBytes);
+        } else {
+            writeToBuffer(buf);
+        }
+    }
+
     /**
      * This is called to handle the logic of this packet.  An instance of
      * the world is passed-in here for referencing objects.
@@ -151,6 +220,53 @@ public abstract class APacketBase {
         return new UUID(buf.readLong(), buf.readLong());
     }
 
+    /**
+     * Helper method to write a variable-length int to the buffer.  Values are written
+     * 7 bits per byte, so small positive values like IDs and counts only take a byte or two.
+     * For values that can be negative, use {@link #writeSignedVarIntToBuffer(int, ByteBuf)}.
+     */
+    protected static void writeVarIntToBuffer(int value, ByteBuf buf) {
+        while ((value & ~0x7F) != 0) {
+            buf.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf.writeByte(value);
+    }
+
+    /**
+     * Helper method to read a variable-length int from the buffer.
+     */
+    protected static int readVarIntFromBuffer(ByteBuf buf) {
+        int value = 0;
+        int shift = 0;
+        byte currentByte;
+        do {
+            if (shift > 28) {
+                throw new IndexOutOfBoundsException("Tried to read a variable-length int longer than 5 bytes from a packet.");
+            }
+            currentByte = buf.readByte();
+            value |= (currentByte & 0x7F) << shift;
+            shift += 7;
+        } while ((currentByte & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Helper method to write a signed variable-length int to the buffer.  The sign is moved to
+     * the lowest bit first, so small negative values are just as compact as small positive ones.
+     */
+    protected static void writeSignedVarIntToBuffer(int value, ByteBuf buf) {
+        writeVarIntToBuffer((value << 1) ^ (value >> 31), buf);
+    }
+
+    /**
+     * Helper method to read a signed variable-length int from the buffer.
+     */
+    protected static int readSignedVarIntFromBuffer(ByteBuf buf) {
+        int value = readVarIntFromBuffer(buf);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
     /**
      * Helper method to write a pack item to the buffer.
      */
@@ -216,6 +332,87 @@ public abstract class APacketBase {
         return InterfaceManager.packetInterface.readDataFromBuffer(buf);
     }
 
+    /**
+     * Like {@link #writeDataToBuffer(IWrapperNBT, ByteBuf)}, but compresses the data.  Use this for data
+     * that can be large, like full entity data.  The compressor is primed with common NBT keys, as those
+     * make up a lot of the data.  Small data isn't worth compressing, so it's written as-is.
+     */
+    protected static void writeCompressedDataToBuffer(IWrapperNBT data, ByteBuf buf) {
+        ByteBuf dataBuffer = Unpooled.buffer();
+        try {
+            writeDataToBuffer(data, dataBuffer);
+            int dataLength = dataBuffer.readableBytes();
+            if (dataLength < COMPRESSION_THRESHOLD) {
+                buf.writeBoolean(false);
+                buf.writeBytes(dataBuffer);
+            } else {
+                byte[] dataBytes = new byte[dataLength];
+                dataBuffer.readBytes(dataBytes);
+                Deflater deflater = new Deflater();
+                try {
+                    deflater.setDictionary(COMPRESSION_DICTIONARY);
+                    deflater.setInput(dataBytes);
+                    deflater.finish();
+                    byte[] compressedBytes = new byte[dataLength + 64];
+                    int compressedLength = 0;
+                    while (!deflater.finished()) {
+                        if (compressedLength == compressedBytes.length) {
+                            compressedBytes = Arrays.copyOf(compressedBytes, compressedBytes.length * 2);
+                        }
+                        compressedLength += deflater.deflate(compressedBytes, compressedLength, compressedBytes.length - compressedLength);
+                    }
+                    buf.writeBoolean(true);
+                    writeVarIntToBuffer(dataLength, buf);
+                    writeVarIntToBuffer(compressedLength, buf);
+                    buf.writeBytes(compressedBytes, 0, compressedLength);
+                } finally {
+                    deflater.end();
+                }
+            }
+        } finally {
+            dataBuffer.release();
+        }
+    }
+
+    /**
+     * Reads data written by {@link #writeCompressedDataToBuffer(IWrapperNBT, ByteBuf)}.
+     */
+    protected static IWrapperNBT readCompressedDataFromBuffer(ByteBuf buf) {
+        if (!buf.readBoolean()) {
+            return readDataFromBuffer(buf);
+        }
+        int dataLength = readVarIntFromBuffer(buf);
+        byte[] compressedBytes = new byte[readVarIntFromBuffer(buf)];
+        buf.readBytes(compressedBytes);
+        byte[] dataBytes = new byte[dataLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressedBytes);
+            int inflatedLength = 0;
+            while (inflatedLength < dataLength) {
+                int bytesInflated = inflater.inflate(dataBytes, inflatedLength, dataLength - inflatedLength);
+                if (bytesInflated == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(COMPRESSION_DICTIONARY);
+                    } else if (inflater.finished() || inflater.needsInput()) {
+                        throw new IndexOutOfBoundsException("Compressed data ended after " + inflatedLength + " bytes, but should have had " + dataLength + " bytes.");
+                    }
+                }
+                inflatedLength += bytesInflated;
+            }
+        } catch (DataFormatException e) {
+            throw new IndexOutOfBoundsException("Could not decompress data: " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+        ByteBuf dataBuffer = Unpooled.wrappedBuffer(dataBytes);
+        try {
+            return readDataFromBuffer(dataBuffer);
+        } finally {
+            dataBuffer.release();
+        }
+    }
+
     /**
      * Called during network init to register packets.  Internal packets
      * will have already been registered, and the packet index will already
@@ -226,80 +423,81 @@ public abstract class APacketBase {
         //Ideally this could be done via reflection, but it doesn't work too well so we don't do that.
 
         //Entity packets.
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityCameraChange.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityColorChange.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityCustomKeypress.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityInstrumentChange.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityKeyChange.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityRiderChange.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityTextChange.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityTowingChange.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityVariableIncrement.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityVariableSet.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityVariableToggle.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityInteract.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityInteractGUI.class);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityCameraChange.class, PacketEntityCameraChange::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityColorChange.class, PacketEntityColorChange::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityCustomKeypress.class, PacketEntityCustomKeypress::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityInstrumentChange.class, PacketEntityInstrumentChange::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityKeyChange.class, PacketEntityKeyChange::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityRiderChange.class, PacketEntityRiderChange::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityTextChange.class, PacketEntityTextChange::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityTowingChange.class, PacketEntityTowingChange::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityVariableIncrement.class, PacketEntityVariableIncrement::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityVariableSet.class, PacketEntityVariableSet::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityVariableToggle.class, PacketEntityVariableToggle::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityVariableKeys.class, PacketEntityVariableKeys::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityInteract.class, PacketEntityInteract::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityInteractGUI.class, PacketEntityInteractGUI::new);
 
         //Bullet packets.
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityBulletHitGeneric.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityBulletHitCollision.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityBulletHitEntity.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityBulletHitExternalEntity.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityBulletHitBlock.class);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityBulletHitBatch.class, PacketEntityBulletHitBatch::new);
 
         //Fluid tank packets.
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketFluidTankChange.class);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketFluidTankChange.class, PacketFluidTankChange::new);
 
         //Inventory container packets.
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketInventoryContainerChange.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketItemInteractable.class);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketInventoryContainerChange.class, PacketInventoryContainerChange::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketItemInteractable.class, PacketItemInteractable::new);
 
         //Furnace packets.
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketCrafterFuelAdd.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketCrafterTimeSet.class);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketCrafterFuelAdd.class, PacketCrafterFuelAdd::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketCrafterTimeSet.class, PacketCrafterTimeSet::new);
 
         //GUI packets.
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketGUIRequest.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityGUIRequest.class);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketGUIRequest.class, PacketGUIRequest::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityGUIRequest.class, PacketEntityGUIRequest::new);
 
         //Part packets.
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartChange_Add.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartChange_Remove.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartGun.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartEffector.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartEngine.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartGroundDevice.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartInteractable.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartSeat.class);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartChange_Add.class, PacketPartChange_Add::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartChange_Remove.class, PacketPartChange_Remove::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartGun.class, PacketPartGun::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartEffector.class, PacketPartEffector::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartEngine.class, PacketPartEngine::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartGroundDevice.class, PacketPartGroundDevice::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartInteractable.class, PacketPartInteractable::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPartSeat.class, PacketPartSeat::new);
 
         //Player packets.
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPlayerChatMessage.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPlayerCraftItem.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPlayerItemTransfer.class);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPlayerChatMessage.class, PacketPlayerChatMessage::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPlayerCraftItem.class, PacketPlayerCraftItem::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketPlayerItemTransfer.class, PacketPlayerItemTransfer::new);
 
         //Radio packets.
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketRadioStateChange.class);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketRadioStateChange.class, PacketRadioStateChange::new);
 
         //Tile entity packets.
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityLoaderConnection.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityFuelPumpConnection.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityFuelPumpDispense.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityFuelPumpPayment.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityChargerBattery.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityRoadCollisionUpdate.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityPoleChange.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityPoleCollisionUpdate.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityRoadChange.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityRoadConnectionUpdate.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntitySignalControllerChange.class);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityLoaderConnection.class, PacketTileEntityLoaderConnection::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityFuelPumpConnection.class, PacketTileEntityFuelPumpConnection::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityFuelPumpDispense.class, PacketTileEntityFuelPumpDispense::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityFuelPumpPayment.class, PacketTileEntityFuelPumpPayment::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityChargerBattery.class, PacketTileEntityChargerBattery::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityRoadCollisionUpdate.class, PacketTileEntityRoadCollisionUpdate::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityPoleChange.class, PacketTileEntityPoleChange::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityPoleCollisionUpdate.class, PacketTileEntityPoleCollisionUpdate::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityRoadChange.class, PacketTileEntityRoadChange::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntityRoadConnectionUpdate.class, PacketTileEntityRoadConnectionUpdate::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketTileEntitySignalControllerChange.class, PacketTileEntitySignalControllerChange::new);
 
         //Vehicle packets.
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketVehicleBeaconChange.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketVehicleControlNotification.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketVehicleServerMovement.class);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketVehicleBeaconChange.class, PacketVehicleBeaconChange::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketVehicleControlNotification.class, PacketVehicleControlNotification::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketVehicleServerMovement.class, PacketVehicleServerMovement::new);
 
         //World packets.
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketWorldSavedDataRequest.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketWorldSavedDataUpdate.class);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketWorldSavedDataRequest.class, PacketWorldSavedDataRequest::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketWorldSavedDataUpdate.class, PacketWorldSavedDataUpdate::new);
+
+        //Transport packets.  These carry other packets, rather than doing anything themselves.
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketBundle.class, PacketBundle::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketChunk.class, PacketChunk::new);
     }
 }
@@ -1,7 +1,5 @@
 package minecrafttransportsimulator.packets.components;
 
-import java.util.UUID;
-
 import io.netty.buffer.ByteBuf;
 import minecrafttransportsimulator.blocks.tileentities.components.ATileEntityBase;
 import minecrafttransportsimulator.entities.components.AEntityA_Base;
@@ -11,33 +9,39 @@ import minecrafttransportsimulator.mcinterface.InterfaceManager;
 /**
  * Packet class that includes a default implementation for transmitting an entity
  * to allow entity-specific interactions on the other side of the network.
+ * Entities are sent by their {@link AEntityA_Base#sessionID} rather than their UUID,
+ * as it's far smaller and is a direct lookup on the other side.
  *
  * @author don_bruce
  */
 public abstract class APacketEntity<EntityType extends AEntityA_Base> extends APacketBase {
-    private final UUID uniqueUUID;
+    private final int sessionID;
 
     public APacketEntity(AEntityA_Base entity) {
         super(null);
-        this.uniqueUUID = entity.uniqueUUID;
+        this.sessionID = entity.sessionID;
     }
 
     public APacketEntity(ByteBuf buf) {
         super(buf);
-        this.uniqueUUID = readUUIDFromBuffer(buf);
+        this.sessionID = readVarIntFromBuffer(buf);
     }
 
     @Override
     public void writeToBuffer(ByteBuf buf) {
         super.writeToBuffer(buf);
-        writeUUIDToBuffer(uniqueUUID, buf);
+        writeVarIntToBuffer(sessionID, buf);
     }
 
     @Override
     public void handle(AWrapperWorld world) {
-        EntityType entity = world.getEntity(uniqueUUID);
+        EntityType entity = world.getEntity(sessionID);
+        if (entity != null) {
+            //Packets change entity states, so make sure the entity is awake to act on them.
+            entity.wakeUp();
+        }
         if (entity != null && handle(world, entity) && !world.isClient()) {
-            InterfaceManager.packetInterface.sendToAllClients(this);
+            InterfaceManager.packetInterface.sendToTrackingClients(this, entity);
             if (entity instanceof ATileEntityBase) {
                 //Need to set TEs as updated, as they don't normally do this.
                 world.markTileEntityChanged(((ATileEntityBase<?>) entity).position);
@@ -59,7 +63,7 @@ public abstract class APacketEntity<EntityType extends AEntityA_Base> extends AP
      * is associated with. If the entity is null,  then this method won't be called.
      * Saves having to do null checks for every packet type.  If this is handled on the
      * server, and a packet shouldn't be sent to all clients (like if the action failed due
-     * to an issue) return false.  Otherwise, return true to send this packet on to all clients.
+     * to an issue) return false.  Otherwise, return true to send this packet on to all clients tracking the entity.
      * Return method has no function on clients.
      */
     protected abstract boolean handle(AWrapperWorld world, EntityType entity);
@@ -0,0 +1,74 @@
+package minecrafttransportsimulator.packets.components;
+
+import io.netty.buffer.ByteBuf;
+import minecrafttransportsimulator.baseclasses.ComputedVariable;
+import minecrafttransportsimulator.entities.components.AEntityD_Definable;
+import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+
+/**
+ * Packet class that includes a default implementation for transmitting a variable on an entity.
+ * Variables are sent by their {@link VariableKeyDictionary} ID if they have one, and by their
+ * key if they don't.  Servers register keys they send, so only the first packet for a key,
+ * or packets from clients that haven't heard about the key yet, will send the full key.
+ *
+ * @author don_bruce
+ */
+public abstract class APacketEntityVariable extends APacketEntity<AEntityD_Definable<?>> {
+    private int keyID;
+    private String variableKey;
+
+    public APacketEntityVariable(ComputedVariable variable) {
+        super(variable.entity);
+        this.variableKey = variable.variableKey;
+        if (variable.entity.world.isClient()) {
+            this.keyID = VariableKeyDictionary.clientDictionary.getKeyID(variableKey);
+        } else {
+            this.keyID = VariableKeyDictionary.serverDictionary.registerKey(variableKey);
+        }
+    }
+
+    public APacketEntityVariable(ByteBuf buf) {
+        super(buf);
+        this.keyID = readVarIntFromBuffer(buf);
+        if (keyID == 0) {
+            this.variableKey = readStringFromBuffer(buf);
+        }
+    }
+
+    @Override
+    public void writeToBuffer(ByteBuf buf) {
+        super.writeToBuffer(buf);
+        writeVarIntToBuffer(keyID, buf);
+        if (keyID == 0) {
+            writeStringToBuffer(variableKey, buf);
+        }
+    }
+
+    @Override
+    public boolean handle(AWrapperWorld world, AEntityD_Definable<?> entity) {
+        ComputedVariable variable;
+        if (keyID != 0) {
+            //Resolve IDs here rather than on read, since reads may be on the network thread.
+            String key = VariableKeyDictionary.get(world).getKey(keyID);
+            if (key == null) {
+                //Got an ID before the key.  Keys are kept across world changes, so this can only
+                //happen right after joining a server, before its keys arrive.  Nothing we can do.
+                return false;
+            }
+            variable = entity.getOrCreateVariableByKeyID(keyID, key);
+        } else {
+            variable = entity.getOrCreateVariable(variableKey);
+            if (!world.isClient()) {
+                //Register the key so it gets sent as an ID to clients when we forward this packet.
+                keyID = VariableKeyDictionary.serverDictionary.registerKey(variableKey);
+            }
+        }
+        return handle(world, entity, variable);
+    }
+
+    /**
+     * Handler method with an extra parameter for the variable that this packet is for.
+     * Return value is the same as {@link #handle(AWrapperWorld, AEntityD_Definable)}.
+     */
+    protected abstract boolean handle(AWrapperWorld world, AEntityD_Definable<?> entity, ComputedVariable variable);
+}
@@ -0,0 +1,187 @@
+package minecrafttransportsimulator.packets.components;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.packets.instances.PacketBundle;
+import minecrafttransportsimulator.packets.instances.PacketChunk;
+import minecrafttransportsimulator.systems.ConfigSystem;
+
+/**
+ * Counters for network traffic.  The packet interfaces record every packet they send and receive here, with
+ * the player it went to or came from if there is a single one.  Totals are kept per packet class and per player,
+ * along with a per-second rate averaged over the last {@link #RATE_WINDOW} seconds.  Bundles and chunks only count
+ * towards player totals, as the packets in them are recorded on their own when the bundle is written or read.
+ * This way class totals show the packets that actually use the bandwidth rather than the containers they're in.
+ * Recording may happen on network threads, so the counters are thread-safe.  Sampling, resetting and summaries
+ * are synchronized, as the client and integrated server both update these from their own tick threads.
+ *
+ * @author don_bruce
+ */
+public class NetworkStats {
+    /**Seconds to average rates over.**/
+    private static final int RATE_WINDOW = 10;
+    private static final Map<Class<? extends APacketBase>, TrafficStats> sentByClass = new ConcurrentHashMap<>();
+    private static final Map<Class<? extends APacketBase>, TrafficStats> receivedByClass = new ConcurrentHashMap<>();
+    private static final Map<String, TrafficStats> sentByPlayer = new ConcurrentHashMap<>();
+    private static final Map<String, TrafficStats> receivedByPlayer = new ConcurrentHashMap<>();
+    private static long resetTime = System.currentTimeMillis();
+    private static long nextSampleTime;
+    private static long nextLogTime;
+    private static int samplesTaken;
+
+    /**
+     * Records a packet that was written to the network.  Player name may be null if the packet
+     * wasn't sent to a single player, such as packets sent to all clients or to the server.
+     */
+    public static void recordSent(APacketBase packet, int bytes, String playerName) {
+        record(sentByClass, sentByPlayer, packet, bytes, playerName);
+    }
+
+    /**
+     * Records a packet that was read from the network.  Player name may be null if the packet
+     * didn't come from a player, which is the case for all packets on clients.
+     */
+    public static void recordReceived(APacketBase packet, int bytes, String playerName) {
+        record(receivedByClass, receivedByPlayer, packet, bytes, playerName);
+    }
+
+    private static void record(Map<Class<? extends APacketBase>, TrafficStats> byClass, Map<String, TrafficStats> byPlayer, APacketBase packet, int bytes, String playerName) {
+        if (!(packet instanceof PacketBundle) && !(packet instanceof PacketChunk)) {
+            byClass.computeIfAbsent(packet.getClass(), k -> new TrafficStats(k.getSimpleName())).add(bytes);
+        }
+        if (playerName != null) {
+            byPlayer.computeIfAbsent(playerName, TrafficStats::new).add(bytes);
+        }
+    }
+
+    /**
+     * Updates rates, and logs the summary if it is time to.  Called every tick; only
+     * does work once per second, no matter how many worlds or threads call it.
+     */
+    public static synchronized void update() {
+        long currentTime = System.currentTimeMillis();
+        if (currentTime >= nextSampleTime) {
+            nextSampleTime = currentTime + 1000;
+            sample(sentByClass);
+            sample(receivedByClass);
+            sample(sentByPlayer);
+            sample(receivedByPlayer);
+            ++samplesTaken;
+
+            int logInterval = ConfigSystem.settings.general.networkStatsLogInterval.value;
+            if (logInterval > 0 && currentTime >= nextLogTime) {
+                if (nextLogTime != 0) {
+                    for (String line : getSummary(10)) {
+                        InterfaceManager.coreInterface.logInfo(line);
+                    }
+                }
+                nextLogTime = currentTime + logInterval * 1000L;
+            }
+        }
+    }
+
+    private static void sample(Map<?, TrafficStats> statsMap) {
+        for (TrafficStats stats : statsMap.values()) {
+            stats.sample(samplesTaken);
+        }
+    }
+
+    /**
+     * Clears all counters.
+     */
+    public static synchronized void reset() {
+        sentByClass.clear();
+        receivedByClass.clear();
+        sentByPlayer.clear();
+        receivedByPlayer.clear();
+        samplesTaken = 0;
+        resetTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns a summary of the top packet classes, sorted by current sent and received byte rates.
+     */
+    public static synchronized List<String> getSummary(int maxEntries) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Network stats (%ds, rates over last %ds):", (System.currentTimeMillis() - resetTime) / 1000, RATE_WINDOW));
+        addLines(lines, "Sent", sentByClass, maxEntries);
+        addLines(lines, "Received", receivedByClass, maxEntries);
+        return lines;
+    }
+
+    /**
+     * Returns a summary of the top players, sorted by current sent and received byte rates.
+     */
+    public static synchronized List<String> getPlayerSummary(int maxEntries) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Network stats by player (%ds, rates over last %ds):", (System.currentTimeMillis() - resetTime) / 1000, RATE_WINDOW));
+        addLines(lines, "Sent to", sentByPlayer, maxEntries);
+        addLines(lines, "Received from", receivedByPlayer, maxEntries);
+        return lines;
+    }
+
+    private static void addLines(List<String> lines, String title, Map<?, TrafficStats> statsMap, int maxEntries) {
+        List<TrafficStats> sortedStats = new ArrayList<>(statsMap.values());
+        long totalBytes = 0;
+        double totalByteRate = 0;
+        for (TrafficStats stats : sortedStats) {
+            totalBytes += stats.bytes.sum();
+            totalByteRate += stats.getByteRate();
+        }
+        lines.add(String.format("%s: %.1fKB total, %.2fKB/s", title, totalBytes / 1024D, totalByteRate / 1024D));
+        sortedStats.sort((first, second) -> Double.compare(second.getByteRate(), first.getByteRate()));
+        for (int i = 0; i < sortedStats.size() && i < maxEntries; ++i) {
+            TrafficStats stats = sortedStats.get(i);
+            lines.add(String.format("  %s: %d packets, %.1fKB total, %.1f packets/s, %.2fKB/s", stats.name, stats.count.sum(), stats.bytes.sum() / 1024D, stats.getCountRate(), stats.getByteRate() / 1024D));
+        }
+    }
+
+    private static class TrafficStats {
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final long[] countSamples = new long[RATE_WINDOW + 1];
+        private final long[] byteSamples = new long[RATE_WINDOW + 1];
+        private int firstSample = -1;
+        private int lastSample;
+
+        private TrafficStats(String name) {
+            this.name = name;
+        }
+
+        private void add(int packetBytes) {
+            count.increment();
+            bytes.add(packetBytes);
+        }
+
+        private void sample(int sampleNumber) {
+            if (firstSample == -1) {
+                firstSample = sampleNumber;
+            }
+            lastSample = sampleNumber;
+            countSamples[sampleNumber % countSamples.length] = count.sum();
+            byteSamples[sampleNumber % byteSamples.length] = bytes.sum();
+        }
+
+        private double getCountRate() {
+            return getRate(countSamples);
+        }
+
+        private double getByteRate() {
+            return getRate(byteSamples);
+        }
+
+        private double getRate(long[] samples) {
+            int oldestSample = Math.max(firstSample, lastSample - RATE_WINDOW);
+            if (firstSample == -1 || oldestSample == lastSample) {
+                return 0;
+            }
+            return (samples[lastSample % samples.length] - samples[oldestSample % samples.length]) / (double) (lastSample - oldestSample);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package minecrafttransportsimulator.packets.components;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.packets.instances.PacketEntityVariableKeys;
+
+/**
+ * Dictionary of variable keys for variable packets.  Variable packets are sent very often, and
+ * sending the full key every time is a waste, so the server gives each key a small ID the first
+ * time it's sent and tells all clients about it.  After that, packets send the ID instead.
+ * Clients get all existing keys when they join a world, and any new ones as they are registered.
+ * There is one dictionary for the server and one for the client, as both may be in the same game.
+ * <br><br>
+ * IDs never change while a server is running, so clients keep their keys when they change worlds.
+ * Each server dictionary has a random {@link #getDictionaryID() ID} that is sent with its keys.
+ * Clients drop their old keys when they get keys from a different dictionary, such as after joining
+ * a different server.
+ *
+ * @author don_bruce
+ */
+public class VariableKeyDictionary {
+    public static final VariableKeyDictionary serverDictionary = new VariableKeyDictionary();
+    public static final VariableKeyDictionary clientDictionary = new VariableKeyDictionary();
+    /**Max keys to register.  Past this, new keys are just sent as strings.**/
+    private static final int MAX_KEYS = 65535;
+    private static final int KEYS_PER_PACKET = 512;
+
+    private long dictionaryID = ThreadLocalRandom.current().nextLong();
+    private final Map<String, Integer> keyIDs = new HashMap<>();
+    private String[] keys = new String[256];
+    private int keyCount;
+
+    /**
+     * Returns the dictionary for the side the passed-in world is on.
+     */
+    public static VariableKeyDictionary get(AWrapperWorld world) {
+        return world.isClient() ? clientDictionary : serverDictionary;
+    }
+
+    /**
+     * Returns the ID for the passed-in key, or 0 if it doesn't have one.
+     */
+    public synchronized int getKeyID(String key) {
+        Integer keyID = keyIDs.get(key);
+        return keyID != null ? keyID : 0;
+    }
+
+    /**
+     * Returns the key for the passed-in ID, or null if the ID isn't known.
+     */
+    public synchronized String getKey(int keyID) {
+        return keyID > 0 && keyID < keys.length ? keys[keyID] : null;
+    }
+
+    /**
+     * Returns the ID for the passed-in key, registering it if it isn't registered.
+     * New keys are sent to all clients.  Returns 0 if the dictionary is full.
+     * Only call this on the server dictionary.
+     */
+    public int registerKey(String key) {
+        int keyID;
+        synchronized (this) {
+            keyID = getKeyID(key);
+            if (keyID != 0 || keyCount == MAX_KEYS) {
+                return keyID;
+            }
+            keyID = ++keyCount;
+            setKey(keyID, key);
+        }
+        InterfaceManager.packetInterface.sendToAllClients(new PacketEntityVariableKeys(dictionaryID, new int[] { keyID }, new String[] { key }));
+        return keyID;
+    }
+
+    /**
+     * Returns the ID of this dictionary.  Sent with keys so clients know which dictionary they came from.
+     */
+    public synchronized long getDictionaryID() {
+        return dictionaryID;
+    }
+
+    /**
+     * Sets the keys for the passed-in IDs.  Used on clients to store keys the server sent.
+     * If the keys are from a different dictionary than the keys we have, the old keys are cleared first.
+     */
+    public synchronized void setKeys(long fromDictionaryID, int[] keyIDs, String[] keys) {
+        if (fromDictionaryID != dictionaryID) {
+            this.keyIDs.clear();
+            Arrays.fill(this.keys, null);
+            keyCount = 0;
+            dictionaryID = fromDictionaryID;
+        }
+        for (int i = 0; i < keyIDs.length; ++i) {
+            setKey(keyIDs[i], keys[i]);
+        }
+    }
+
+    private void setKey(int keyID, String key) {
+        if (keyID >= keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(keyID + 1, keys.length * 2));
+        }
+        keys[keyID] = key;
+        keyIDs.put(key, keyID);
+    }
+
+    /**
+     * Returns packets with all keys in this dictionary, for clients that just joined.
+     * Keys are split over multiple packets to keep packets from getting too large.
+     */
+    public synchronized List<PacketEntityVariableKeys> getAllKeysPackets() {
+        List<PacketEntityVariableKeys> packets = new ArrayList<>();
+        for (int firstKeyID = 1; firstKeyID <= keyCount; firstKeyID += KEYS_PER_PACKET) {
+            int packetKeyCount = Math.min(KEYS_PER_PACKET, keyCount - firstKeyID + 1);
+            int[] packetKeyIDs = new int[packetKeyCount];
+            String[] packetKeys = new String[packetKeyCount];
+            for (int i = 0; i < packetKeyCount; ++i) {
+                packetKeyIDs[i] = firstKeyID + i;
+                packetKeys[i] = keys[firstKeyID + i];
+            }
+            packets.add(new PacketEntityVariableKeys(dictionaryID, packetKeyIDs, packetKeys));
+        }
+        return packets;
+    }
+}
@@ -0,0 +1,67 @@
+package minecrafttransportsimulator.packets.instances;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.mcinterface.PacketBundler;
+import minecrafttransportsimulator.packets.components.APacketBase;
+import minecrafttransportsimulator.packets.components.NetworkStats;
+
+/**
+ * Packet that contains other packets.  Created by the {@link PacketBundler} to send all packets for
+ * a destination in a tick at once.  Each packet is written with its length first, so if one packet
+ * fails to read we can skip it and still read the rest.  Packets are handled in the order they were sent.
+ *
+ * @author don_bruce
+ */
+public class PacketBundle extends APacketBase {
+    private final List<APacketBase> packets;
+
+    public PacketBundle(List<APacketBase> packets) {
+        super(null);
+        this.packets = packets;
+    }
+
+    public PacketBundle(ByteBuf buf) {
+        super(buf);
+        int packetCount = readVarIntFromBuffer(buf);
+        this.packets = new ArrayList<>(packetCount);
+        for (int i = 0; i < packetCount; ++i) {
+            int packetLength = buf.readInt();
+            int packetStart = buf.readerIndex();
+            try {
+                APacketBase packet = InterfaceManager.packetInterface.readPacketFromBuffer(buf);
+                NetworkStats.recordReceived(packet, packetLength, null);
+                packets.add(packet);
+            } catch (Exception e) {
+                InterfaceManager.coreInterface.logError("Could not read packet " + i + " of a bundle of " + packetCount + ".  It will be skipped.");
+            }
+            buf.readerIndex(packetStart + packetLength);
+        }
+    }
+
+    @Override
+    public void writeToBuffer(ByteBuf buf) {
+        super.writeToBuffer(buf);
+        writeVarIntToBuffer(packets.size(), buf);
+        for (APacketBase packet : packets) {
+            //Write a placeholder for the length, then go back and set it once we know it.
+            int lengthIndex = buf.writerIndex();
+            buf.writeInt(0);
+            packet.writeEncodedToBuffer(buf);
+            int packetLength = buf.writerIndex() - lengthIndex - Integer.BYTES;
+            buf.setInt(lengthIndex, packetLength);
+            NetworkStats.recordSent(packet, packetLength, null);
+        }
+    }
+
+    @Override
+    public void handle(AWrapperWorld world) {
+        for (APacketBase packet : packets) {
+            packet.handle(world);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package minecrafttransportsimulator.packets.instances;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.packets.components.APacketBase;
+import minecrafttransportsimulator.packets.components.NetworkStats;
+
+/**
+ * Packet that contains part of another packet.  Packets that return true for {@link APacketBase#shouldChunk()}
+ * and are too large are split into these by {@link #split(APacketBase)}.  Chunks for a packet are always sent
+ * one after the other, so clients only need to keep the chunks for one packet at a time.  Once the last chunk
+ * comes in, the chunks are put back together and the packet is read and handled like normal.
+ *
+ * @author don_bruce
+ */
+public class PacketChunk extends APacketBase {
+    /**Max bytes in a chunk.  Packets larger than this get split.**/
+    private static final int MAX_CHUNK_SIZE = 32000;
+    private static int nextTransferID;
+    private static int pendingTransferID;
+    private static byte[][] pendingChunks;
+
+    private final int transferID;
+    private final int chunkIndex;
+    private final int chunkCount;
+    private final byte[] chunk;
+
+    private PacketChunk(int transferID, int chunkIndex, int chunkCount, byte[] chunk) {
+        super(null);
+        this.transferID = transferID;
+        this.chunkIndex = chunkIndex;
+        this.chunkCount = chunkCount;
+        this.chunk = chunk;
+    }
+
+    public PacketChunk(ByteBuf buf) {
+        super(buf);
+        this.transferID = readVarIntFromBuffer(buf);
+        this.chunkIndex = readVarIntFromBuffer(buf);
+        this.chunkCount = readVarIntFromBuffer(buf);
+        this.chunk = new byte[readVarIntFromBuffer(buf)];
+        buf.readBytes(chunk);
+    }
+
+    /**
+     * Returns the chunks to send for the passed-in packet, or null if it's small enough to send as-is.
+     * The returned chunks must be sent in order, with no other chunks sent between them.
+     */
+    public static synchronized List<PacketChunk> split(APacketBase packet) {
+        //Packets that aren't split are sent with these bytes, so this is the only time they get encoded.
+        byte[] packetBytes = packet.getEncodedBytes();
+        int packetLength = packetBytes.length;
+        if (packetLength <= MAX_CHUNK_SIZE) {
+            return null;
+        }
+        NetworkStats.recordSent(packet, packetLength, null);
+        int transferID = nextTransferID++;
+        int chunkCount = (packetLength + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE;
+        List<PacketChunk> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; ++i) {
+            int chunkStart = i * MAX_CHUNK_SIZE;
+            chunks.add(new PacketChunk(transferID, i, chunkCount, Arrays.copyOfRange(packetBytes, chunkStart, Math.min(chunkStart + MAX_CHUNK_SIZE, packetLength))));
+        }
+        return chunks;
+    }
+
+    @Override
+    public void writeToBuffer(ByteBuf buf) {
+        super.writeToBuffer(buf);
+        writeVarIntToBuffer(transferID, buf);
+        writeVarIntToBuffer(chunkIndex, buf);
+        writeVarIntToBuffer(chunkCount, buf);
+        writeVarIntToBuffer(chunk.length, buf);
+        buf.writeBytes(chunk);
+    }
+
+    @Override
+    public void handle(AWrapperWorld world) {
+        if (chunkIndex == 0) {
+            //New packet, so any chunks we had left over are from a packet that won't finish.
+            pendingTransferID = transferID;
+            pendingChunks = new byte[chunkCount][];
+        } else if (pendingChunks == null || pendingTransferID != transferID || pendingChunks.length != chunkCount) {
+            InterfaceManager.coreInterface.logError("Got chunk " + chunkIndex + " of a packet without its prior chunks.  It will be skipped.");
+            return;
+        }
+        pendingChunks[chunkIndex] = chunk;
+
+        if (chunkIndex == chunkCount - 1) {
+            byte[][] chunks = pendingChunks;
+            pendingChunks = null;
+            for (byte[] priorChunk : chunks) {
+                if (priorChunk == null) {
+                    InterfaceManager.coreInterface.logError("Missing chunks for a packet of " + chunkCount + " chunks.  It will be skipped.");
+                    return;
+                }
+            }
+            ByteBuf packetBuffer = Unpooled.wrappedBuffer(chunks);
+            try {
+                int packetLength = packetBuffer.readableBytes();
+                APacketBase packet = InterfaceManager.packetInterface.readPacketFromBuffer(packetBuffer);
+                NetworkStats.recordReceived(packet, packetLength, null);
+                packet.handle(world);
+            } finally {
+                packetBuffer.release();
+            }
+        }
+    }
+
+    @Override
+    public boolean shouldBundle() {
+        //Chunks are only made for packets that aren't bundled, and have to stay in order with them.
+        return false;
+    }
+}
@@ -0,0 +1,289 @@
+package minecrafttransportsimulator.packets.instances;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import io.netty.buffer.ByteBuf;
+import minecrafttransportsimulator.baseclasses.BoundingBox;
+import minecrafttransportsimulator.baseclasses.Damage;
+import minecrafttransportsimulator.baseclasses.Point3D;
+import minecrafttransportsimulator.blocks.components.ABlockBase.Axis;
+import minecrafttransportsimulator.entities.components.AEntityA_Base;
+import minecrafttransportsimulator.entities.components.AEntityE_Interactable;
+import minecrafttransportsimulator.entities.instances.EntityBullet;
+import minecrafttransportsimulator.entities.instances.EntityBullet.HitType;
+import minecrafttransportsimulator.entities.instances.PartGun;
+import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+import minecrafttransportsimulator.mcinterface.IWrapperEntity;
+import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.packets.components.APacketBase;
+
+/**
+ * Packet sent with all the hits from a gun's bullets in a tick.  Clients send these to the server
+ * with the hits they found, and the server sends these to clients with the hit effects to show.
+ * Hits are handled in the order they were added, so callers need to add them in the order that
+ * the individual hit logic needs to run.  Namely, generic hits before the block hit for the same bullet.
+ * Batches are obtained from {@link AWrapperWorld#getBulletHitBatch(PartGun)} and sent at the end of the tick,
+ * split by {@link #split()} so no packet has more hits than the other side will read.
+ *
+ * @author don_bruce
+ */
+public class PacketEntityBulletHitBatch extends APacketBase {
+    /**
+     * Max hits in a single batch.  Prevents clients from spamming the server, and keeps batches under the
+     * size limit for packets sent to the server, as the largest hits are under 40 bytes each.
+     */
+    private static final int MAX_HITS = 512;
+    private final UUID gunID;
+    private final List<Hit> hits;
+
+    public PacketEntityBulletHitBatch(PartGun gun) {
+        super(null);
+        this.gunID = gun.uniqueUUID;
+        this.hits = new ArrayList<>();
+    }
+
+    private PacketEntityBulletHitBatch(UUID gunID, List<Hit> hits) {
+        super(null);
+        this.gunID = gunID;
+        this.hits = hits;
+    }
+
+    public PacketEntityBulletHitBatch(ByteBuf buf) {
+        super(buf);
+        this.gunID = readUUIDFromBuffer(buf);
+        int hitCount = readVarIntFromBuffer(buf);
+        this.hits = new ArrayList<>(Math.min(hitCount, MAX_HITS));
+        HitEntryType[] entryTypes = HitEntryType.values();
+        for (int i = 0; i < hitCount; ++i) {
+            int entryTypeIndex = buf.readUnsignedByte();
+            if (entryTypeIndex >= entryTypes.length) {
+                //We don't know how long an unknown hit is, so we can't read any hits after it.
+                InterfaceManager.coreInterface.logError("Got unknown bullet hit type " + entryTypeIndex + " in a batch of " + hitCount + " hits.  The rest of the batch will be skipped.");
+                break;
+            }
+            Hit hit = new Hit(entryTypes[entryTypeIndex]);
+            switch (hit.entryType) {
+                case GENERIC: {
+                    hit.bulletNumber = readVarIntFromBuffer(buf);
+                    hit.position = readPoint3dFromBuffer(buf);
+                    hit.side = Axis.values()[buf.readByte()];
+                    hit.hitType = HitType.values()[buf.readByte()];
+                    break;
+                }
+                case BLOCK: {
+                    hit.bulletNumber = readVarIntFromBuffer(buf);
+                    hit.position = readPoint3dCompactFromBuffer(buf);
+                    hit.side = Axis.values()[buf.readByte()];
+                    break;
+                }
+                case ENTITY:
+                case COLLISION: {
+                    hit.entitySessionID = readVarIntFromBuffer(buf);
+                    hit.position = readPoint3dFromBuffer(buf);
+                    hit.amount = buf.readDouble();
+                    break;
+                }
+                case EXTERNAL_ENTITY: {
+                    hit.externalEntityID = readUUIDFromBuffer(buf);
+                    hit.amount = buf.readDouble();
+                    break;
+                }
+            }
+            if (hits.size() < MAX_HITS) {
+                hits.add(hit);
+            }
+        }
+    }
+
+    @Override
+    public void writeToBuffer(ByteBuf buf) {
+        super.writeToBuffer(buf);
+        writeUUIDToBuffer(gunID, buf);
+        writeVarIntToBuffer(hits.size(), buf);
+        for (Hit hit : hits) {
+            buf.writeByte(hit.entryType.ordinal());
+            switch (hit.entryType) {
+                case GENERIC: {
+                    writeVarIntToBuffer(hit.bulletNumber, buf);
+                    writePoint3dToBuffer(hit.position, buf);
+                    buf.writeByte(hit.side.ordinal());
+                    buf.writeByte(hit.hitType.ordinal());
+                    break;
+                }
+                case BLOCK: {
+                    writeVarIntToBuffer(hit.bulletNumber, buf);
+                    writePoint3dCompactToBuffer(hit.position, buf);
+                    buf.writeByte(hit.side.ordinal());
+                    break;
+                }
+                case ENTITY:
+                case COLLISION: {
+                    writeVarIntToBuffer(hit.entitySessionID, buf);
+                    writePoint3dToBuffer(hit.position, buf);
+                    buf.writeDouble(hit.amount);
+                    break;
+                }
+                case EXTERNAL_ENTITY: {
+                    writeUUIDToBuffer(hit.externalEntityID, buf);
+                    buf.writeDouble(hit.amount);
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void handle(AWrapperWorld world) {
+        PartGun gun = world.getBulletGun(gunID);
+        if (gun == null) {
+            //Gun was never seen on this side, so we can't do anything with its hits.
+            return;
+        }
+        for (Hit hit : hits) {
+            switch (hit.entryType) {
+                case GENERIC: {
+                    EntityBullet.performGenericHitLogic(gun, hit.bulletNumber, hit.position, hit.side, hit.hitType);
+                    break;
+                }
+                case BLOCK: {
+                    EntityBullet.performBlockHitLogic(gun, hit.bulletNumber, hit.position, hit.side);
+                    break;
+                }
+                case ENTITY:
+                case COLLISION: {
+                    //Damage is only done on servers, and it's up to them to validate the target.
+                    if (!world.isClient() && hit.amount >= 0 && hit.amount < Double.POSITIVE_INFINITY) {
+                        AEntityA_Base entity = world.getEntity(hit.entitySessionID);
+                        if (entity instanceof AEntityE_Interactable) {
+                            AEntityE_Interactable<?> interactable = (AEntityE_Interactable<?>) entity;
+                            for (BoundingBox box : interactable.collisionBoxes) {
+                                if (box.localCenter.equals(hit.position)) {
+                                    if (hit.entryType == HitEntryType.ENTITY) {
+                                        EntityBullet.performEntityHitLogic(interactable, new Damage(gun, box, hit.amount));
+                                    } else {
+                                        interactable.damageCollisionBox(box, hit.amount);
+                                    }
+                                    break;
+                                }
+                            }
+                        }
+                    }
+                    break;
+                }
+                case EXTERNAL_ENTITY: {
+                    if (!world.isClient() && hit.amount >= 0 && hit.amount < Double.POSITIVE_INFINITY) {
+                        IWrapperEntity entity = world.getExternalEntity(hit.externalEntityID);
+                        if (entity != null) {
+                            EntityBullet.performExternalEntityHitLogic(entity, new Damage(gun, entity.getBounds(), hit.amount));
+                        }
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if no hits have been added to this batch.
+     */
+    public boolean isEmpty() {
+        return hits.isEmpty();
+    }
+
+    /**
+     * Returns the packets to send for this batch.  This is just this batch unless it has more hits than
+     * the other side will read, in which case the hits are split in order across multiple batches.
+     */
+    public List<PacketEntityBulletHitBatch> split() {
+        if (hits.size() <= MAX_HITS) {
+            return Collections.singletonList(this);
+        }
+        List<PacketEntityBulletHitBatch> batches = new ArrayList<>();
+        for (int i = 0; i < hits.size(); i += MAX_HITS) {
+            batches.add(new PacketEntityBulletHitBatch(gunID, new ArrayList<>(hits.subList(i, Math.min(i + MAX_HITS, hits.size())))));
+        }
+        return batches;
+    }
+
+    /**
+     * Adds a hit that spawns the bullet's hit effects, and explosions on servers.
+     */
+    public void addGenericHit(int bulletNumber, Point3D position, Axis side, HitType hitType) {
+        Hit hit = new Hit(HitEntryType.GENERIC);
+        hit.bulletNumber = bulletNumber;
+        hit.position = position.copy();
+        hit.side = side;
+        hit.hitType = hitType;
+        hits.add(hit);
+    }
+
+    /**
+     * Adds a hit that changes the state of the block at the position.
+     */
+    public void addBlockHit(int bulletNumber, Point3D blockPosition, Axis side) {
+        Hit hit = new Hit(HitEntryType.BLOCK);
+        hit.bulletNumber = bulletNumber;
+        hit.position = blockPosition.copy();
+        hit.side = side;
+        hits.add(hit);
+    }
+
+    /**
+     * Adds a hit that attacks the entity with the damage.  Only valid for clients sending to servers.
+     */
+    public void addEntityHit(AEntityE_Interactable<?> entity, Damage damage) {
+        addBoxHit(HitEntryType.ENTITY, entity, damage.box, damage.amount);
+    }
+
+    /**
+     * Adds a hit that damages a collision box with health.  Only valid for clients sending to servers.
+     */
+    public void addCollisionHit(AEntityE_Interactable<?> entity, BoundingBox box, double amount) {
+        addBoxHit(HitEntryType.COLLISION, entity, box, amount);
+    }
+
+    private void addBoxHit(HitEntryType entryType, AEntityE_Interactable<?> entity, BoundingBox box, double amount) {
+        Hit hit = new Hit(entryType);
+        hit.entitySessionID = entity.sessionID;
+        hit.position = box.localCenter;
+        hit.amount = amount;
+        hits.add(hit);
+    }
+
+    /**
+     * Adds a hit that attacks the external entity with the damage.  Only valid for clients sending to servers.
+     */
+    public void addExternalEntityHit(IWrapperEntity entity, Damage damage) {
+        Hit hit = new Hit(HitEntryType.EXTERNAL_ENTITY);
+        hit.externalEntityID = entity.getID();
+        hit.amount = damage.amount;
+        hits.add(hit);
+    }
+
+    private static class Hit {
+        private final HitEntryType entryType;
+        private int bulletNumber;
+        /**Hit position for generic hits, block position for block hits, and hitbox center for entity and collision hits.**/
+        private Point3D position;
+        private Axis side;
+        private HitType hitType;
+        private int entitySessionID;
+        private UUID externalEntityID;
+        private double amount;
+
+        private Hit(HitEntryType entryType) {
+            this.entryType = entryType;
+        }
+    }
+
+    private enum HitEntryType {
+        GENERIC,
+        BLOCK,
+        ENTITY,
+        COLLISION,
+        EXTERNAL_ENTITY
+    }
+}
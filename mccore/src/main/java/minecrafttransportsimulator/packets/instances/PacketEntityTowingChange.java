@@ -63,4 +63,10 @@ public class PacketEntityTowingChange extends APacketEntity<AEntityG_Towable<?>>
         }
         return true;
     }
+
+    @Override
+    public boolean shouldBundle() {
+        //Has NBT data, which can be large.
+        return false;
+    }
 }
@@ -4,7 +4,7 @@ import io.netty.buffer.ByteBuf;
 import minecrafttransportsimulator.baseclasses.ComputedVariable;
 import minecrafttransportsimulator.entities.components.AEntityD_Definable;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
-import minecrafttransportsimulator.packets.components.APacketEntity;
+import minecrafttransportsimulator.packets.components.APacketEntityVariable;
 
 /**
  * Packet used to increment variable states.  Sent from clients to servers to
@@ -14,15 +14,13 @@ import minecrafttransportsimulator.packets.components.APacketEntity;
  *
  * @author don_bruce
  */
-public class PacketEntityVariableIncrement extends APacketEntity<AEntityD_Definable<?>> {
-    private final String variableKey;
+public class PacketEntityVariableIncrement extends APacketEntityVariable {
     private final double incrementValue;
     private final double minValue;
     private final double maxValue;
 
     public PacketEntityVariableIncrement(ComputedVariable variable, double incrementValue, double minValue, double maxValue) {
-        super(variable.entity);
-        this.variableKey = variable.variableKey;
+        super(variable);
         this.incrementValue = incrementValue;
         this.minValue = minValue;
         this.maxValue = maxValue;
@@ -34,7 +32,6 @@ public class PacketEntityVariableIncrement extends APacketEntity<AEntityD_Defina
 
     public PacketEntityVariableIncrement(ByteBuf buf) {
         super(buf);
-        this.variableKey = readStringFromBuffer(buf);
         this.incrementValue = buf.readDouble();
         this.minValue = buf.readDouble();
         this.maxValue = buf.readDouble();
@@ -43,14 +40,13 @@ public class PacketEntityVariableIncrement extends APacketEntity<AEntityD_Defina
     @Override
     public void writeToBuffer(ByteBuf buf) {
         super.writeToBuffer(buf);
-        writeStringToBuffer(variableKey, buf);
         buf.writeDouble(incrementValue);
         buf.writeDouble(minValue);
         buf.writeDouble(maxValue);
     }
 
     @Override
-    public boolean handle(AWrapperWorld world, AEntityD_Definable<?> entity) {
-        return entity.getOrCreateVariable(variableKey).increment(incrementValue, minValue, maxValue, false);
+    public boolean handle(AWrapperWorld world, AEntityD_Definable<?> entity, ComputedVariable variable) {
+        return variable.increment(incrementValue, minValue, maxValue, false);
     }
 }
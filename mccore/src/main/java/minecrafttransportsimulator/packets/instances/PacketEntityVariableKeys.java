@@ -0,0 +1,59 @@
+package minecrafttransportsimulator.packets.instances;
+
+import io.netty.buffer.ByteBuf;
+import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+import minecrafttransportsimulator.packets.components.APacketBase;
+import minecrafttransportsimulator.packets.components.VariableKeyDictionary;
+
+/**
+ * Packet sent to clients to give them variable keys from the server's {@link VariableKeyDictionary}.
+ * Sent with all keys when a client joins a world, and with single keys as the server registers them.
+ *
+ * @author don_bruce
+ */
+public class PacketEntityVariableKeys extends APacketBase {
+    private final long dictionaryID;
+    private final int[] keyIDs;
+    private final String[] keys;
+
+    public PacketEntityVariableKeys(long dictionaryID, int[] keyIDs, String[] keys) {
+        super(null);
+        this.dictionaryID = dictionaryID;
+        this.keyIDs = keyIDs;
+        this.keys = keys;
+    }
+
+    public PacketEntityVariableKeys(ByteBuf buf) {
+        super(buf);
+        this.dictionaryID = buf.readLong();
+        int keyCount = readVarIntFromBuffer(buf);
+        this.keyIDs = new int[keyCount];
+        this.keys = new String[keyCount];
+        for (int i = 0; i < keyCount; ++i) {
+            keyIDs[i] = readVarIntFromBuffer(buf);
+            keys[i] = readStringFromBuffer(buf);
+        }
+    }
+
+    @Override
+    public void writeToBuffer(ByteBuf buf) {
+        super.writeToBuffer(buf);
+        buf.writeLong(dictionaryID);
+        writeVarIntToBuffer(keyIDs.length, buf);
+        for (int i = 0; i < keyIDs.length; ++i) {
+            writeVarIntToBuffer(keyIDs[i], buf);
+            writeStringToBuffer(keys[i], buf);
+        }
+    }
+
+    @Override
+    public void handle(AWrapperWorld world) {
+        VariableKeyDictionary.clientDictionary.setKeys(dictionaryID, keyIDs, keys);
+    }
+
+    @Override
+    public boolean shouldBundle() {
+        //Keys need to arrive before any packets that use them.
+        return false;
+    }
+}
@@ -4,7 +4,7 @@ import io.netty.buffer.ByteBuf;
 import minecrafttransportsimulator.baseclasses.ComputedVariable;
 import minecrafttransportsimulator.entities.components.AEntityD_Definable;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
-import minecrafttransportsimulator.packets.components.APacketEntity;
+import minecrafttransportsimulator.packets.components.APacketEntityVariable;
 
 /**
  * Packet used to set variable states.  Sent from clients to servers to
@@ -17,32 +17,28 @@ import minecrafttransportsimulator.packets.components.APacketEntity;
  *
  * @author don_bruce
  */
-public class PacketEntityVariableSet extends APacketEntity<AEntityD_Definable<?>> {
-    private final String variableKey;
+public class PacketEntityVariableSet extends APacketEntityVariable {
     private final double variableValue;
 
     public PacketEntityVariableSet(ComputedVariable variable, double variableValue) {
-        super(variable.entity);
-        this.variableKey = variable.variableKey;
+        super(variable);
         this.variableValue = variableValue;
     }
 
     public PacketEntityVariableSet(ByteBuf buf) {
         super(buf);
-        this.variableKey = readStringFromBuffer(buf);
         this.variableValue = buf.readDouble();
     }
 
     @Override
     public void writeToBuffer(ByteBuf buf) {
         super.writeToBuffer(buf);
-        writeStringToBuffer(variableKey, buf);
         buf.writeDouble(variableValue);
     }
 
     @Override
-    public boolean handle(AWrapperWorld world, AEntityD_Definable<?> entity) {
-        entity.getOrCreateVariable(variableKey).setTo(variableValue, false);
+    public boolean handle(AWrapperWorld world, AEntityD_Definable<?> entity, ComputedVariable variable) {
+        variable.setTo(variableValue, false);
         return true;
     }
 }
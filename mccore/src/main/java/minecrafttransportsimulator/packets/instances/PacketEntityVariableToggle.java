@@ -4,7 +4,7 @@ import io.netty.buffer.ByteBuf;
 import minecrafttransportsimulator.baseclasses.ComputedVariable;
 import minecrafttransportsimulator.entities.components.AEntityD_Definable;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
-import minecrafttransportsimulator.packets.components.APacketEntity;
+import minecrafttransportsimulator.packets.components.APacketEntityVariable;
 
 /**
  * Packet used to toggle variable states.  Sent from clients to servers to
@@ -13,28 +13,19 @@ import minecrafttransportsimulator.packets.components.APacketEntity;
  *
  * @author don_bruce
  */
-public class PacketEntityVariableToggle extends APacketEntity<AEntityD_Definable<?>> {
-    private final String variableKey;
+public class PacketEntityVariableToggle extends APacketEntityVariable {
 
     public PacketEntityVariableToggle(ComputedVariable variable) {
-        super(variable.entity);
-        this.variableKey = variable.variableKey;
+        super(variable);
     }
 
     public PacketEntityVariableToggle(ByteBuf buf) {
         super(buf);
-        this.variableKey = readStringFromBuffer(buf);
     }
 
     @Override
-    public void writeToBuffer(ByteBuf buf) {
-        super.writeToBuffer(buf);
-        writeStringToBuffer(variableKey, buf);
-    }
-
-    @Override
-    public boolean handle(AWrapperWorld world, AEntityD_Definable<?> entity) {
-        entity.getOrCreateVariable(variableKey).toggle(false);
+    public boolean handle(AWrapperWorld world, AEntityD_Definable<?> entity, ComputedVariable variable) {
+        variable.toggle(false);
         return true;
     }
 }
@@ -48,4 +48,10 @@ public class PacketInventoryContainerChange extends APacketEntity<EntityInventor
         inventory.setStack(stackToChangeTo, index);
         return false;
     }
+
+    @Override
+    public boolean shouldBundle() {
+        //Has NBT data, which can be large.
+        return false;
+    }
 }
@@ -105,4 +105,10 @@ public class PacketItemInteractable extends APacketPlayer {
             world.getEntity(uniqueUUID).remove();
         }
     }
+
+    @Override
+    public boolean shouldBundle() {
+        //Has NBT data, which can be large.
+        return false;
+    }
 }
@@ -30,7 +30,7 @@ public class PacketPartChange_Add extends APacketEntity<AEntityF_Multipart<?>> {
         super(buf);
         this.partSlot = buf.readInt();
         this.item = readItemFromBuffer(buf);
-        this.data = readDataFromBuffer(buf);
+        this.data = readCompressedDataFromBuffer(buf);
     }
 
     @Override
@@ -38,7 +38,7 @@ public class PacketPartChange_Add extends APacketEntity<AEntityF_Multipart<?>> {
         super.writeToBuffer(buf);
         buf.writeInt(partSlot);
         writeItemToBuffer(item, buf);
-        writeDataToBuffer(data, buf);
+        writeCompressedDataToBuffer(data, buf);
     }
 
     @Override
@@ -48,4 +48,15 @@ public class PacketPartChange_Add extends APacketEntity<AEntityF_Multipart<?>> {
         part.addPartsPostAddition(null, data);
         return false;
     }
+
+    @Override
+    public boolean shouldBundle() {
+        //Has NBT data, which can be large.
+        return false;
+    }
+
+    @Override
+    public boolean shouldChunk() {
+        return true;
+    }
 }
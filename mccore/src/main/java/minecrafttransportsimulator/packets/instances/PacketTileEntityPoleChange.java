@@ -57,4 +57,10 @@ public class PacketTileEntityPoleChange extends APacketEntityInteract<TileEntity
         }
         return false;
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean shouldBundle() {
+        //Has NBT data, which can be large.
+        return false;
+    }
+}
@@ -40,4 +40,10 @@ public class PacketTileEntitySignalControllerChange extends APacketEntity<TileEn
         controller.initializeController(controllerData);
         return true;
     }
+
+    @Override
+    public boolean shouldBundle() {
+        //Has NBT data, which can be large.
+        return false;
+    }
 }
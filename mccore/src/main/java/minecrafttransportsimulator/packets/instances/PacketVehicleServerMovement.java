@@ -2,9 +2,10 @@ package minecrafttransportsimulator.packets.instances;
 
 import io.netty.buffer.ByteBuf;
 import minecrafttransportsimulator.baseclasses.Point3D;
+import minecrafttransportsimulator.entities.components.AEntityA_Base;
 import minecrafttransportsimulator.entities.instances.EntityVehicleF_Physics;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
-import minecrafttransportsimulator.packets.components.APacketEntity;
+import minecrafttransportsimulator.packets.components.APacketBase;
 
 /**
  * Packet used to send server vehicle movement to clients.  This packet doesn't directly
@@ -15,39 +16,112 @@ import minecrafttransportsimulator.packets.components.APacketEntity;
  * the position and rotation.  This system of syncing has the side-effect of significant
  * rubberbanding when server TPS suffers or networking goes bad, but it's far better than
  * the alternatives when the connection is good, hence why we use it.
+ * <br><br>
+ * Since every moving vehicle sends this every tick, each player gets one packet holding the movement
+ * of all vehicles they are tracking for that tick.  Vehicles are referenced by their {@link AEntityA_Base#sessionID}, and
+ * movement is sent as fixed-point values, with only the non-zero values being sent.
+ * The vehicle keeps any rounding error and sends it with its next movement, or with a finer scale
+ * once it stops, so nothing is lost.
  *
  * @author don_bruce
  */
-public class PacketVehicleServerMovement extends APacketEntity<EntityVehicleF_Physics> {
-    private final Point3D motion;
-    private final Point3D rotation;
-    private final double pathing;
-
-    public PacketVehicleServerMovement(EntityVehicleF_Physics vehicle, Point3D motion, Point3D rotation, double pathing) {
-        super(vehicle);
-        this.motion = motion;
-        this.rotation = rotation;
-        this.pathing = pathing;
+public class PacketVehicleServerMovement extends APacketBase {
+    /**Number of values for each vehicle: 3 motion, 3 rotation, 1 pathing, and the fine flag.**/
+    public static final int VALUES_PER_VEHICLE = 8;
+    /**Index of the flag that says the vehicle's values use {@link #FINE_SCALE}.  This is sent as a bit, not a value.**/
+    public static final int FINE_INDEX = 7;
+    /**Max vehicles in one packet.  More than this and we start a new packet.**/
+    public static final int MAX_VEHICLES = 512;
+    public static final double MOTION_SCALE = 4096D;
+    public static final double ROTATION_SCALE = 1024D;
+    public static final double PATHING_SCALE = 4096D;
+    /**Extra scale for remainders too small to send with the normal scales.**/
+    public static final double FINE_SCALE = 65536D;
+
+    private final int vehicleCount;
+    private final int[] sessionIDs;
+    private final int[] values;
+
+    /**
+     * Creates a packet for the passed-in vehicles.  The values array should have {@link #VALUES_PER_VEHICLE}
+     * values for each vehicle, as set by {@link EntityVehicleF_Physics#quantizeUnsentServerDeltas(int[], int)}.
+     */
+    public PacketVehicleServerMovement(int vehicleCount, int[] sessionIDs, int[] values) {
+        super(null);
+        this.vehicleCount = vehicleCount;
+        this.sessionIDs = sessionIDs;
+        this.values = values;
     }
 
     public PacketVehicleServerMovement(ByteBuf buf) {
         super(buf);
-        this.motion = readPoint3dFromBuffer(buf);
-        this.rotation = readPoint3dFromBuffer(buf);
-        this.pathing = buf.readDouble();
+        this.vehicleCount = readVarIntFromBuffer(buf);
+        this.sessionIDs = new int[vehicleCount];
+        this.values = new int[vehicleCount * VALUES_PER_VEHICLE];
+        for (int i = 0; i < vehicleCount; ++i) {
+            sessionIDs[i] = readVarIntFromBuffer(buf);
+            int valueFlags = buf.readByte();
+            for (int j = 0; j < FINE_INDEX; ++j) {
+                if ((valueFlags & (1 << j)) != 0) {
+                    values[i * VALUES_PER_VEHICLE + j] = readSignedVarIntFromBuffer(buf);
+                }
+            }
+            if ((valueFlags & (1 << FINE_INDEX)) != 0) {
+                values[i * VALUES_PER_VEHICLE + FINE_INDEX] = 1;
+            }
+        }
     }
 
     @Override
     public void writeToBuffer(ByteBuf buf) {
         super.writeToBuffer(buf);
-        writePoint3dToBuffer(motion, buf);
-        writePoint3dToBuffer(rotation, buf);
-        buf.writeDouble(pathing);
+        writeVarIntToBuffer(vehicleCount, buf);
+        for (int i = 0; i < vehicleCount; ++i) {
+            writeVarIntToBuffer(sessionIDs[i], buf);
+            int valueFlags = 0;
+            for (int j = 0; j < VALUES_PER_VEHICLE; ++j) {
+                if (values[i * VALUES_PER_VEHICLE + j] != 0) {
+                    valueFlags |= 1 << j;
+                }
+            }
+            buf.writeByte(valueFlags);
+            for (int j = 0; j < FINE_INDEX; ++j) {
+                if (values[i * VALUES_PER_VEHICLE + j] != 0) {
+                    writeSignedVarIntToBuffer(values[i * VALUES_PER_VEHICLE + j], buf);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void handle(AWrapperWorld world) {
+        Point3D motion = new Point3D();
+        Point3D rotation = new Point3D();
+        for (int i = 0; i < vehicleCount; ++i) {
+            AEntityA_Base entity = world.getEntity(sessionIDs[i]);
+            if (entity instanceof EntityVehicleF_Physics) {
+                int index = i * VALUES_PER_VEHICLE;
+                double fineScale = values[index + FINE_INDEX] != 0 ? FINE_SCALE : 1;
+                double motionScale = MOTION_SCALE * fineScale;
+                double rotationScale = ROTATION_SCALE * fineScale;
+                motion.set(values[index] / motionScale, values[index + 1] / motionScale, values[index + 2] / motionScale);
+                rotation.set(values[index + 3] / rotationScale, values[index + 4] / rotationScale, values[index + 5] / rotationScale);
+                ((EntityVehicleF_Physics) entity).addToServerDeltas(motion, rotation, values[index + 6] / (PATHING_SCALE * fineScale));
+            }
+        }
+    }
+
+    /**
+     * Helper method to convert a value to fixed-point with the passed-in scale.
+     * Values too large to fit are clamped, the remainder will be sent later.
+     */
+    public static int quantize(double value, double scale) {
+        return (int) Math.max(Math.min(Math.round(value * scale), Integer.MAX_VALUE), Integer.MIN_VALUE);
     }
 
     @Override
-    public boolean handle(AWrapperWorld world, EntityVehicleF_Physics vehicle) {
-        vehicle.addToServerDeltas(motion, rotation, pathing);
+    public boolean shouldBundle() {
+        //Already has all vehicles in it, and needs to go out in order with entity data.
         return false;
     }
 }
@@ -5,6 +5,7 @@ import minecrafttransportsimulator.mcinterface.AWrapperWorld;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
 import minecrafttransportsimulator.packets.components.APacketPlayer;
+import minecrafttransportsimulator.packets.components.VariableKeyDictionary;
 
 /**
  * Packet used to request world NBT data from the server, and to send that data back to clients.
@@ -30,6 +31,11 @@ public class PacketWorldSavedDataRequest extends APacketPlayer {
         for (String dataName : savedData.getAllNames()) {
             player.sendPacket(new PacketWorldSavedDataUpdate(dataName, savedData.getData(dataName)));
         }
+
+        //Also send variable keys, since this is the first thing clients request when joining.
+        for (PacketEntityVariableKeys packet : VariableKeyDictionary.serverDictionary.getAllKeysPackets()) {
+            player.sendPacket(packet);
+        }
     }
 
     @Override
@@ -25,7 +25,7 @@ public class PacketWorldSavedDataUpdate extends APacketBase {
         super(buf);
         this.name = readStringFromBuffer(buf);
         if (buf.readBoolean()) {
-            this.data = readDataFromBuffer(buf);
+            this.data = readCompressedDataFromBuffer(buf);
         } else {
             this.data = null;
         }
@@ -37,7 +37,7 @@ public class PacketWorldSavedDataUpdate extends APacketBase {
         writeStringToBuffer(name, buf);
         if (data != null) {
             buf.writeBoolean(true);
-            writeDataToBuffer(data, buf);
+            writeCompressedDataToBuffer(data, buf);
         } else {
             buf.writeBoolean(false);
         }
@@ -52,4 +52,15 @@ public class PacketWorldSavedDataUpdate extends APacketBase {
     public boolean runOnMainThread() {
         return false;
     }
+
+    @Override
+    public boolean shouldBundle() {
+        //Has NBT data, which can be large.
+        return false;
+    }
+
+    @Override
+    public boolean shouldChunk() {
+        return true;
+    }
 }
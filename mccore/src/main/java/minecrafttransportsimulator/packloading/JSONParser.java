@@ -14,6 +14,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
@@ -43,6 +44,8 @@ import minecrafttransportsimulator.jsondefs.AJSONInteractableEntity;
 import minecrafttransportsimulator.jsondefs.AJSONItem;
 import minecrafttransportsimulator.jsondefs.AJSONMultiModelProvider;
 import minecrafttransportsimulator.jsondefs.AJSONPartProvider;
+import minecrafttransportsimulator.jsondefs.JSONAction;
+import minecrafttransportsimulator.jsondefs.JSONAnimationDefinition;
 import minecrafttransportsimulator.jsondefs.JSONBullet;
 import minecrafttransportsimulator.jsondefs.JSONDecor;
 import minecrafttransportsimulator.jsondefs.JSONInstrument;
@@ -52,6 +55,8 @@ import minecrafttransportsimulator.jsondefs.JSONPart;
 import minecrafttransportsimulator.jsondefs.JSONPoleComponent;
 import minecrafttransportsimulator.jsondefs.JSONRoadComponent;
 import minecrafttransportsimulator.jsondefs.JSONSubDefinition;
+import minecrafttransportsimulator.jsondefs.JSONText;
+import minecrafttransportsimulator.jsondefs.JSONVariableModifier;
 import minecrafttransportsimulator.jsondefs.JSONVehicle;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
 import minecrafttransportsimulator.rendering.ModelParserLT.LTBox;
@@ -778,6 +783,99 @@ public class JSONParser {
         }
     }
 
+    /**
+     * Compiles the variable slots for the passed-in definition.  Every variable referenced by the definition's
+     * animations, variable modifiers, actions, and text is given a slot in {@link AJSONMultiModelProvider#variableSlots},
+     * and the referencing object is told that slot.  Variable names are also interned to the slot's name, so
+     * entities can check a slot belongs to a name with a reference comparison rather than a string comparison.
+     */
+    public static void compileVariableSlots(AJSONMultiModelProvider definition) {
+        Map<String, Integer> slots = new HashMap<>();
+        List<String> slotNames = new ArrayList<>();
+        compileVariableSlots(definition, slots, slotNames);
+        definition.variableSlots = slotNames.toArray(new String[0]);
+    }
+
+    /**
+     * Helper method to compile variable slots.  Used for recursion in the same way as {@link #validateFields(Object, String, int)}.
+     */
+    private static void compileVariableSlots(Object obj, Map<String, Integer> slots, List<String> slotNames) {
+        if (obj instanceof JSONAnimationDefinition) {
+            JSONAnimationDefinition animation = (JSONAnimationDefinition) obj;
+            animation.variableSlot = getVariableSlot(animation.variable, slots, slotNames);
+            if (animation.variableSlot != -1) {
+                animation.variable = slotNames.get(animation.variableSlot);
+            }
+        } else if (obj instanceof JSONVariableModifier) {
+            JSONVariableModifier modifier = (JSONVariableModifier) obj;
+            modifier.variableSlot = getVariableSlot(modifier.variable, slots, slotNames);
+            if (modifier.variableSlot != -1) {
+                modifier.variable = slotNames.get(modifier.variableSlot);
+            }
+        } else if (obj instanceof JSONAction) {
+            JSONAction action = (JSONAction) obj;
+            action.variableSlot = getVariableSlot(action.variable, slots, slotNames);
+            if (action.variableSlot != -1) {
+                action.variable = slotNames.get(action.variableSlot);
+            }
+        } else if (obj instanceof JSONText) {
+            JSONText text = (JSONText) obj;
+            text.variableSlot = getVariableSlot(text.variableName, slots, slotNames);
+            if (text.variableSlot != -1) {
+                text.variableName = slotNames.get(text.variableSlot);
+            }
+        }
+
+        for (Field field : obj.getClass().getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                Object recursiveObject = null;
+                try {
+                    recursiveObject = field.get(obj);
+                } catch (Exception e) {
+                }
+
+                if (recursiveObject instanceof Collection) {
+                    for (Object objEntry : ((Collection<?>) recursiveObject)) {
+                        if (isCompilableObject(objEntry)) {
+                            compileVariableSlots(objEntry, slots, slotNames);
+                        }
+                    }
+                } else if (isCompilableObject(recursiveObject)) {
+                    compileVariableSlots(recursiveObject, slots, slotNames);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if the passed-in object is a non-enum object defined in the jsondefs package.
+     * Only these objects are checked for variables when compiling slots.
+     */
+    private static boolean isCompilableObject(Object obj) {
+        if (obj != null && !obj.getClass().isEnum()) {
+            Package objPackage = obj.getClass().getPackage();
+            return objPackage != null && objPackage.getName().contains("jsondefs");
+        }
+        return false;
+    }
+
+    /**
+     * Returns the slot for the passed-in variable, adding a new slot if one doesn't exist yet.
+     * Returns -1 for null variables, as those objects don't reference a variable.
+     */
+    private static int getVariableSlot(String variable, Map<String, Integer> slots, List<String> slotNames) {
+        if (variable == null) {
+            return -1;
+        }
+        Integer slot = slots.get(variable);
+        if (slot == null) {
+            slot = slotNames.size();
+            slots.put(variable, slot);
+            slotNames.add(variable);
+        }
+        return slot;
+    }
+
     /**
      * Checks to see if the passed-in field is required, and is missing or corrupt.  If so,
      * a text-based error message is returned.  If not, null is returned.
@@ -483,6 +483,7 @@ public final class PackParser {
                     }
                     skinMap.get(skinDef.skin.packID).get(skinDef.skin.systemName).add(skinDef);
                 } else {
+                    JSONParser.compileVariableSlots((AJSONMultiModelProvider) itemDef);
                     parseAllDefinitions((AJSONMultiModelProvider) itemDef, ((AJSONMultiModelProvider) itemDef).definitions, itemDef.packID);
                 }
             } else {
@@ -25,13 +25,15 @@ public class DurationDelayClock {
     private static final double d1 = 2.75;
 
     public final JSONAnimationDefinition animation;
+    public final int variableSlot;
     public final double animationAxisMagnitude;
     public final Point3D animationAxisNormalized;
     public final boolean isUseful;
+    /**True if this clock has a duration or delay, and so its value can change over time even if its variable doesn't.**/
+    public final boolean shouldDoFactoring;
     private Long timeCommandedForwards = 0L;
     private Long timeCommandedReverse = 0L;
 
-    private final boolean shouldDoFactoring;
     private boolean startedForwardsMovement = false;
     private boolean endedForwardsMovement = false;
     private boolean startedReverseMovement = false;
@@ -39,6 +41,7 @@ public class DurationDelayClock {
 
     public DurationDelayClock(JSONAnimationDefinition animation) {
         this.animation = animation;
+        this.variableSlot = animation.variableSlot;
         this.animationAxisMagnitude = animation.axis != null ? animation.axis.length() : 1.0;
         this.animationAxisNormalized = animation.axis != null ? animation.axis.copy().normalize() : null;
         this.shouldDoFactoring = animation.duration != 0 || animation.forwardsDelay != 0 || animation.reverseDelay != 0;
@@ -201,6 +204,10 @@ public class DurationDelayClock {
             }
             movementFactor = 1 - movementFactor;
         }
+        if (commandForwards ? !endedForwardsMovement : !endedReverseMovement) {
+            //Still moving, so the entity can't sleep or we'd freeze mid-movement.
+            entity.lastAnimationTick = entity.ticksExisted;
+        }
 
         return shouldDoFactoring ? movementFactor : value;
     }
@@ -1,6 +1,7 @@
 package minecrafttransportsimulator.sound;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import minecrafttransportsimulator.entities.instances.EntityRadio;
 
@@ -31,6 +32,29 @@ public interface IStreamDecoder {
      */
     ByteBuffer readBlock();
 
+    /**
+     * Reads all remaining blocks and returns them as a single direct ByteBuffer, for sounds that are
+     * loaded in their entirety rather than streamed.  Blocks are accumulated in an array that doubles
+     * in size as required, so data is only copied a few times, and only one direct buffer is created.
+     */
+    default ByteBuffer readAllBlocks() {
+        byte[] decodedData = new byte[BUFFER_SIZE];
+        int decodedSize = 0;
+        ByteBuffer blockRead;
+        while ((blockRead = readBlock()) != null) {
+            int blockSize = blockRead.remaining();
+            if (decodedSize + blockSize > decodedData.length) {
+                decodedData = Arrays.copyOf(decodedData, Math.max(decodedData.length * 2, decodedSize + blockSize));
+            }
+            blockRead.get(decodedData, decodedSize, blockSize);
+            decodedSize += blockSize;
+        }
+        ByteBuffer outputBuffer = ByteBuffer.allocateDirect(decodedSize);
+        outputBuffer.put(decodedData, 0, decodedSize);
+        outputBuffer.flip();
+        return outputBuffer;
+    }
+
     /**
      * Stops the decoding process.  This ensures all I/O
      * references like streams are safely closed, allowing for
@@ -9,7 +9,12 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javazoom.jl.decoder.Equalizer;
 import minecrafttransportsimulator.entities.instances.EntityRadio;
@@ -24,6 +29,15 @@ import minecrafttransportsimulator.sound.RadioManager.RadioSources;
  * @author don_bruce
  */
 public class RadioStation {
+    /**Max number of buffers a station will decode ahead of the ones playing.**/
+    private static final int MAX_BUFFERS = 5;
+    /**Executor that all station decoders run on.  Decoders block when their buffers are full, so threads are cached rather than fixed.**/
+    private static final ExecutorService decoderExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "MTS Radio Decoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     //Created variables.
     private final RadioSources source;
     private final int index;
@@ -38,9 +52,9 @@ public class RadioStation {
     public final Equalizer equalizer;
     private final ConcurrentLinkedQueue<EntityRadio> queuedRadios = new ConcurrentLinkedQueue<>();
     private final ConcurrentLinkedQueue<EntityRadio> playingRadios = new ConcurrentLinkedQueue<>();
-    private final ConcurrentLinkedQueue<Integer> activeBuffers = new ConcurrentLinkedQueue<>();
+    private final BlockingQueue<Integer> activeBuffers = new ArrayBlockingQueue<>(MAX_BUFFERS);
     private volatile LinkingThread linkingThread;
-    private volatile DecoderThread decoderThread;
+    private volatile DecoderTask decoderTask;
     private volatile int faultedDecodes;
 
     public RadioStation(int index, boolean randomOrder) {
@@ -87,9 +101,9 @@ public class RadioStation {
         queuedRadios.remove(radio);
         //If we are an internet stream, and we killed the last radio, abort us.
         //This is because internet streams are constant feeds and can't be cached.
-        if (playingRadios.isEmpty() && queuedRadios.isEmpty() && source != RadioSources.LOCAL && decoderThread != null) {
-            decoderThread.kill();
-            decoderThread = null;
+        if (playingRadios.isEmpty() && queuedRadios.isEmpty() && source != RadioSources.LOCAL && decoderTask != null) {
+            decoderTask.kill();
+            decoderTask = null;
         }
     }
 
@@ -100,12 +114,12 @@ public class RadioStation {
      */
     public void update() {
         if (!playingRadios.isEmpty() || !queuedRadios.isEmpty()) {
-            if (linkingThread == null && decoderThread == null) {
+            if (linkingThread == null && decoderTask == null) {
                 //Need to start trying to do playback since we don't have any threads.
                 if (faultedDecodes < 5) {
                     startPlayback();
                 }
-            } else if (decoderThread != null && decoderThread.initDone) {
+            } else if (decoderTask != null && decoderTask.initDone) {
                 //Have an active and ready decoder, start decoding.
                 int freeBufferIndex = 0;
 
@@ -151,8 +165,8 @@ public class RadioStation {
                 //If we have 0 buffers, clear out the decoder and start the station again.
                 //This happens if we reach an EOF, or the stream cuts out.
                 if (activeBuffers.isEmpty()) {
-                    if (decoderThread != null) {
-                        decoderThread.kill();
+                    if (decoderTask != null) {
+                        decoderTask.kill();
                     }
                     startPlayback();
                 }
@@ -206,8 +220,8 @@ public class RadioStation {
                 } else {
                     infoText = "Station: " + musicFiles.get(0).getParentFile().getName() + "\nNow Playing: " + musicFiles.get(0).getName();
                     infoText += "\nBuffers:";
-                    decoderThread = new DecoderThread(this, musicFiles.get(0));
-                    decoderThread.start();
+                    decoderTask = new DecoderTask(this, musicFiles.get(0));
+                    decoderTask.start();
                     iterator.remove();
                     return;
                 }
@@ -223,7 +237,7 @@ public class RadioStation {
      */
     private void playFromInternet() {
         displayText = "CONNECTING";
-        decoderThread = null;
+        decoderTask = null;
         linkingThread = new LinkingThread(this);
         linkingThread.start();
     }
@@ -243,14 +257,14 @@ public class RadioStation {
 
         @Override
         public void run() {
-            if (!initDecoderThread()) {
+            if (!initDecoderTask()) {
                 //Something is wrong with the radio station, abort all radio playback.
                 station.queuedRadios.clear();
             }
             station.linkingThread = null;
         }
 
-        private boolean initDecoderThread() {
+        private boolean initDecoderTask() {
             //Try to open the radio URL.
             int tryCount = 0;
             String errorString = null;
@@ -300,8 +314,8 @@ public class RadioStation {
 
                         //Create a thread to start up the sound once the parsing is done.
                         //This keeps us from blocking the main thread.
-                        station.decoderThread = new DecoderThread(station, contentType, connection);
-                        station.decoderThread.start();
+                        station.decoderTask = new DecoderTask(station, contentType, connection);
+                        station.decoderTask.start();
                         return true;
                     }
                 } catch (Exception e) {
@@ -318,28 +332,31 @@ public class RadioStation {
     }
 
     /**
-     * Custom thread class to prevent blocking of the main thread when playing audio.
-     * This thread parses out the audio from the source, and keeps the decoder inside of it.
+     * Custom task class to prevent blocking of the main thread when playing audio.
+     * This task parses out the audio from the source, and keeps the decoder inside of it.
+     * Tasks run on the shared {@link #decoderExecutor}, and block when the station has
+     * all the buffers it can hold until the sound system is done with one of them.
      *
      * @author don_bruce
      */
-    private static class DecoderThread extends Thread {
+    private static class DecoderTask implements Runnable {
         private final RadioStation station;
         private final String contentType;
         private final URLConnection contentConnection;
         private final File contentFile;
         private IStreamDecoder decoder;
-        private boolean stopDecoding;
-        public boolean initDone;
+        private Future<?> future;
+        private volatile boolean stopDecoding;
+        public volatile boolean initDone;
 
-        public DecoderThread(RadioStation station, String contentType, URLConnection contentConnection) {
+        public DecoderTask(RadioStation station, String contentType, URLConnection contentConnection) {
             this.station = station;
             this.contentType = contentType;
             this.contentConnection = contentConnection;
             this.contentFile = null;
         }
 
-        public DecoderThread(RadioStation station, File contentFile) {
+        public DecoderTask(RadioStation station, File contentFile) {
             this.station = station;
             this.contentType = null;
             this.contentConnection = null;
@@ -368,22 +385,27 @@ public class RadioStation {
                     //Prime the buffers before setting the thread to null.
                     //This prevents the buffers from running out from starting too quickly.
                     //Because this is in a thread, it also saves on processing power.
-                    for (byte i = 0; i < 5; ++i) {
+                    for (byte i = 0; i < MAX_BUFFERS; ++i) {
                         generateBufferIndex(false);
                     }
                     initDone = true;
 
                     //Done starting decoding, update text and go into main parsing loop.
+                    //Generating buffers will block until we have space for them, so we don't need to check that here.
                     station.displayText = station.infoText;
                     while (!stopDecoding) {
-                        if (station.activeBuffers.size() < 5) {
-                            int newIndex = generateBufferIndex(true);
-                            if (newIndex != 0) {
-                                station.playingRadios.forEach(radio -> InterfaceManager.soundInterface.bindBuffer(radio.getPlayingSound(), newIndex));
-                            }
+                        int newIndex = generateBufferIndex(true);
+                        if (newIndex == 0) {
+                            //Either we were killed, or the stream ended or dropped and the decoder has nothing left.
+                            //Exit rather than spin; the station will see the buffers drain and move on.
+                            break;
                         }
+                        station.playingRadios.forEach(radio -> InterfaceManager.soundInterface.bindBuffer(radio.getPlayingSound(), newIndex));
                     }
                     return;
+                } catch (InterruptedException e) {
+                    //Killed while waiting for a free buffer, just exit.
+                    return;
                 } catch (Exception e) {
                     //e.printStackTrace();
                 }
@@ -393,8 +415,16 @@ public class RadioStation {
             station.queuedRadios.clear();
         }
 
+        public void start() {
+            future = decoderExecutor.submit(this);
+        }
+
         public void kill() {
             stopDecoding = true;
+            if (future != null) {
+                //Interrupt us if we are waiting for a free buffer.
+                future.cancel(true);
+            }
             if (decoder != null) {
                 decoder.stop();
             }
@@ -402,16 +432,29 @@ public class RadioStation {
 
         /**
          * Generates a new buffer for this station from the current decoder and
-         * stores it in the list of active buffers.  Also updates the displayText
+         * stores it in the list of active buffers.  If the list is full, this blocks
+         * until a buffer is removed from it.  Also updates the displayText
          * to reflect the buffer count.  Returns the index of the newly-created
          * buffer, or 0 if the buffer wasn't able to be created.
          */
-        private int generateBufferIndex(boolean updateDisplay) {
+        private int generateBufferIndex(boolean updateDisplay) throws InterruptedException {
             ByteBuffer buffer = decoder.readBlock();
             if (buffer != null) {
                 //Get new buffer index from the audio system and add it to our radios.
                 int bufferIndex = InterfaceManager.soundInterface.createBuffer(buffer, decoder);
-                station.activeBuffers.add(bufferIndex);
+                try {
+                    station.activeBuffers.put(bufferIndex);
+                } catch (InterruptedException e) {
+                    //Killed while waiting, nobody will use this buffer.
+                    InterfaceManager.soundInterface.deleteBuffer(bufferIndex);
+                    throw e;
+                }
+                if (stopDecoding) {
+                    //Killed while decoding, the station will have started a new decoder that owns the buffers now.
+                    station.activeBuffers.remove(bufferIndex);
+                    InterfaceManager.soundInterface.deleteBuffer(bufferIndex);
+                    return 0;
+                }
                 if (updateDisplay) {
                     //Update station buffer counts and return buffer index.
                     int bufferTextIndex = station.displayText.indexOf("Buffers:");
@@ -0,0 +1,120 @@
+package minecrafttransportsimulator.systems;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import minecrafttransportsimulator.baseclasses.EntityTickMetrics;
+import minecrafttransportsimulator.packets.components.NetworkStats;
+
+/**
+ * System for handling the /mts server command.  The interfaces register a single root command
+ * with MC that passes all arguments to {@link #execute(String[])}, and sends back the returned lines
+ * to whoever ran the command.  This keeps all the actual command logic out of the version-specific code.
+ * Commands are admin-only, and should only be run on the server.
+ *
+ * @author don_bruce
+ */
+public class CommandSystem {
+    public static final String ROOT_COMMAND = "mts";
+    private static final Map<String, ISubCommand> subCommands = new LinkedHashMap<>();
+    private static final Map<String, String> subCommandUsages = new LinkedHashMap<>();
+
+    static {
+        registerSubCommand("metrics", "metrics <start|stop|reset|show|export>", args -> {
+            List<String> lines = new ArrayList<>();
+            switch (args.length > 0 ? args[0] : "show") {
+                case "start": {
+                    EntityTickMetrics.setEnabled(true);
+                    lines.add("Started recording entity tick metrics." + (EntityTickMetrics.canTrackAllocations() ? "" : "  Allocation tracking is not supported on this JVM."));
+                    break;
+                }
+                case "stop": {
+                    EntityTickMetrics.setEnabled(false);
+                    lines.add("Stopped recording entity tick metrics.");
+                    break;
+                }
+                case "reset": {
+                    EntityTickMetrics.reset();
+                    lines.add("Cleared entity tick metrics.");
+                    break;
+                }
+                case "export": {
+                    File exportFile = EntityTickMetrics.exportToFile();
+                    lines.add("Exported entity tick metrics to " + exportFile.getAbsolutePath());
+                    break;
+                }
+                default: {
+                    lines.addAll(EntityTickMetrics.getSummary(10));
+                    break;
+                }
+            }
+            return lines;
+        });
+        registerSubCommand("netstats", "netstats <show|players|reset>", args -> {
+            List<String> lines = new ArrayList<>();
+            switch (args.length > 0 ? args[0] : "show") {
+                case "players": {
+                    lines.addAll(NetworkStats.getPlayerSummary(10));
+                    break;
+                }
+                case "reset": {
+                    NetworkStats.reset();
+                    lines.add("Cleared network stats.");
+                    break;
+                }
+                default: {
+                    lines.addAll(NetworkStats.getSummary(10));
+                    break;
+                }
+            }
+            return lines;
+        });
+    }
+
+    /**
+     * Registers a sub-command.  Sub-commands are the first argument to the root command.
+     */
+    public static void registerSubCommand(String name, String usage, ISubCommand command) {
+        subCommands.put(name, command);
+        subCommandUsages.put(name, usage);
+    }
+
+    /**
+     * Executes the command with the passed-in arguments, and returns the lines to display.
+     */
+    public static List<String> execute(String[] args) {
+        List<String> lines = new ArrayList<>();
+        ISubCommand command = args.length > 0 ? subCommands.get(args[0]) : null;
+        if (command != null) {
+            String[] subArgs = new String[args.length - 1];
+            System.arraycopy(args, 1, subArgs, 0, subArgs.length);
+            try {
+                lines.addAll(command.execute(subArgs));
+            } catch (Exception e) {
+                lines.add("Error running command: " + e.getMessage());
+                e.printStackTrace();
+            }
+        } else {
+            lines.add("Usage:");
+            for (String usage : subCommandUsages.values()) {
+                lines.add("/" + ROOT_COMMAND + " " + usage);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the names of all sub-commands, for tab-completion.
+     */
+    public static List<String> getSubCommandNames() {
+        return new ArrayList<>(subCommands.keySet());
+    }
+
+    @FunctionalInterface
+    public interface ISubCommand {
+        List<String> execute(String[] args) throws Exception;
+    }
+}
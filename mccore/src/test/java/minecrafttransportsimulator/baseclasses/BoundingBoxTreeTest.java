@@ -0,0 +1,159 @@
+package minecrafttransportsimulator.baseclasses;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import minecrafttransportsimulator.jsondefs.JSONCollisionGroup.CollisionType;
+
+/**
+ * Tests for {@link BoundingBoxTree}.  Queries on the tree are checked against checking every box,
+ * both right after the tree is built, and after the boxes move and the tree is refit.
+ *
+ * @author don_bruce
+ */
+public class BoundingBoxTreeTest {
+    private static final CollisionType[] TYPES = { CollisionType.BLOCK, CollisionType.ENTITY, CollisionType.BULLET, CollisionType.CLICK };
+    private static final int QUERIES = 500;
+    private Random random;
+    private Set<BoundingBox> boxes;
+    private BoundingBoxTree tree;
+
+    @Before
+    public void setup() {
+        random = new Random(1);
+        boxes = new LinkedHashSet<>();
+        for (int i = 0; i < 300; ++i) {
+            boxes.add(createBox());
+        }
+        tree = new BoundingBoxTree();
+        tree.update(boxes);
+    }
+
+    @Test
+    public void boundsQueriesMatchAllBoxes() {
+        checkBoundsQueries();
+    }
+
+    @Test
+    public void rayQueriesHaveAllHits() {
+        checkRayQueries();
+    }
+
+    @Test
+    public void queriesMatchAfterBoxesMove() {
+        checkBoundsQueries();
+        for (BoundingBox box : boxes) {
+            box.globalCenter.add(random.nextDouble() * 4 - 2, random.nextDouble() * 4 - 2, random.nextDouble() * 4 - 2);
+        }
+        tree.update(boxes);
+        checkBoundsQueries();
+        checkRayQueries();
+    }
+
+    @Test
+    public void queriesMatchAfterBoxesChange() {
+        checkBoundsQueries();
+        List<BoundingBox> boxList = new ArrayList<>(boxes);
+        for (int i = 0; i < 100; ++i) {
+            boxes.remove(boxList.get(i));
+        }
+        for (int i = 0; i < 50; ++i) {
+            boxes.add(createBox());
+        }
+        tree.update(boxes);
+        checkBoundsQueries();
+        checkRayQueries();
+    }
+
+    @Test
+    public void emptyTreeHasNoResults() {
+        tree.update(Collections.emptySet());
+        List<BoundingBox> results = new ArrayList<>();
+        int typeMask = BoundingBoxTree.getTypeMask(TYPES);
+        tree.getIntersecting(-100, -100, -100, 100, 100, 100, typeMask, results);
+        tree.getRayCandidates(new Point3D(-100, 0, 0), new Point3D(100, 0, 0), typeMask, results);
+        assertTrue(results.isEmpty());
+        assertFalse(tree.intersects(-100, -100, -100, 100, 100, 100, typeMask));
+    }
+
+    private void checkBoundsQueries() {
+        List<BoundingBox> results = new ArrayList<>();
+        for (int i = 0; i < QUERIES; ++i) {
+            BoundingBox queryBox = new BoundingBox(createPoint(), random.nextDouble() * 4, random.nextDouble() * 4, random.nextDouble() * 4);
+            int typeMask = createTypeMask();
+            Set<BoundingBox> expected = new HashSet<>();
+            for (BoundingBox box : boxes) {
+                if (hasType(box, typeMask) && box.intersects(queryBox)) {
+                    expected.add(box);
+                }
+            }
+
+            results.clear();
+            tree.getIntersecting(queryBox.globalCenter.x - queryBox.widthRadius, queryBox.globalCenter.y - queryBox.heightRadius, queryBox.globalCenter.z - queryBox.depthRadius, queryBox.globalCenter.x + queryBox.widthRadius, queryBox.globalCenter.y + queryBox.heightRadius, queryBox.globalCenter.z + queryBox.depthRadius, typeMask, results);
+            assertEquals(expected.size(), results.size());
+            assertEquals(expected, new HashSet<>(results));
+            assertEquals(!expected.isEmpty(), tree.intersects(queryBox.globalCenter.x - queryBox.widthRadius, queryBox.globalCenter.y - queryBox.heightRadius, queryBox.globalCenter.z - queryBox.depthRadius, queryBox.globalCenter.x + queryBox.widthRadius, queryBox.globalCenter.y + queryBox.heightRadius, queryBox.globalCenter.z + queryBox.depthRadius, typeMask));
+        }
+    }
+
+    private void checkRayQueries() {
+        List<BoundingBox> results = new ArrayList<>();
+        int hitCount = 0;
+        for (int i = 0; i < QUERIES; ++i) {
+            Point3D start = createPoint();
+            Point3D end = start.copy().add(random.nextDouble() * 40 - 20, random.nextDouble() * 40 - 20, random.nextDouble() * 40 - 20);
+            int typeMask = createTypeMask();
+            results.clear();
+            tree.getRayCandidates(start, end, typeMask, results);
+            assertEquals(results.size(), new HashSet<>(results).size());
+            for (BoundingBox box : boxes) {
+                if (hasType(box, typeMask) && box.getIntersection(start, end) != null) {
+                    assertTrue(results.contains(box));
+                    ++hitCount;
+                }
+            }
+            for (BoundingBox box : results) {
+                assertTrue(hasType(box, typeMask));
+            }
+        }
+        //Make sure the rays actually hit things, otherwise this doesn't check much.
+        assertTrue(hitCount > QUERIES / 10);
+    }
+
+    private BoundingBox createBox() {
+        Set<CollisionType> types = EnumSet.noneOf(CollisionType.class);
+        do {
+            for (CollisionType type : TYPES) {
+                if (random.nextInt(3) == 0) {
+                    types.add(type);
+                }
+            }
+        } while (types.isEmpty());
+        return new BoundingBox(createPoint(), 0.1 + random.nextDouble(), 0.1 + random.nextDouble(), 0.1 + random.nextDouble(), types);
+    }
+
+    private Point3D createPoint() {
+        return new Point3D(random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10);
+    }
+
+    private int createTypeMask() {
+        return random.nextInt(4) == 0 ? BoundingBoxTree.getTypeMask(TYPES) : BoundingBoxTree.getTypeMask(TYPES[random.nextInt(TYPES.length)]);
+    }
+
+    private static boolean hasType(BoundingBox box, int typeMask) {
+        return (BoundingBoxTree.getTypeMask(box.collisionTypes.toArray(new CollisionType[0])) & typeMask) != 0;
+    }
+}
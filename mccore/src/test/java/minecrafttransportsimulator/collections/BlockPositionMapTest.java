@@ -0,0 +1,69 @@
+package minecrafttransportsimulator.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link BlockPositionMap}.  Random puts and removes are checked against a {@link HashMap}
+ * of the same keys, as removes move positions around and the values need to move with them.
+ *
+ * @author don_bruce
+ */
+public class BlockPositionMapTest {
+
+    @Test
+    public void matchesHashMap() {
+        Random random = new Random(1);
+        BlockPositionMap<Integer> map = new BlockPositionMap<>();
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 50000; ++i) {
+            int x = random.nextInt(40) - 20;
+            int y = random.nextInt(40) - 20;
+            int z = random.nextInt(40) - 20;
+            long key = BlockPositionSet.getKey(x, y, z);
+            if (random.nextInt(3) != 0) {
+                map.put(x, y, z, i);
+                expected.put(key, i);
+            } else {
+                assertEquals(expected.remove(key) != null, map.remove(x, y, z));
+            }
+            assertEquals(expected.get(key), map.get(key));
+        }
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    public void putReplacesValue() {
+        BlockPositionMap<String> map = new BlockPositionMap<>();
+        map.put(1, 2, 3, "first");
+        map.put(1, 2, 3, "second");
+        assertEquals(1, map.size());
+        assertEquals("second", map.get(1, 2, 3));
+    }
+
+    @Test
+    public void clearRemovesAllValues() {
+        BlockPositionMap<String> map = new BlockPositionMap<>();
+        for (int i = 0; i < 100; ++i) {
+            map.put(i, 0, -i, "value");
+        }
+        map.clear();
+        assertTrue(map.isEmpty());
+        for (int i = 0; i < 100; ++i) {
+            assertNull(map.get(i, 0, -i));
+        }
+        map.put(5, 0, -5, "again");
+        assertEquals("again", map.get(5, 0, -5));
+        assertEquals(1, map.size());
+    }
+}
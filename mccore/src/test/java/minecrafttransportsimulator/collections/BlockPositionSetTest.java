@@ -0,0 +1,93 @@
+package minecrafttransportsimulator.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link BlockPositionSet}.  Random adds and removes are checked against a {@link HashSet}
+ * of the same keys, including that iterating by index goes over exactly the positions in the set.
+ *
+ * @author don_bruce
+ */
+public class BlockPositionSetTest {
+
+    @Test
+    public void keysRoundTrip() {
+        int[][] positions = { { 0, 0, 0 }, { 1, 2, 3 }, { -1, -1, -1 }, { 30000000, 2047, -30000000 }, { -30000000, -2048, 30000000 }, { 123, -64, -456 } };
+        for (int[] position : positions) {
+            long key = BlockPositionSet.getKey(position[0], position[1], position[2]);
+            assertEquals(position[0], BlockPositionSet.getX(key));
+            assertEquals(position[1], BlockPositionSet.getY(key));
+            assertEquals(position[2], BlockPositionSet.getZ(key));
+        }
+    }
+
+    @Test
+    public void matchesHashSet() {
+        Random random = new Random(1);
+        BlockPositionSet set = new BlockPositionSet();
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 50000; ++i) {
+            int x = random.nextInt(40) - 20;
+            int y = random.nextInt(40) - 20;
+            int z = random.nextInt(40) - 20;
+            long key = BlockPositionSet.getKey(x, y, z);
+            switch (random.nextInt(3)) {
+                case 0:
+                case 1:
+                    assertEquals(expected.add(key), set.add(x, y, z));
+                    break;
+                default:
+                    assertEquals(expected.remove(key), set.remove(x, y, z));
+                    break;
+            }
+            assertEquals(expected.contains(key), set.contains(key));
+        }
+        checkSame(expected, set);
+    }
+
+    @Test
+    public void clearKeepsSetUsable() {
+        BlockPositionSet set = new BlockPositionSet();
+        Set<Long> expected = new HashSet<>();
+        for (int pass = 0; pass < 3; ++pass) {
+            set.clear();
+            expected.clear();
+            assertTrue(set.isEmpty());
+            for (int i = 0; i < 1000; ++i) {
+                long key = BlockPositionSet.getKey(i * (pass + 1), pass, -i);
+                set.add(key);
+                expected.add(key);
+            }
+            checkSame(expected, set);
+        }
+    }
+
+    @Test
+    public void removingMissingPositionDoesNothing() {
+        BlockPositionSet set = new BlockPositionSet();
+        set.add(1, 2, 3);
+        assertFalse(set.remove(3, 2, 1));
+        assertEquals(1, set.size());
+        assertTrue(set.contains(1, 2, 3));
+    }
+
+    private static void checkSame(Set<Long> expected, BlockPositionSet set) {
+        assertEquals(expected.size(), set.size());
+        Set<Long> iterated = new HashSet<>();
+        for (int i = 0; i < set.size(); ++i) {
+            iterated.add(set.get(i));
+        }
+        assertEquals(expected, iterated);
+        for (long key : expected) {
+            assertTrue(set.contains(key));
+        }
+    }
+}
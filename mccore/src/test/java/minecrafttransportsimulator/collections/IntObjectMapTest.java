@@ -0,0 +1,83 @@
+package minecrafttransportsimulator.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link IntObjectMap}.  Random puts are checked against a {@link HashMap} with the same puts.
+ *
+ * @author don_bruce
+ */
+public class IntObjectMapTest {
+
+    @Test
+    public void matchesHashMap() {
+        Random random = new Random(1);
+        IntObjectMap<Integer> map = new IntObjectMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20000; ++i) {
+            //Mix of small keys that get re-used, and large ones that are spread out.
+            int key = random.nextBoolean() ? 1 + random.nextInt(500) : 1 + random.nextInt(Integer.MAX_VALUE - 1);
+            map.put(key, i);
+            expected.put(key, i);
+        }
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        for (int i = 0; i < 20000; ++i) {
+            int key = 1 + random.nextInt(Integer.MAX_VALUE - 1);
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    public void putReplacesValue() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        map.put(7, "first");
+        map.put(7, "second");
+        assertEquals(1, map.size());
+        assertEquals("second", map.get(7));
+    }
+
+    @Test
+    public void clearRemovesAllKeys() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        for (int i = 1; i <= 100; ++i) {
+            map.put(i, "value");
+        }
+        map.clear();
+        assertTrue(map.isEmpty());
+        for (int i = 1; i <= 100; ++i) {
+            assertNull(map.get(i));
+        }
+        map.put(50, "again");
+        assertEquals("again", map.get(50));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void missingKeysReturnNull() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        assertNull(map.get(1));
+        assertNull(map.get(0));
+        assertNull(map.get(-5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroKeyIsRejected() {
+        new IntObjectMap<String>().put(0, "value");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeKeyIsRejected() {
+        new IntObjectMap<String>().put(-1, "value");
+    }
+}
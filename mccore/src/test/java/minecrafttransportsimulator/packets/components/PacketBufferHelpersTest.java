@@ -0,0 +1,140 @@
+package minecrafttransportsimulator.packets.components;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Tests for the buffer helpers in {@link APacketBase}: variable-length ints, and compressed data.
+ *
+ * @author don_bruce
+ */
+public class PacketBufferHelpersTest {
+    private static final int[] INT_VALUES = { 0, 1, 63, 64, 127, 128, 255, 16383, 16384, 2097151, 2097152, Integer.MAX_VALUE, -1, -64, -65, Integer.MIN_VALUE };
+    private ByteBuf buf;
+
+    @Before
+    public void setup() {
+        TestPacketInterface.install();
+        buf = Unpooled.buffer();
+    }
+
+    @After
+    public void cleanup() {
+        buf.release();
+    }
+
+    @Test
+    public void varIntRoundTrips() {
+        for (int value : INT_VALUES) {
+            APacketBase.writeVarIntToBuffer(value, buf);
+        }
+        for (int value : INT_VALUES) {
+            assertEquals(value, APacketBase.readVarIntFromBuffer(buf));
+        }
+        assertEquals(0, buf.readableBytes());
+    }
+
+    @Test
+    public void varIntUsesFewBytesForSmallValues() {
+        assertEquals(1, getVarIntLength(0));
+        assertEquals(1, getVarIntLength(127));
+        assertEquals(2, getVarIntLength(128));
+        assertEquals(2, getVarIntLength(16383));
+        assertEquals(3, getVarIntLength(16384));
+        assertEquals(5, getVarIntLength(Integer.MAX_VALUE));
+        assertEquals(5, getVarIntLength(-1));
+    }
+
+    @Test
+    public void signedVarIntRoundTrips() {
+        for (int value : INT_VALUES) {
+            APacketBase.writeSignedVarIntToBuffer(value, buf);
+        }
+        for (int value : INT_VALUES) {
+            assertEquals(value, APacketBase.readSignedVarIntFromBuffer(buf));
+        }
+        assertEquals(0, buf.readableBytes());
+    }
+
+    @Test
+    public void signedVarIntUsesFewBytesForSmallNegativeValues() {
+        APacketBase.writeSignedVarIntToBuffer(-1, buf);
+        APacketBase.writeSignedVarIntToBuffer(-64, buf);
+        assertEquals(2, buf.readableBytes());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void varIntLongerThanFiveBytesIsRejected() {
+        buf.writeBytes(new byte[] { (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01 });
+        APacketBase.readVarIntFromBuffer(buf);
+    }
+
+    @Test
+    public void smallDataIsNotCompressed() {
+        byte[] data = new byte[100];
+        new Random(1).nextBytes(data);
+        APacketBase.writeCompressedDataToBuffer(TestPacketInterface.createData(data), buf);
+        assertFalse(buf.getBoolean(0));
+        assertArrayEquals(data, TestPacketInterface.getDataBytes(APacketBase.readCompressedDataFromBuffer(buf)));
+        assertEquals(0, buf.readableBytes());
+    }
+
+    @Test
+    public void largeDataIsCompressed() {
+        //Entity data is mostly repeated keys, so make data like that.
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 2000; ++i) {
+            builder.append("variables").append(i % 50).append("position").append("uniqueUUID");
+        }
+        byte[] data = builder.toString().getBytes();
+        APacketBase.writeCompressedDataToBuffer(TestPacketInterface.createData(data), buf);
+        assertTrue(buf.getBoolean(0));
+        assertTrue(buf.readableBytes() < data.length / 10);
+        assertArrayEquals(data, TestPacketInterface.getDataBytes(APacketBase.readCompressedDataFromBuffer(buf)));
+        assertEquals(0, buf.readableBytes());
+    }
+
+    @Test
+    public void randomDataRoundTrips() {
+        //Random data doesn't compress, so the compressor has to grow its output past the input length.
+        byte[] data = new byte[50000];
+        new Random(2).nextBytes(data);
+        APacketBase.writeCompressedDataToBuffer(TestPacketInterface.createData(data), buf);
+        assertArrayEquals(data, TestPacketInterface.getDataBytes(APacketBase.readCompressedDataFromBuffer(buf)));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void truncatedCompressedDataIsRejected() {
+        byte[] data = new byte[1000];
+        APacketBase.writeCompressedDataToBuffer(TestPacketInterface.createData(data), buf);
+        //Claim the data is longer than it is, so the compressed bytes run out early.
+        ByteBuf badBuf = Unpooled.buffer();
+        try {
+            buf.readBoolean();
+            APacketBase.readVarIntFromBuffer(buf);
+            badBuf.writeBoolean(true);
+            APacketBase.writeVarIntToBuffer(data.length * 2, badBuf);
+            badBuf.writeBytes(buf);
+            APacketBase.readCompressedDataFromBuffer(badBuf);
+        } finally {
+            badBuf.release();
+        }
+    }
+
+    private int getVarIntLength(int value) {
+        buf.clear();
+        APacketBase.writeVarIntToBuffer(value, buf);
+        return buf.readableBytes();
+    }
+}
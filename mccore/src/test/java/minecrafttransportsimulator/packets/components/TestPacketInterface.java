@@ -0,0 +1,132 @@
+package minecrafttransportsimulator.packets.components;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.netty.buffer.ByteBuf;
+import minecrafttransportsimulator.entities.components.AEntityA_Base;
+import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+import minecrafttransportsimulator.mcinterface.IInterfaceCore;
+import minecrafttransportsimulator.mcinterface.IInterfacePacket;
+import minecrafttransportsimulator.mcinterface.IWrapperNBT;
+import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
+import minecrafttransportsimulator.mcinterface.InterfaceManager;
+
+/**
+ * Packet interface for tests.  Packets are registered like normal, but sent packets are just kept in
+ * {@link #sentPackets} rather than going anywhere.  Data is made with {@link #createData(byte[])}, and is
+ * just the passed-in bytes, so tests can check data makes it through without needing MC's NBT classes.
+ *
+ * @author don_bruce
+ */
+public class TestPacketInterface implements IInterfacePacket {
+    public final List<APacketBase> sentPackets = new ArrayList<>();
+    private final Map<Class<? extends APacketBase>, Byte> packetIndexes = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private final Function<ByteBuf, APacketBase>[] packetFactories = new Function[256];
+
+    /**
+     * Creates a new interface and sets it as the one the core uses.  The core interface is also set to one
+     * that ignores all calls, as packets log errors through it.
+     */
+    public static TestPacketInterface install() {
+        TestPacketInterface packetInterface = new TestPacketInterface();
+        InterfaceManager.packetInterface = packetInterface;
+        InterfaceManager.coreInterface = (IInterfaceCore) Proxy.newProxyInstance(IInterfaceCore.class.getClassLoader(), new Class<?>[] { IInterfaceCore.class }, (proxy, method, args) -> null);
+        return packetInterface;
+    }
+
+    /**
+     * Returns data that is just the passed-in bytes.
+     */
+    public static IWrapperNBT createData(byte[] bytes) {
+        return (IWrapperNBT) Proxy.newProxyInstance(IWrapperNBT.class.getClassLoader(), new Class<?>[] { IWrapperNBT.class }, new TestData(bytes));
+    }
+
+    /**
+     * Returns the bytes of data made by {@link #createData(byte[])}.
+     */
+    public static byte[] getDataBytes(IWrapperNBT data) {
+        return ((TestData) Proxy.getInvocationHandler(data)).bytes;
+    }
+
+    @Override
+    public void registerPacket(byte packetIndex, Class<? extends APacketBase> packetClass, Function<ByteBuf, APacketBase> packetFactory) {
+        packetIndexes.put(packetClass, packetIndex);
+        packetFactories[packetIndex & 0xFF] = packetFactory;
+    }
+
+    @Override
+    public byte getPacketIndex(APacketBase packet) {
+        return packetIndexes.get(packet.getClass());
+    }
+
+    @Override
+    public void sendToServer(APacketBase packet) {
+        sentPackets.add(packet);
+    }
+
+    @Override
+    public void sendToAllClients(APacketBase packet) {
+        sentPackets.add(packet);
+    }
+
+    @Override
+    public void sendToAllClientsInWorld(APacketBase packet, AWrapperWorld world) {
+        sentPackets.add(packet);
+    }
+
+    @Override
+    public void sendToTrackingClients(APacketBase packet, AEntityA_Base entity) {
+        sentPackets.add(packet);
+    }
+
+    @Override
+    public List<IWrapperPlayer> getTrackingPlayers(AEntityA_Base entity) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void sendToPlayer(APacketBase packet, IWrapperPlayer player) {
+        sentPackets.add(packet);
+    }
+
+    @Override
+    public APacketBase readPacketFromBuffer(ByteBuf buf) {
+        return packetFactories[buf.readByte() & 0xFF].apply(buf);
+    }
+
+    @Override
+    public void writeDataToBuffer(IWrapperNBT data, ByteBuf buf) {
+        byte[] bytes = getDataBytes(data);
+        buf.writeInt(bytes.length);
+        buf.writeBytes(bytes);
+    }
+
+    @Override
+    public IWrapperNBT readDataFromBuffer(ByteBuf buf) {
+        byte[] bytes = new byte[buf.readInt()];
+        buf.readBytes(bytes);
+        return createData(bytes);
+    }
+
+    private static class TestData implements InvocationHandler {
+        private final byte[] bytes;
+
+        private TestData(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            throw new UnsupportedOperationException("Test data is just bytes, it can't be used as NBT.");
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package minecrafttransportsimulator.packets.components;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.packets.instances.PacketEntityVariableKeys;
+
+/**
+ * Tests for {@link VariableKeyDictionary}.  Keys go from a server dictionary to a client one the same way
+ * they do in-game: by writing the key packets to a buffer, reading them back, and handling them.
+ *
+ * @author don_bruce
+ */
+public class VariableKeyDictionaryTest {
+    private TestPacketInterface packetInterface;
+
+    @Before
+    public void setup() {
+        packetInterface = TestPacketInterface.install();
+        packetInterface.registerPacket((byte) 1, PacketEntityVariableKeys.class, PacketEntityVariableKeys::new);
+    }
+
+    @Test
+    public void registerKeyGivesEachKeyOneID() {
+        VariableKeyDictionary dictionary = new VariableKeyDictionary();
+        assertEquals(1, dictionary.registerKey("engine_rpm"));
+        assertEquals(2, dictionary.registerKey("door"));
+        assertEquals(1, dictionary.registerKey("engine_rpm"));
+        assertEquals(2, dictionary.getKeyID("door"));
+        assertEquals("engine_rpm", dictionary.getKey(1));
+        assertEquals(2, packetInterface.sentPackets.size());
+    }
+
+    @Test
+    public void unknownKeysHaveNoID() {
+        VariableKeyDictionary dictionary = new VariableKeyDictionary();
+        dictionary.registerKey("door");
+        assertEquals(0, dictionary.getKeyID("hood"));
+        assertNull(dictionary.getKey(0));
+        assertNull(dictionary.getKey(-1));
+        assertNull(dictionary.getKey(2));
+        assertNull(dictionary.getKey(100000));
+    }
+
+    @Test
+    public void registeredKeysReachClient() {
+        VariableKeyDictionary server = new VariableKeyDictionary();
+        server.registerKey("door");
+        server.registerKey("hood");
+        for (APacketBase packet : packetInterface.sentPackets) {
+            sendToClient(packet);
+        }
+        assertEquals(server.getDictionaryID(), VariableKeyDictionary.clientDictionary.getDictionaryID());
+        assertEquals("door", VariableKeyDictionary.clientDictionary.getKey(1));
+        assertEquals(2, VariableKeyDictionary.clientDictionary.getKeyID("hood"));
+    }
+
+    @Test
+    public void allKeysPacketsHaveEveryKey() {
+        VariableKeyDictionary server = new VariableKeyDictionary();
+        for (int i = 0; i < 1100; ++i) {
+            server.registerKey("key_" + i);
+        }
+        List<PacketEntityVariableKeys> packets = server.getAllKeysPackets();
+        assertEquals(3, packets.size());
+        for (PacketEntityVariableKeys packet : packets) {
+            sendToClient(packet);
+        }
+        for (int i = 0; i < 1100; ++i) {
+            assertEquals(server.getKeyID("key_" + i), VariableKeyDictionary.clientDictionary.getKeyID("key_" + i));
+        }
+        assertNull(VariableKeyDictionary.clientDictionary.getKey(1101));
+    }
+
+    @Test
+    public void keysFromSameDictionaryAreKept() {
+        VariableKeyDictionary client = new VariableKeyDictionary();
+        client.setKeys(5, new int[] { 1 }, new String[] { "door" });
+        client.setKeys(5, new int[] { 2 }, new String[] { "hood" });
+        assertEquals("door", client.getKey(1));
+        assertEquals("hood", client.getKey(2));
+    }
+
+    @Test
+    public void keysFromOtherDictionaryReplaceOldKeys() {
+        VariableKeyDictionary client = new VariableKeyDictionary();
+        client.setKeys(5, new int[] { 1, 2 }, new String[] { "door", "hood" });
+        client.setKeys(6, new int[] { 1 }, new String[] { "trunk" });
+        assertEquals(6, client.getDictionaryID());
+        assertEquals("trunk", client.getKey(1));
+        assertNull(client.getKey(2));
+        assertEquals(0, client.getKeyID("door"));
+        assertEquals(0, client.getKeyID("hood"));
+    }
+
+    private static void sendToClient(APacketBase packet) {
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            packet.writeToBuffer(buf);
+            InterfaceManager.packetInterface.readPacketFromBuffer(buf).handle(null);
+        } finally {
+            buf.release();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package minecrafttransportsimulator.packets.instances;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.packets.components.APacketBase;
+import minecrafttransportsimulator.packets.components.TestPacketInterface;
+
+/**
+ * Tests for {@link PacketChunk}.  Packets are split, the chunks are sent through a buffer like they would
+ * be over the network, and the packet that comes out the other side is checked against the one that went in.
+ *
+ * @author don_bruce
+ */
+public class PacketChunkTest {
+    private static final List<byte[]> handledPayloads = new ArrayList<>();
+
+    @Before
+    public void setup() {
+        TestPacketInterface packetInterface = TestPacketInterface.install();
+        packetInterface.registerPacket((byte) 1, PayloadPacket.class, PayloadPacket::new);
+        packetInterface.registerPacket((byte) 2, PacketChunk.class, PacketChunk::new);
+        handledPayloads.clear();
+        PayloadPacket.encodeCount = 0;
+    }
+
+    @Test
+    public void smallPacketIsNotSplit() {
+        assertNull(PacketChunk.split(new PayloadPacket(createPayload(1000, 1))));
+    }
+
+    @Test
+    public void largePacketIsPutBackTogether() {
+        byte[] payload = createPayload(100000, 2);
+        List<PacketChunk> chunks = PacketChunk.split(new PayloadPacket(payload));
+        assertEquals(4, chunks.size());
+        for (PacketChunk chunk : chunks) {
+            assertTrue(chunk.getEncodedBytes().length < 32100);
+            assertEquals(0, handledPayloads.size());
+            send(chunk);
+        }
+        assertEquals(1, handledPayloads.size());
+        assertArrayEquals(payload, handledPayloads.get(0));
+    }
+
+    @Test
+    public void packetsAfterAnUnfinishedOneStillArrive() {
+        List<PacketChunk> firstChunks = PacketChunk.split(new PayloadPacket(createPayload(70000, 3)));
+        send(firstChunks.get(0));
+        byte[] payload = createPayload(70000, 4);
+        for (PacketChunk chunk : PacketChunk.split(new PayloadPacket(payload))) {
+            send(chunk);
+        }
+        //Rest of the first packet comes late, it should be skipped rather than mixed in.
+        send(firstChunks.get(1));
+        send(firstChunks.get(2));
+        assertEquals(1, handledPayloads.size());
+        assertArrayEquals(payload, handledPayloads.get(0));
+    }
+
+    @Test
+    public void missingChunkSkipsPacket() {
+        List<PacketChunk> chunks = PacketChunk.split(new PayloadPacket(createPayload(100000, 5)));
+        send(chunks.get(0));
+        send(chunks.get(2));
+        send(chunks.get(3));
+        assertEquals(0, handledPayloads.size());
+    }
+
+    @Test
+    public void packetIsOnlyEncodedOnce() {
+        PayloadPacket packet = new PayloadPacket(createPayload(1000, 6));
+        assertNull(PacketChunk.split(packet));
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            packet.writeEncodedToBuffer(buf);
+            assertEquals(1, PayloadPacket.encodeCount);
+            assertEquals(packet.getEncodedBytes().length, buf.readableBytes());
+            InterfaceManager.packetInterface.readPacketFromBuffer(buf).handle(null);
+            assertArrayEquals(createPayload(1000, 6), handledPayloads.get(0));
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static byte[] createPayload(int length, long seed) {
+        byte[] payload = new byte[length];
+        new Random(seed).nextBytes(payload);
+        return payload;
+    }
+
+    private static void send(APacketBase packet) {
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            packet.writeEncodedToBuffer(buf);
+            InterfaceManager.packetInterface.readPacketFromBuffer(buf).handle(null);
+        } finally {
+            buf.release();
+        }
+    }
+
+    public static class PayloadPacket extends APacketBase {
+        private static int encodeCount;
+        private final byte[] payload;
+
+        public PayloadPacket(byte[] payload) {
+            super(null);
+            this.payload = payload;
+        }
+
+        public PayloadPacket(ByteBuf buf) {
+            super(buf);
+            this.payload = new byte[buf.readInt()];
+            buf.readBytes(payload);
+        }
+
+        @Override
+        public void writeToBuffer(ByteBuf buf) {
+            ++encodeCount;
+            super.writeToBuffer(buf);
+            buf.writeInt(payload.length);
+            buf.writeBytes(payload);
+        }
+
+        @Override
+        public void handle(AWrapperWorld world) {
+            handledPayloads.add(payload);
+        }
+
+        @Override
+        public boolean shouldChunk() {
+            return true;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package mcinterface1122;
 import java.util.ArrayList;
 import java.util.List;
 
+import minecrafttransportsimulator.baseclasses.Point3D;
+import minecrafttransportsimulator.entities.components.AEntityA_Base;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
@@ -88,12 +90,19 @@ public abstract class ABuilderEntityBase extends Entity {
                 }
             }
         } else if (loadedFromSavedNBT) {
-            //Send any packets to clients that requested them.
+            //Queue packets for clients that requested them.  They'll get sent when there's bandwidth.
             if (!playersRequestingData.isEmpty()) {
+                Point3D position = new Point3D(posX, posY, posZ);
+                AEntityA_Base syncedEntity = this instanceof BuilderEntityExisting ? ((BuilderEntityExisting) this).entity : null;
                 for (IWrapperPlayer player : playersRequestingData) {
-                    IWrapperNBT data = InterfaceManager.coreInterface.getNewNBTWrapper();
-                    writeToNBT(((WrapperNBT) data).tag);
-                    player.sendPacket(new PacketEntityCSHandshakeServer(this, data));
+                    WrapperWorld.getWrapperFor(world).syncScheduler.queueSync(player, position, syncedEntity, () -> {
+                        if (isDead) {
+                            return null;
+                        }
+                        IWrapperNBT data = InterfaceManager.coreInterface.getNewNBTWrapper();
+                        writeToNBT(((WrapperNBT) data).tag);
+                        return new PacketEntityCSHandshakeServer(this, data);
+                    });
                 }
                 playersRequestingData.clear();
             }
@@ -106,12 +106,18 @@ public class BuilderTileEntity<TileEntityType extends ATileEntityBase<?>> extend
                     needDataFromServer = false;
                 }
             } else {
-                //Send any packets to clients that requested them.
+                //Queue packets for clients that requested them.  They'll get sent when there's bandwidth.
                 if (!playersRequestingData.isEmpty()) {
+                    Point3D position = new Point3D(getPos().getX() + 0.5, getPos().getY() + 0.5, getPos().getZ() + 0.5);
                     for (IWrapperPlayer player : playersRequestingData) {
-                        IWrapperNBT data = InterfaceManager.coreInterface.getNewNBTWrapper();
-                        writeToNBT(((WrapperNBT) data).tag);
-                        player.sendPacket(new PacketEntityCSHandshakeServer(this, data));
+                        WrapperWorld.getWrapperFor(world).syncScheduler.queueSync(player, position, tileEntity, () -> {
+                            if (isInvalid()) {
+                                return null;
+                            }
+                            IWrapperNBT data = InterfaceManager.coreInterface.getNewNBTWrapper();
+                            writeToNBT(((WrapperNBT) data).tag);
+                            return new PacketEntityCSHandshakeServer(this, data);
+                        });
                     }
                     playersRequestingData.clear();
                 }
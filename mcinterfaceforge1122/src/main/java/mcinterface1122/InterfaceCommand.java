@@ -0,0 +1,49 @@
+package mcinterface1122;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import minecrafttransportsimulator.systems.CommandSystem;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+
+/**
+ * Command for the /mts command.  All logic is handled by the {@link CommandSystem},
+ * this just forwards the arguments there and sends the result back to the sender.
+ *
+ * @author don_bruce
+ */
+class InterfaceCommand extends CommandBase {
+
+    @Override
+    public String getName() {
+        return CommandSystem.ROOT_COMMAND;
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "/" + CommandSystem.ROOT_COMMAND;
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 2;
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) {
+        for (String line : CommandSystem.execute(args)) {
+            sender.sendMessage(new TextComponentString(line));
+        }
+    }
+
+    @Override
+    public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, @Nullable BlockPos targetPos) {
+        return args.length == 1 ? getListOfStringsMatchingLastWord(args, CommandSystem.getSubCommandNames()) : Collections.emptyList();
+    }
+}
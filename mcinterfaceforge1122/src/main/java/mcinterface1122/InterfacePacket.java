@@ -1,21 +1,32 @@
 package mcinterface1122;
 
 import java.io.IOException;
-
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import io.netty.buffer.ByteBuf;
+import minecrafttransportsimulator.baseclasses.EntityManager;
+import minecrafttransportsimulator.baseclasses.Point3D;
+import minecrafttransportsimulator.entities.components.AEntityA_Base;
+import minecrafttransportsimulator.entities.components.AEntityB_Existing;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
 import minecrafttransportsimulator.mcinterface.IInterfacePacket;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
 import minecrafttransportsimulator.packets.components.APacketBase;
+import minecrafttransportsimulator.packets.components.NetworkStats;
+import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.network.PacketBuffer;
-import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
+import net.minecraftforge.fml.common.network.NetworkRegistry.TargetPoint;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
@@ -24,7 +35,9 @@ import net.minecraftforge.fml.relauncher.Side;
 
 class InterfacePacket implements IInterfacePacket {
     private static final SimpleNetworkWrapper network = NetworkRegistry.INSTANCE.newSimpleChannel(InterfaceLoader.MODID);
-    private static final BiMap<Byte, Class<? extends APacketBase>> packetMappings = HashBiMap.create();
+    private static final Map<Class<? extends APacketBase>, Byte> packetMappings = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private static final Function<ByteBuf, APacketBase>[] packetFactories = new Function[256];
 
     /**
      * Called to init this network.  Needs to be done after networking is ready.
@@ -37,19 +50,20 @@ class InterfacePacket implements IInterfacePacket {
 
         //Register internal packets, then external.
         byte packetIndex = 0;
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityCSHandshakeClient.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityCSHandshakeServer.class);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityCSHandshakeClient.class, PacketEntityCSHandshakeClient::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityCSHandshakeServer.class, PacketEntityCSHandshakeServer::new);
         APacketBase.initPackets(packetIndex);
     }
 
     @Override
-    public void registerPacket(byte packetIndex, Class<? extends APacketBase> packetClass) {
-        packetMappings.put(packetIndex, packetClass);
+    public void registerPacket(byte packetIndex, Class<? extends APacketBase> packetClass, Function<ByteBuf, APacketBase> packetFactory) {
+        packetMappings.put(packetClass, packetIndex);
+        packetFactories[packetIndex & 0xFF] = packetFactory;
     }
 
     @Override
     public byte getPacketIndex(APacketBase packet) {
-        return packetMappings.inverse().get(packet.getClass());
+        return packetMappings.get(packet.getClass());
     }
 
     @Override
@@ -62,9 +76,47 @@ class InterfacePacket implements IInterfacePacket {
         network.sendToAll(new WrapperPacket(packet));
     }
 
+    @Override
+    public void sendToAllClientsInWorld(APacketBase packet, AWrapperWorld world) {
+        network.sendToDimension(new WrapperPacket(packet), ((WrapperWorld) world).world.provider.getDimension());
+    }
+
+    @Override
+    public void sendToTrackingClients(APacketBase packet, AEntityA_Base entity) {
+        World world = ((WrapperWorld) entity.world).world;
+        if (entity instanceof AEntityB_Existing && entity.world.chunkLoaded(((AEntityB_Existing) entity).position)) {
+            Point3D position = ((AEntityB_Existing) entity).position;
+            network.sendToAllTracking(new WrapperPacket(packet), new TargetPoint(world.provider.getDimension(), position.x, position.y, position.z, 0));
+        } else {
+            network.sendToDimension(new WrapperPacket(packet), world.provider.getDimension());
+        }
+    }
+
+    @Override
+    public List<IWrapperPlayer> getTrackingPlayers(AEntityA_Base entity) {
+        List<IWrapperPlayer> players = new ArrayList<>();
+        World world = ((WrapperWorld) entity.world).world;
+        if (entity instanceof AEntityB_Existing && entity.world.chunkLoaded(((AEntityB_Existing) entity).position)) {
+            Point3D position = ((AEntityB_Existing) entity).position;
+            PlayerChunkMap chunkMap = ((WorldServer) world).getPlayerChunkMap();
+            int chunkX = ((int) Math.floor(position.x)) >> 4;
+            int chunkZ = ((int) Math.floor(position.z)) >> 4;
+            for (EntityPlayer player : world.playerEntities) {
+                if (chunkMap.isPlayerWatchingChunk((EntityPlayerMP) player, chunkX, chunkZ)) {
+                    players.add(WrapperPlayer.getWrapperFor(player));
+                }
+            }
+        } else {
+            for (EntityPlayer player : world.playerEntities) {
+                players.add(WrapperPlayer.getWrapperFor(player));
+            }
+        }
+        return players;
+    }
+
     @Override
     public void sendToPlayer(APacketBase packet, IWrapperPlayer player) {
-        network.sendTo(new WrapperPacket(packet), (EntityPlayerMP) ((WrapperPlayer) player).player);
+        network.sendTo(new WrapperPacket(packet, player.getName()), (EntityPlayerMP) ((WrapperPlayer) player).player);
     }
 
     /**
@@ -92,6 +144,23 @@ class InterfacePacket implements IInterfacePacket {
         }
     }
 
+    @Override
+    public APacketBase readPacketFromBuffer(ByteBuf buf) {
+        return readPacket(buf);
+    }
+
+    /**
+     * Reads a packet from the buffer.  The first byte is the packet index, which tells us what factory to use.
+     */
+    private static APacketBase readPacket(ByteBuf buf) {
+        byte packetIndex = buf.readByte();
+        Function<ByteBuf, APacketBase> packetFactory = packetFactories[packetIndex & 0xFF];
+        if (packetFactory == null) {
+            throw new IndexOutOfBoundsException("Was asked to create packet of index " + packetIndex + " but we haven't registered that one yet!");
+        }
+        return packetFactory.apply(buf);
+    }
+
     /**
      * Custom class for packets.  Allows for a common packet to be used for all MC versions,
      * as well as less boilerplate code due to thread operations.  Note that when this packet
@@ -101,6 +170,8 @@ class InterfacePacket implements IInterfacePacket {
      */
     public static class WrapperPacket implements IMessage {
         private APacketBase packet;
+        private String playerName;
+        private int size;
 
         /**
          * Do NOT call!  Required to keep Forge from crashing.
@@ -112,20 +183,26 @@ class InterfacePacket implements IInterfacePacket {
             this.packet = packet;
         }
 
+        public WrapperPacket(APacketBase packet, String playerName) {
+            this.packet = packet;
+            this.playerName = playerName;
+        }
+
         @Override
         public void fromBytes(ByteBuf buf) {
-            byte packetIndex = buf.readByte();
+            size = buf.readableBytes();
             try {
-                Class<? extends APacketBase> packetClass = packetMappings.get(packetIndex);
-                packet = packetClass.getConstructor(ByteBuf.class).newInstance(buf);
-            } catch (Exception e) {
-                e.printStackTrace();
+                packet = readPacket(buf);
+            } catch (IndexOutOfBoundsException e) {
+                //Already logged, nothing else to do as we can't handle this packet.
             }
         }
 
         @Override
         public void toBytes(ByteBuf buf) {
-            packet.writeToBuffer(buf);
+            int startIndex = buf.writerIndex();
+            packet.writeEncodedToBuffer(buf);
+            NetworkStats.recordSent(packet, buf.writerIndex() - startIndex, playerName);
         }
     }
 
@@ -136,22 +213,17 @@ class InterfacePacket implements IInterfacePacket {
     public static class WrapperHandler implements IMessageHandler<WrapperPacket, IMessage> {
         @Override
         public IMessage onMessage(WrapperPacket message, MessageContext ctx) {
+            NetworkStats.recordReceived(message.packet, message.size, ctx.side.isServer() ? ctx.getServerHandler().player.getName() : null);
             if (message.packet.runOnMainThread()) {
-                //Need to put this in a runnable to not run it on the network thread and get a CME.
-                FMLCommonHandler.instance().getWorldThread(ctx.netHandler).addScheduledTask(() -> {
-                    //We need to use side-specific getters here to avoid side-specific classes from trying to be loaded
-                    //by the JVM when this method is created.  Failure to do this will result in network faults.
-                    //For this, we use abstract methods that are extended in our sub-classes.
-                    AWrapperWorld world;
-                    if (ctx.side.isServer()) {
-                        world = getServerWorld(ctx);
-                    } else {
-                        world = InterfaceManager.clientInterface.getClientWorld();
-                    }
-                    if (world != null) {
-                        message.packet.handle(world);
-                    }
-                });
+                //Queue the packet to be handled at the start of the next world tick on this side.
+                //Don't look up the world here, as the player can change worlds before the main thread gets to the packet.
+                //We need to use side-specific getters here to avoid side-specific classes from trying to be loaded
+                //by the JVM when this method is created.  Failure to do this will result in network faults.
+                if (ctx.side.isServer()) {
+                    EntityManager.queuePacket(message.packet, false, () -> getServerWorld(ctx));
+                } else {
+                    EntityManager.queuePacket(message.packet, true, () -> InterfaceManager.clientInterface.getClientWorld());
+                }
             } else {
                 if (ctx.side.isServer()) {
                     message.packet.handle(getServerWorld(ctx));
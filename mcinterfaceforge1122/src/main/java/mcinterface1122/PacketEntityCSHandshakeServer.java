@@ -33,14 +33,14 @@ public class PacketEntityCSHandshakeServer extends APacketBase {
     public PacketEntityCSHandshakeServer(ByteBuf buf) {
         super(buf);
         this.builderID = readStringFromBuffer(buf);
-        this.data = readDataFromBuffer(buf);
+        this.data = readCompressedDataFromBuffer(buf);
     }
 
     @Override
     public void writeToBuffer(ByteBuf buf) {
         super.writeToBuffer(buf);
         writeStringToBuffer(builderID, buf);
-        writeDataToBuffer(data, buf);
+        writeCompressedDataToBuffer(data, buf);
     }
 
     @Override
@@ -63,4 +63,15 @@ public class PacketEntityCSHandshakeServer extends APacketBase {
             }
         }
     }
+
+    @Override
+    public boolean shouldBundle() {
+        //Has NBT data, which can be large.
+        return false;
+    }
+
+    @Override
+    public boolean shouldChunk() {
+        return true;
+    }
 }
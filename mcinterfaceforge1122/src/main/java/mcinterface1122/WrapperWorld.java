@@ -4,10 +4,8 @@ import java.io.File;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 
 import minecrafttransportsimulator.baseclasses.BlockHitResult;
@@ -31,11 +29,14 @@ import minecrafttransportsimulator.items.components.AItemBase;
 import minecrafttransportsimulator.items.components.AItemSubTyped;
 import minecrafttransportsimulator.jsondefs.AJSONMultiModelProvider;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+import minecrafttransportsimulator.mcinterface.BlockCollisionCache.BlockCollisionShape;
 import minecrafttransportsimulator.mcinterface.IWrapperEntity;
 import minecrafttransportsimulator.mcinterface.IWrapperItemStack;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.mcinterface.SavedDataWriter;
+import minecrafttransportsimulator.mcinterface.SavedDataWriter.DataWriter;
 import minecrafttransportsimulator.packets.instances.PacketWorldSavedDataRequest;
 import minecrafttransportsimulator.packets.instances.PacketWorldSavedDataUpdate;
 import minecrafttransportsimulator.packloading.PackParser;
@@ -67,6 +68,7 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemDye;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
@@ -80,6 +82,7 @@ import net.minecraft.world.EnumSkyBlock;
 import net.minecraft.world.World;
 import net.minecraftforge.common.IPlantable;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.BlockEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
@@ -101,10 +104,10 @@ public class WrapperWorld extends AWrapperWorld {
     private final Map<UUID, BuilderEntityExisting> playerServerGunBuilders = new HashMap<>();
     private final Map<UUID, Integer> ticksSincePlayerJoin = new HashMap<>();
     private final List<AxisAlignedBB> mutableCollidingAABBs = new ArrayList<>();
-    private final Set<BlockPos> knownAirBlocks = new HashSet<>();
 
     protected final World world;
     private final IWrapperNBT savedData;
+    private final SavedDataWriter savedDataWriter;
 
     /**
      * Returns a wrapper instance for the passed-in world instance.
@@ -143,6 +146,7 @@ public class WrapperWorld extends AWrapperWorld {
                 throw new IllegalStateException("Could not load saved data from disk!  This will result in data loss if we continue!");
             }
         }
+        this.savedDataWriter = isClient() ? null : new SavedDataWriter(this::getDataFile, this::snapshotSavedData);
         MinecraftForge.EVENT_BUS.register(this);
     }
 
@@ -198,16 +202,21 @@ public class WrapperWorld extends AWrapperWorld {
     public void setData(String name, IWrapperNBT value) {
         savedData.setData(name, value);
         if (!isClient()) {
-            try {
-                CompressedStreamTools.writeCompressed(((WrapperNBT) savedData).tag, Files.newOutputStream(getDataFile().toPath()));
-                InterfaceManager.packetInterface.sendToAllClients(new PacketWorldSavedDataUpdate(name, value));
-            } catch (Exception e) {
-                e.printStackTrace();
-                throw new IllegalStateException("Could not save data to disk!  This will result in data loss if we continue!");
-            }
+            //Don't write here, as this may be called many times a tick.  Let the writer batch the changes.
+            savedDataWriter.markDirty();
+            InterfaceManager.packetInterface.sendToAllClients(new PacketWorldSavedDataUpdate(name, value));
         }
     }
 
+    /**
+     * Takes a snapshot of the saved data for the {@link #savedDataWriter}.
+     * The copy is done here on the server thread so the data can't change while it's being written.
+     */
+    private DataWriter snapshotSavedData() {
+        NBTTagCompound snapshot = ((WrapperNBT) savedData).tag.copy();
+        return stream -> CompressedStreamTools.writeCompressed(snapshot, stream);
+    }
+
     @Override
     public File getDataFile() {
         return new File(world.getSaveHandler().getWorldDirectory(), "mtsdata.dat");
@@ -536,134 +545,31 @@ public class WrapperWorld extends AWrapperWorld {
     }
 
     @Override
-    public void updateBoundingBoxCollisions(BoundingBox box, Point3D collisionMotion, boolean ignoreIfGreater) {
-        AxisAlignedBB mcBox = WrapperWorld.convert(box);
-        box.collidingBlockPositions.clear();
-        mutableCollidingAABBs.clear();
-        for (int i = (int) Math.floor(mcBox.minX); i < Math.ceil(mcBox.maxX); ++i) {
-            for (int j = (int) Math.floor(mcBox.minY); j < Math.ceil(mcBox.maxY); ++j) {
-                for (int k = (int) Math.floor(mcBox.minZ); k < Math.ceil(mcBox.maxZ); ++k) {
-                    BlockPos pos = new BlockPos(i, j, k);
-                    if (world.isBlockLoaded(pos)) {
-                        IBlockState state = world.getBlockState(pos);
-                        if (state.getBlock().canCollideCheck(state, false) && state.getCollisionBoundingBox(world, pos) != null && state.getMaterial() != Material.LEAVES) {
-                            int oldCollidingBlockCount = mutableCollidingAABBs.size();
-                            state.addCollisionBoxToList(world, pos, mcBox, mutableCollidingAABBs, null, false);
-                            if (mutableCollidingAABBs.size() > oldCollidingBlockCount) {
-                                box.collidingBlockPositions.add(new Point3D(i, j, k));
-                            }
-                        }
-                        if (box.collidesWithLiquids && state.getMaterial().isLiquid()) {
-                            mutableCollidingAABBs.add(state.getBoundingBox(world, pos).offset(pos));
-                            box.collidingBlockPositions.add(new Point3D(i, j, k));
-                        }
-                    }
-                }
-            }
-        }
-
-        //If we are in the depth bounds for this collision, set it as the collision depth.
-        box.currentCollisionDepth.set(0D, 0D, 0D);
-        double boxCollisionDepth;
-        for (AxisAlignedBB colBox : mutableCollidingAABBs) {
-            if (collisionMotion.x > 0) {
-                boxCollisionDepth = mcBox.maxX - colBox.minX;
-                if (box.currentCollisionDepth.x < boxCollisionDepth) {
-                    box.currentCollisionDepth.x = boxCollisionDepth;
-                }
-            } else if (collisionMotion.x < 0) {
-                boxCollisionDepth = -(colBox.maxX - mcBox.minX);
-                if (box.currentCollisionDepth.x > boxCollisionDepth) {
-                    box.currentCollisionDepth.x = boxCollisionDepth;
-                }
-            }
-            if (collisionMotion.y > 0) {
-                boxCollisionDepth = mcBox.maxY - colBox.minY;
-                if (box.currentCollisionDepth.y < boxCollisionDepth) {
-                    box.currentCollisionDepth.y = boxCollisionDepth;
-                }
-            } else if (collisionMotion.y < 0) {
-                boxCollisionDepth = -(colBox.maxY - mcBox.minY);
-                if (box.currentCollisionDepth.y > boxCollisionDepth) {
-                    box.currentCollisionDepth.y = boxCollisionDepth;
-                }
-            }
-            if (collisionMotion.z > 0) {
-                boxCollisionDepth = mcBox.maxZ - colBox.minZ;
-                if (box.currentCollisionDepth.z < boxCollisionDepth) {
-                    box.currentCollisionDepth.z = boxCollisionDepth;
-                }
-            } else if (collisionMotion.z < 0) {
-                boxCollisionDepth = -(colBox.maxZ - mcBox.minZ);
-                if (box.currentCollisionDepth.z > boxCollisionDepth) {
-                    box.currentCollisionDepth.z = boxCollisionDepth;
-                }
-            }
-        }
-
-        if (ignoreIfGreater) {
-            if (collisionMotion.x > 0 && box.currentCollisionDepth.x > collisionMotion.x) {
-                box.currentCollisionDepth.x = collisionMotion.x;
-            } else if (collisionMotion.x < 0 && box.currentCollisionDepth.x < collisionMotion.x) {
-                box.currentCollisionDepth.x = collisionMotion.x;
-            }
-            if (collisionMotion.y > 0 && box.currentCollisionDepth.y > collisionMotion.y) {
-                box.currentCollisionDepth.y = collisionMotion.y;
-            } else if (collisionMotion.y < 0 && box.currentCollisionDepth.y < collisionMotion.y) {
-                box.currentCollisionDepth.y = collisionMotion.y;
-            }
-            if (collisionMotion.z > 0 && box.currentCollisionDepth.z > collisionMotion.z) {
-                box.currentCollisionDepth.z = collisionMotion.z;
-            } else if (collisionMotion.z < 0 && box.currentCollisionDepth.z < collisionMotion.z) {
-                box.currentCollisionDepth.z = collisionMotion.z;
-            }
-        }
-
-        if (box.currentCollisionDepth.isZero()) {
-            box.collidingBlockPositions.clear();
-        }
-    }
-
-    @Override
-    public boolean checkForCollisions(BoundingBox box, Point3D offset, boolean clearCache, boolean breakLeaves) {
-        if (clearCache) {
-            knownAirBlocks.clear();
+    protected BlockCollisionShape loadCollisionShape(int x, int y, int z) {
+        BlockPos pos = new BlockPos(x, y, z);
+        if (!world.isBlockLoaded(pos)) {
+            return null;
         }
-        mutableCollidingAABBs.clear();
-        AxisAlignedBB mcBox = WrapperWorld.convertWithOffset(box, offset.x, offset.y, offset.z);
-        for (int i = (int) Math.floor(mcBox.minX); i < Math.ceil(mcBox.maxX); ++i) {
-            for (int j = (int) Math.floor(mcBox.minY); j < Math.ceil(mcBox.maxY); ++j) {
-                for (int k = (int) Math.floor(mcBox.minZ); k < Math.ceil(mcBox.maxZ); ++k) {
-                    BlockPos pos = new BlockPos(i, j, k);
-                    if (!knownAirBlocks.contains(pos)) {
-                        if (world.isBlockLoaded(pos)) {
-                            IBlockState state = world.getBlockState(pos);
-                            if (state.getMaterial() != Material.LEAVES) {
-                                if (state.getBlock().canCollideCheck(state, false) && state.getCollisionBoundingBox(world, pos) != null) {
-                                    int oldCollidingBlockCount = mutableCollidingAABBs.size();
-                                    state.addCollisionBoxToList(world, pos, mcBox, mutableCollidingAABBs, null, false);
-                                    if (mutableCollidingAABBs.size() > oldCollidingBlockCount) {
-                                        return true;
-                                    }
-                                } else {
-                                    knownAirBlocks.add(pos);
-                                }
-                                if (box.collidesWithLiquids && state.getMaterial().isLiquid()) {
-                                    if (mcBox.intersects(state.getBoundingBox(world, pos).offset(pos))) {
-                                        return true;
-                                    }
-                                }
-                            } else if (breakLeaves) {
-                                world.destroyBlock(pos, false);
-                            } else {
-                                knownAirBlocks.add(pos);
-                            }
-                        }
-                    }
+        IBlockState state = world.getBlockState(pos);
+        double[] boxes = BlockCollisionShape.NO_BOXES;
+        if (state.getBlock().canCollideCheck(state, false) && state.getCollisionBoundingBox(world, pos) != null) {
+            //Query a bit past the block, as some blocks, like fences, have boxes that stick out of their space.
+            mutableCollidingAABBs.clear();
+            state.addCollisionBoxToList(world, pos, new AxisAlignedBB(pos).grow(1), mutableCollidingAABBs, null, false);
+            if (!mutableCollidingAABBs.isEmpty()) {
+                boxes = new double[mutableCollidingAABBs.size() * 6];
+                int index = 0;
+                for (AxisAlignedBB colBox : mutableCollidingAABBs) {
+                    boxes[index++] = colBox.minX - x;
+                    boxes[index++] = colBox.minY - y;
+                    boxes[index++] = colBox.minZ - z;
+                    boxes[index++] = colBox.maxX - x;
+                    boxes[index++] = colBox.maxY - y;
+                    boxes[index++] = colBox.maxZ - z;
                 }
             }
         }
-        return false;
+        return BlockCollisionShape.create(boxes, state.getMaterial() == Material.LEAVES, state.getMaterial().isLiquid());
     }
 
     @Override
@@ -1034,6 +940,7 @@ public class WrapperWorld extends AWrapperWorld {
         if (!event.world.isRemote && event.world.equals(world)) {
             if (event.phase.equals(Phase.START)) {
                 tickAll(true);
+                savedDataWriter.tick();
 
                 for (EntityPlayer player : event.world.playerEntities) {
                     UUID playerUUID = player.getUniqueID();
@@ -1080,6 +987,18 @@ public class WrapperWorld extends AWrapperWorld {
         }
     }
 
+    /**
+     * Remove changed blocks from the collision cache, as their shapes may have changed, and wake up any entities next to them.
+     */
+    @SubscribeEvent
+    public void onIVBlockChange(BlockEvent.NeighborNotifyEvent event) {
+        //Need to check if it's our world, because Forge is stupid like that.
+        if (event.getWorld() == world) {
+            BlockPos pos = event.getPos();
+            onBlockChanged(pos.getX(), pos.getY(), pos.getZ());
+        }
+    }
+
     /**
      * Remove all entities from our maps if we unload the world.  This will cause duplicates if we don't.
      * Also remove this wrapper from the created lists, as it's invalid.
@@ -1091,6 +1010,9 @@ public class WrapperWorld extends AWrapperWorld {
             for (AEntityA_Base entity : allEntities) {
                 entity.remove();
             }
+            if (savedDataWriter != null) {
+                savedDataWriter.flush();
+            }
             worldWrappers.remove(world);
         }
     }
@@ -0,0 +1,40 @@
+package mcinterface1165;
+
+import com.mojang.brigadier.arguments.StringArgumentType;
+
+import minecrafttransportsimulator.systems.CommandSystem;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraftforge.event.RegisterCommandsEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+
+/**
+ * Registers the /mts command.  All logic is handled by the {@link CommandSystem},
+ * this just forwards the arguments there and sends the result back to the sender.
+ *
+ * @author don_bruce
+ */
+@EventBusSubscriber
+public class InterfaceCommand {
+    private static final String ARGUMENTS_NAME = "arguments";
+
+    /**
+     * Registers our command with the server's command dispatcher.
+     */
+    @SubscribeEvent
+    public static void onIVRegisterCommands(RegisterCommandsEvent event) {
+        event.getDispatcher().register(Commands.literal(CommandSystem.ROOT_COMMAND).requires(source -> source.hasPermission(2)).executes(context -> runCommand(context.getSource(), new String[0])).then(Commands.argument(ARGUMENTS_NAME, StringArgumentType.greedyString()).suggests((context, builder) -> {
+            CommandSystem.getSubCommandNames().forEach(builder::suggest);
+            return builder.buildFuture();
+        }).executes(context -> runCommand(context.getSource(), StringArgumentType.getString(context, ARGUMENTS_NAME).trim().split("\\s+")))));
+    }
+
+    private static int runCommand(CommandSource source, String[] args) {
+        for (String line : CommandSystem.execute(args)) {
+            source.sendSuccess(new StringTextComponent(line), false);
+        }
+        return 1;
+    }
+}
@@ -72,6 +72,11 @@ class InterfaceCore implements IInterfaceCore {
         InterfaceLoader.LOGGER.error("MTSERROR: " + message);
     }
 
+    @Override
+    public void logInfo(String message) {
+        InterfaceLoader.LOGGER.info(message);
+    }
+
     @Override
     public IWrapperNBT getNewNBTWrapper() {
         return new WrapperNBT();
@@ -390,12 +390,7 @@ public class InterfaceSound implements IInterfaceSound {
             if (soundStream != null) {
                 //Create decoder and decode whole file.
                 OGGDecoder decoder = new OGGDecoder(soundStream);
-                ByteBuffer decodedData = ByteBuffer.allocateDirect(0);
-                ByteBuffer blockRead;
-                while ((blockRead = decoder.readBlock()) != null) {
-                    decodedData = ByteBuffer.allocateDirect(decodedData.capacity() + blockRead.limit()).put(decodedData).put(blockRead);
-                    decodedData.rewind();
-                }
+                ByteBuffer decodedData = decoder.readAllBlocks();
 
                 //Generate an IntBuffer to store a pointer to the data buffer.
                 IntBuffer dataBufferPointers = BufferUtils.createIntBuffer(1);
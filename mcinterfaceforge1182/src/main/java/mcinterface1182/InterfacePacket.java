@@ -1,20 +1,33 @@
 package mcinterface1182;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
-
 import io.netty.buffer.ByteBuf;
+import minecrafttransportsimulator.baseclasses.EntityManager;
+import minecrafttransportsimulator.baseclasses.Point3D;
+import minecrafttransportsimulator.entities.components.AEntityA_Base;
+import minecrafttransportsimulator.entities.components.AEntityB_Existing;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
 import minecrafttransportsimulator.mcinterface.IInterfacePacket;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
 import minecrafttransportsimulator.packets.components.APacketBase;
+import minecrafttransportsimulator.packets.components.NetworkStats;
+import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.network.NetworkDirection;
 import net.minecraftforge.network.NetworkEvent;
 import net.minecraftforge.network.NetworkRegistry;
@@ -22,9 +35,11 @@ import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
 
 class InterfacePacket implements IInterfacePacket {
-    private static final String PROTOCOL_VERSION = "1";
+    private static final String PROTOCOL_VERSION = "2";
     private static final SimpleChannel network = NetworkRegistry.newSimpleChannel(new ResourceLocation(InterfaceLoader.MODID, "main"), () -> PROTOCOL_VERSION, PROTOCOL_VERSION::equals, PROTOCOL_VERSION::equals);
-    private static final BiMap<Byte, Class<? extends APacketBase>> packetMappings = HashBiMap.create();
+    private static final Map<Class<? extends APacketBase>, Byte> packetMappings = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private static final Function<ByteBuf, APacketBase>[] packetFactories = new Function[256];
 
     /**
      * Called to init this network.  Needs to be done after networking is ready.
@@ -36,19 +51,20 @@ class InterfacePacket implements IInterfacePacket {
 
         //Register internal packets, then external.
         byte packetIndex = 0;
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityCSHandshakeClient.class);
-        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityCSHandshakeServer.class);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityCSHandshakeClient.class, PacketEntityCSHandshakeClient::new);
+        InterfaceManager.packetInterface.registerPacket(packetIndex++, PacketEntityCSHandshakeServer.class, PacketEntityCSHandshakeServer::new);
         APacketBase.initPackets(packetIndex);
     }
 
     @Override
-    public void registerPacket(byte packetIndex, Class<? extends APacketBase> packetClass) {
-        packetMappings.put(packetIndex, packetClass);
+    public void registerPacket(byte packetIndex, Class<? extends APacketBase> packetClass, Function<ByteBuf, APacketBase> packetFactory) {
+        packetMappings.put(packetClass, packetIndex);
+        packetFactories[packetIndex & 0xFF] = packetFactory;
     }
 
     @Override
     public byte getPacketIndex(APacketBase packet) {
-        return packetMappings.inverse().get(packet.getClass());
+        return packetMappings.get(packet.getClass());
     }
 
     @Override
@@ -61,9 +77,44 @@ class InterfacePacket implements IInterfacePacket {
         network.send(PacketDistributor.ALL.noArg(), new WrapperPacket(packet));
     }
 
+    @Override
+    public void sendToAllClientsInWorld(APacketBase packet, AWrapperWorld world) {
+        network.send(PacketDistributor.DIMENSION.with(((WrapperWorld) world).world::dimension), new WrapperPacket(packet));
+    }
+
+    @Override
+    public void sendToTrackingClients(APacketBase packet, AEntityA_Base entity) {
+        Level world = ((WrapperWorld) entity.world).world;
+        if (entity instanceof AEntityB_Existing && entity.world.chunkLoaded(((AEntityB_Existing) entity).position)) {
+            Point3D position = ((AEntityB_Existing) entity).position;
+            LevelChunk chunk = world.getChunkAt(new BlockPos(position.x, position.y, position.z));
+            network.send(PacketDistributor.TRACKING_CHUNK.with(() -> chunk), new WrapperPacket(packet));
+        } else {
+            network.send(PacketDistributor.DIMENSION.with(world::dimension), new WrapperPacket(packet));
+        }
+    }
+
+    @Override
+    public List<IWrapperPlayer> getTrackingPlayers(AEntityA_Base entity) {
+        List<IWrapperPlayer> players = new ArrayList<>();
+        Level world = ((WrapperWorld) entity.world).world;
+        if (entity instanceof AEntityB_Existing && entity.world.chunkLoaded(((AEntityB_Existing) entity).position)) {
+            Point3D position = ((AEntityB_Existing) entity).position;
+            ChunkPos chunkPos = new ChunkPos(new BlockPos(position.x, position.y, position.z));
+            for (ServerPlayer player : ((ServerLevel) world).getChunkSource().chunkMap.getPlayers(chunkPos, false)) {
+                players.add(WrapperPlayer.getWrapperFor(player));
+            }
+        } else {
+            for (Player player : world.players()) {
+                players.add(WrapperPlayer.getWrapperFor(player));
+            }
+        }
+        return players;
+    }
+
     @Override
     public void sendToPlayer(APacketBase packet, IWrapperPlayer player) {
-        network.send(PacketDistributor.PLAYER.with(() -> (ServerPlayer) ((WrapperPlayer) player).player), new WrapperPacket(packet));
+        network.send(PacketDistributor.PLAYER.with(() -> (ServerPlayer) ((WrapperPlayer) player).player), new WrapperPacket(packet, player.getName()));
     }
 
     /**
@@ -76,13 +127,35 @@ class InterfacePacket implements IInterfacePacket {
 
     @Override
     public void writeDataToBuffer(IWrapperNBT data, ByteBuf buf) {
-        //We know this will be a PacketBuffer, so we can cast rather than wrap.
-        ((FriendlyByteBuf) buf).writeNbt(((WrapperNBT) data).tag);
+        //Network buffers will be a FriendlyByteBuf, so we can cast rather than wrap.
+        //Packets may use other buffers for things like compression, so those need to be wrapped.
+        toPacketBuffer(buf).writeNbt(((WrapperNBT) data).tag);
     }
 
     @Override
     public WrapperNBT readDataFromBuffer(ByteBuf buf) {
-        return new WrapperNBT(((FriendlyByteBuf) buf).readNbt());
+        return new WrapperNBT(toPacketBuffer(buf).readNbt());
+    }
+
+    private static FriendlyByteBuf toPacketBuffer(ByteBuf buf) {
+        return buf instanceof FriendlyByteBuf ? (FriendlyByteBuf) buf : new FriendlyByteBuf(buf);
+    }
+
+    @Override
+    public APacketBase readPacketFromBuffer(ByteBuf buf) {
+        return readPacket(buf);
+    }
+
+    /**
+     * Reads a packet from the buffer.  The first byte is the packet index, which tells us what factory to use.
+     */
+    private static APacketBase readPacket(ByteBuf buf) {
+        byte packetIndex = buf.readByte();
+        Function<ByteBuf, APacketBase> packetFactory = packetFactories[packetIndex & 0xFF];
+        if (packetFactory == null) {
+            throw new IndexOutOfBoundsException("Was asked to create packet of index " + packetIndex + " but we haven't registered that one yet!");
+        }
+        return packetFactory.apply(buf);
     }
 
     /**
@@ -94,6 +167,8 @@ class InterfacePacket implements IInterfacePacket {
      */
     public static class WrapperPacket {
         private APacketBase packet;
+        private String playerName;
+        private int size;
 
         /**
          * Do NOT call!  Required to keep Forge from crashing.
@@ -105,38 +180,36 @@ class InterfacePacket implements IInterfacePacket {
             this.packet = packet;
         }
 
+        public WrapperPacket(APacketBase packet, String playerName) {
+            this.packet = packet;
+            this.playerName = playerName;
+        }
+
         public static WrapperPacket fromBytes(FriendlyByteBuf buf) {
-            byte packetIndex = buf.readByte();
-            try {
-                Class<? extends APacketBase> packetClass = packetMappings.get(packetIndex);
-                return new WrapperPacket(packetClass.getConstructor(ByteBuf.class).newInstance(buf));
-            } catch (Exception e) {
-                e.printStackTrace();
-                throw new IndexOutOfBoundsException("Was asked to create packet of index " + packetIndex + " but we haven't registered that one yet!");
-            }
+            int size = buf.readableBytes();
+            WrapperPacket message = new WrapperPacket(readPacket(buf));
+            message.size = size;
+            return message;
         }
 
         public static void toBytes(WrapperPacket message, FriendlyByteBuf buf) {
-            message.packet.writeToBuffer(buf);
+            int startIndex = buf.writerIndex();
+            message.packet.writeEncodedToBuffer(buf);
+            NetworkStats.recordSent(message.packet, buf.writerIndex() - startIndex, message.playerName);
         }
 
         public static void handle(WrapperPacket message, Supplier<NetworkEvent.Context> ctx) {
+            NetworkStats.recordReceived(message.packet, message.size, ctx.get().getDirection() == NetworkDirection.PLAY_TO_SERVER ? ctx.get().getSender().getGameProfile().getName() : null);
             if (message.packet.runOnMainThread()) {
-                //Need to put this in a runnable to not run it on the network thread and get a CME.
-                ctx.get().enqueueWork(() -> {
-                    //We need to use side-specific getters here to avoid side-specific classes from trying to be loaded
-                    //by the JVM when this method is created.  Failure to do this will result in network faults.
-                    //For this, we use abstract methods that are extended in our sub-classes.
-                    AWrapperWorld world;
-                    if (ctx.get().getDirection() == NetworkDirection.PLAY_TO_SERVER) {
-                        world = getServerWorld(ctx);
-                    } else {
-                        world = InterfaceManager.clientInterface.getClientWorld();
-                    }
-                    if (world != null) {
-                        message.packet.handle(world);
-                    }
-                });
+                //Queue the packet to be handled at the start of the next world tick on this side.
+                //Don't look up the world here, as the player can change worlds before the main thread gets to the packet.
+                //We need to use side-specific getters here to avoid side-specific classes from trying to be loaded
+                //by the JVM when this method is created.  Failure to do this will result in network faults.
+                if (ctx.get().getDirection() == NetworkDirection.PLAY_TO_SERVER) {
+                    EntityManager.queuePacket(message.packet, false, () -> getServerWorld(ctx));
+                } else {
+                    EntityManager.queuePacket(message.packet, true, () -> InterfaceManager.clientInterface.getClientWorld());
+                }
             } else {
                 if (ctx.get().getDirection() == NetworkDirection.PLAY_TO_SERVER) {
                     message.packet.handle(getServerWorld(ctx));
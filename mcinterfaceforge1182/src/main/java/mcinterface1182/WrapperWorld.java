@@ -4,10 +4,8 @@ import java.io.File;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 
 import mcinterface1182.mixin.common.BiomeMixin;
@@ -34,17 +32,21 @@ import minecrafttransportsimulator.items.components.AItemBase;
 import minecrafttransportsimulator.items.components.AItemSubTyped;
 import minecrafttransportsimulator.jsondefs.AJSONMultiModelProvider;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+import minecrafttransportsimulator.mcinterface.BlockCollisionCache.BlockCollisionShape;
 import minecrafttransportsimulator.mcinterface.IWrapperEntity;
 import minecrafttransportsimulator.mcinterface.IWrapperItemStack;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.mcinterface.SavedDataWriter;
+import minecrafttransportsimulator.mcinterface.SavedDataWriter.DataWriter;
 import minecrafttransportsimulator.packets.instances.PacketWorldSavedDataRequest;
 import minecrafttransportsimulator.packets.instances.PacketWorldSavedDataUpdate;
 import minecrafttransportsimulator.packloading.PackParser;
 import minecrafttransportsimulator.systems.ConfigSystem;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtIo;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
@@ -87,13 +89,13 @@ import net.minecraft.world.level.material.MaterialColor;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
-import net.minecraft.world.phys.shapes.BooleanOp;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import net.minecraftforge.common.IPlantable;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.world.BlockEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.items.CapabilityItemHandler;
@@ -114,12 +116,11 @@ public class WrapperWorld extends AWrapperWorld {
     private final Map<UUID, BuilderEntityExisting> playerServerGunBuilders = new HashMap<>();
     private final Map<UUID, Integer> ticksSincePlayerJoin = new HashMap<>();
     private static Map<UUID, BuilderEntityRenderForwarder> playerFollowers = new HashMap<>();
-    private final List<AABB> mutableCollidingAABBs = new ArrayList<>();
-    private final Set<BlockPos> knownAirBlocks = new HashSet<>();
 
 
     protected final Level world;
     private final IWrapperNBT savedData;
+    private final SavedDataWriter savedDataWriter;
 
     /**
      * Returns a wrapper instance for the passed-in world instance.
@@ -158,6 +159,7 @@ public class WrapperWorld extends AWrapperWorld {
                 throw new IllegalStateException("Could not load saved data from disk!  This will result in data loss if we continue!");
             }
         }
+        this.savedDataWriter = isClient() ? null : new SavedDataWriter(this::getDataFile, this::snapshotSavedData);
         MinecraftForge.EVENT_BUS.register(this);
     }
 
@@ -213,16 +215,21 @@ public class WrapperWorld extends AWrapperWorld {
     public void setData(String name, IWrapperNBT value) {
         savedData.setData(name, value);
         if (!isClient()) {
-            try {
-                NbtIo.writeCompressed(((WrapperNBT) savedData).tag, Files.newOutputStream(getDataFile().toPath()));
-                InterfaceManager.packetInterface.sendToAllClients(new PacketWorldSavedDataUpdate(name, value));
-            } catch (Exception e) {
-                e.printStackTrace();
-                throw new IllegalStateException("Could not save data to disk!  This will result in data loss if we continue!");
-            }
+            //Don't write here, as this may be called many times a tick.  Let the writer batch the changes.
+            savedDataWriter.markDirty();
+            InterfaceManager.packetInterface.sendToAllClients(new PacketWorldSavedDataUpdate(name, value));
         }
     }
 
+    /**
+     * Takes a snapshot of the saved data for the {@link #savedDataWriter}.
+     * The copy is done here on the server thread so the data can't change while it's being written.
+     */
+    private DataWriter snapshotSavedData() {
+        CompoundTag snapshot = ((WrapperNBT) savedData).tag.copy();
+        return stream -> NbtIo.writeCompressed(snapshot, stream);
+    }
+
     @Override
     public File getDataFile() {
         return new File(((DimensionDataStorageMixin) ((ServerLevel) world).getDataStorage()).getDataFolder(), "mtsdata.dat");
@@ -551,131 +558,32 @@ public class WrapperWorld extends AWrapperWorld {
     }
 
     @Override
-    public void updateBoundingBoxCollisions(BoundingBox box, Point3D collisionMotion, boolean ignoreIfGreater) {
-        AABB mcBox = WrapperWorld.convert(box);
-        VoxelShape mcShape = Shapes.create(mcBox);
-        box.collidingBlockPositions.clear();
-        mutableCollidingAABBs.clear();
-        for (int i = (int) Math.floor(mcBox.minX); i < Math.ceil(mcBox.maxX); ++i) {
-            for (int j = (int) Math.floor(mcBox.minY); j < Math.ceil(mcBox.maxY); ++j) {
-                for (int k = (int) Math.floor(mcBox.minZ); k < Math.ceil(mcBox.maxZ); ++k) {
-                    BlockPos pos = new BlockPos(i, j, k);
-                    if (!world.isEmptyBlock(pos)) {
-                        BlockState state = world.getBlockState(pos);
-                        VoxelShape collisionShape = state.getCollisionShape(world, pos).move(i, j, k);
-                        if (!collisionShape.isEmpty() && Shapes.joinIsNotEmpty(mcShape, collisionShape, BooleanOp.AND) && state.getMaterial() != Material.LEAVES) {
-                            mutableCollidingAABBs.addAll(collisionShape.toAabbs());
-                            box.collidingBlockPositions.add(new Point3D(i, j, k));
-                        }
-                        if (box.collidesWithLiquids && state.getMaterial().isLiquid()) {
-                            mutableCollidingAABBs.add(Shapes.block().bounds().move(pos));
-                            box.collidingBlockPositions.add(new Point3D(i, j, k));
-                        }
-                    }
-                }
-            }
-        }
-
-        //If we are in the depth bounds for this collision, set it as the collision depth.
-        box.currentCollisionDepth.set(0D, 0D, 0D);
-        double boxCollisionDepth;
-        for (AABB colBox : mutableCollidingAABBs) {
-            if (collisionMotion.x > 0) {
-                boxCollisionDepth = mcBox.maxX - colBox.minX;
-                if (box.currentCollisionDepth.x < boxCollisionDepth) {
-                    box.currentCollisionDepth.x = boxCollisionDepth;
-                }
-            } else if (collisionMotion.x < 0) {
-                boxCollisionDepth = -(colBox.maxX - mcBox.minX);
-                if (box.currentCollisionDepth.x > boxCollisionDepth) {
-                    box.currentCollisionDepth.x = boxCollisionDepth;
-                }
-            }
-            if (collisionMotion.y > 0) {
-                boxCollisionDepth = mcBox.maxY - colBox.minY;
-                if (box.currentCollisionDepth.y < boxCollisionDepth) {
-                    box.currentCollisionDepth.y = boxCollisionDepth;
-                }
-            } else if (collisionMotion.y < 0) {
-                boxCollisionDepth = -(colBox.maxY - mcBox.minY);
-                if (box.currentCollisionDepth.y > boxCollisionDepth) {
-                    box.currentCollisionDepth.y = boxCollisionDepth;
-                }
-            }
-            if (collisionMotion.z > 0) {
-                boxCollisionDepth = mcBox.maxZ - colBox.minZ;
-                if (box.currentCollisionDepth.z < boxCollisionDepth) {
-                    box.currentCollisionDepth.z = boxCollisionDepth;
-                }
-            } else if (collisionMotion.z < 0) {
-                boxCollisionDepth = -(colBox.maxZ - mcBox.minZ);
-                if (box.currentCollisionDepth.z > boxCollisionDepth) {
-                    box.currentCollisionDepth.z = boxCollisionDepth;
-                }
-            }
-        }
-
-        if (ignoreIfGreater) {
-            if (collisionMotion.x > 0 && box.currentCollisionDepth.x > collisionMotion.x) {
-                box.currentCollisionDepth.x = collisionMotion.x;
-            } else if (collisionMotion.x < 0 && box.currentCollisionDepth.x < collisionMotion.x) {
-                box.currentCollisionDepth.x = collisionMotion.x;
-            }
-            if (collisionMotion.y > 0 && box.currentCollisionDepth.y > collisionMotion.y) {
-                box.currentCollisionDepth.y = collisionMotion.y;
-            } else if (collisionMotion.y < 0 && box.currentCollisionDepth.y < collisionMotion.y) {
-                box.currentCollisionDepth.y = collisionMotion.y;
-            }
-            if (collisionMotion.z > 0 && box.currentCollisionDepth.z > collisionMotion.z) {
-                box.currentCollisionDepth.z = collisionMotion.z;
-            } else if (collisionMotion.z < 0 && box.currentCollisionDepth.z < collisionMotion.z) {
-                box.currentCollisionDepth.z = collisionMotion.z;
-            }
-        }
-
-        if (box.currentCollisionDepth.isZero()) {
-            box.collidingBlockPositions.clear();
-        }
-    }
-
-    @Override
-    public boolean checkForCollisions(BoundingBox box, Point3D offset, boolean clearCache, boolean breakLeaves) {
-        if (clearCache) {
-            knownAirBlocks.clear();
+    protected BlockCollisionShape loadCollisionShape(int x, int y, int z) {
+        BlockPos pos = new BlockPos(x, y, z);
+        if (!world.isLoaded(pos)) {
+            return null;
         }
-        mutableCollidingAABBs.clear();
-        AABB mcBox = WrapperWorld.convertWithOffset(box, offset.x, offset.y, offset.z);
-        VoxelShape mcShape = Shapes.create(mcBox);
-        for (int i = (int) Math.floor(mcBox.minX); i < Math.ceil(mcBox.maxX); ++i) {
-            for (int j = (int) Math.floor(mcBox.minY); j < Math.ceil(mcBox.maxY); ++j) {
-                for (int k = (int) Math.floor(mcBox.minZ); k < Math.ceil(mcBox.maxZ); ++k) {
-                    BlockPos pos = new BlockPos(i, j, k);
-                    if (!knownAirBlocks.contains(pos)) {
-                        if (world.isLoaded(pos)) {
-                            BlockState state = world.getBlockState(pos);
-                            VoxelShape collisionShape = state.getCollisionShape(world, pos).move(i, j, k);
-                            if (state.getMaterial() != Material.LEAVES) {
-                                if (collisionShape != null && !collisionShape.isEmpty() && Shapes.joinIsNotEmpty(mcShape, collisionShape, BooleanOp.AND)) {
-                                    return true;
-                                } else {
-                                    knownAirBlocks.add(pos);
-                                }
-                                if (box.collidesWithLiquids && state.getMaterial().isLiquid()) {
-                                    if (mcBox.intersects(Shapes.block().bounds().move(pos))) {
-                                        return true;
-                                    }
-                                }
-                            } else if (breakLeaves) {
-                                world.destroyBlock(pos, false);
-                            } else {
-                                knownAirBlocks.add(pos);
-                            }
-                        }
-                    }
-                }
+        BlockState state = world.getBlockState(pos);
+        VoxelShape collisionShape = state.getCollisionShape(world, pos);
+        double[] boxes;
+        if (collisionShape.isEmpty()) {
+            boxes = BlockCollisionShape.NO_BOXES;
+        } else if (collisionShape == Shapes.block()) {
+            boxes = BlockCollisionShape.FULL_CUBE_BOXES;
+        } else {
+            List<AABB> colBoxes = collisionShape.toAabbs();
+            boxes = new double[colBoxes.size() * 6];
+            int index = 0;
+            for (AABB colBox : colBoxes) {
+                boxes[index++] = colBox.minX;
+                boxes[index++] = colBox.minY;
+                boxes[index++] = colBox.minZ;
+                boxes[index++] = colBox.maxX;
+                boxes[index++] = colBox.maxY;
+                boxes[index++] = colBox.maxZ;
             }
         }
-        return false;
+        return BlockCollisionShape.create(boxes, state.getMaterial() == Material.LEAVES, state.getMaterial().isLiquid());
     }
 
     @Override
@@ -1036,6 +944,7 @@ public class WrapperWorld extends AWrapperWorld {
         if (!event.world.isClientSide && event.world.equals(world)) {
             if (event.phase.equals(Phase.START)) {
                 tickAll(true);
+                savedDataWriter.tick();
 
                 for (Player mcPlayer : event.world.players()) {
                     UUID playerUUID = mcPlayer.getUUID();
@@ -1112,6 +1021,18 @@ public class WrapperWorld extends AWrapperWorld {
         }
     }
 
+    /**
+     * Remove changed blocks from the collision cache, as their shapes may have changed, and wake up any entities next to them.
+     */
+    @SubscribeEvent
+    public void onIVBlockChange(BlockEvent.NeighborNotifyEvent event) {
+        //Need to check if it's our world, because Forge is stupid like that.
+        if (event.getWorld() == world) {
+            BlockPos pos = event.getPos();
+            onBlockChanged(pos.getX(), pos.getY(), pos.getZ());
+        }
+    }
+
     /**
      * Remove all entities from our maps if we unload the world.  This will cause duplicates if we don't.
      * Also remove this wrapper from the created lists, as it's invalid.
@@ -1123,6 +1044,9 @@ public class WrapperWorld extends AWrapperWorld {
             for (AEntityA_Base entity : allEntities) {
                 entity.remove();
             }
+            if (savedDataWriter != null) {
+                savedDataWriter.flush();
+            }
             worldWrappers.remove(world);
         }
     }
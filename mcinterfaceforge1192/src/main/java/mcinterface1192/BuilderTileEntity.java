@@ -127,12 +127,18 @@ public class BuilderTileEntity extends BlockEntity {
                     needDataFromServer = false;
                 }
             } else {
-                //Send any packets to clients that requested them.
+                //Queue packets for clients that requested them.  They'll get sent when there's bandwidth.
                 if (!playersRequestingData.isEmpty()) {
+                    Point3D position = new Point3D(getBlockPos().getX() + 0.5, getBlockPos().getY() + 0.5, getBlockPos().getZ() + 0.5);
                     for (IWrapperPlayer player : playersRequestingData) {
-                        IWrapperNBT data = InterfaceManager.coreInterface.getNewNBTWrapper();
-                        saveAdditional(((WrapperNBT) data).tag);
-                        player.sendPacket(new PacketEntityCSHandshakeServer(this, data));
+                        WrapperWorld.getWrapperFor(level).syncScheduler.queueSync(player, position, tileEntity, () -> {
+                            if (isRemoved()) {
+                                return null;
+                            }
+                            IWrapperNBT data = InterfaceManager.coreInterface.getNewNBTWrapper();
+                            saveAdditional(((WrapperNBT) data).tag);
+                            return new PacketEntityCSHandshakeServer(this, data);
+                        });
                     }
                     playersRequestingData.clear();
                 }
@@ -1,11 +1,15 @@
 package mcinterface1201;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import minecrafttransportsimulator.baseclasses.BoundingBox;
 import minecrafttransportsimulator.baseclasses.BoundingBoxHitResult;
+import minecrafttransportsimulator.baseclasses.BoundingBoxTree;
 import minecrafttransportsimulator.baseclasses.Point3D;
 import minecrafttransportsimulator.entities.components.AEntityE_Interactable;
 import minecrafttransportsimulator.entities.components.AEntityF_Multipart;
@@ -22,14 +26,18 @@ import net.minecraft.world.phys.Vec3;
  * @author don_bruce
  */
 public class WrapperAABBCollective extends AABB {
+    private static final int COLLISION_BOX_TYPES = BoundingBoxTree.getTypeMask(CollisionType.ENTITY);
+    private static final int INTERACT_BOX_TYPES = BoundingBoxTree.getTypeMask(CollisionType.ATTACK, CollisionType.CLICK);
     private final AEntityE_Interactable<?> interactable;
     private final boolean collision;
     private final Set<BoundingBox> boxes = new HashSet<>();
+    private final int boxTypes;
 
     public WrapperAABBCollective(AEntityE_Interactable<?> interactable, boolean collision) {
         super(interactable.encompassingBox.globalCenter.x - interactable.encompassingBox.widthRadius, interactable.encompassingBox.globalCenter.y - interactable.encompassingBox.heightRadius, interactable.encompassingBox.globalCenter.z - interactable.encompassingBox.depthRadius, interactable.encompassingBox.globalCenter.x + interactable.encompassingBox.widthRadius, interactable.encompassingBox.globalCenter.y + interactable.encompassingBox.heightRadius, interactable.encompassingBox.globalCenter.z + interactable.encompassingBox.depthRadius);
         this.interactable = interactable;
         this.collision = collision;
+        this.boxTypes = collision ? COLLISION_BOX_TYPES : INTERACT_BOX_TYPES;
     }
 
     public synchronized Set<BoundingBox> getBoxes() {
@@ -58,6 +66,10 @@ public class WrapperAABBCollective extends AABB {
     public boolean intersects(double otherMinX, double otherMinY, double otherMinZ, double otherMaxX, double otherMaxY, double otherMaxZ) {
         //CHeck super first, as that's the encompassing box.
         if (super.intersects(otherMinX, otherMinY, otherMinZ, otherMaxX, otherMaxY, otherMaxZ)) {
+            if (interactable instanceof AEntityF_Multipart) {
+                //Multiparts can have lots of boxes, so use their tree rather than checking them all.
+                return ((AEntityF_Multipart<?>) interactable).allCollisionBoxTree.intersects(otherMinX, otherMinY, otherMinZ, otherMaxX, otherMaxY, otherMaxZ, boxTypes);
+            }
             for (BoundingBox testBox : getBoxes()) {
                 if (otherMaxX > testBox.globalCenter.x - testBox.widthRadius && otherMinX < testBox.globalCenter.x + testBox.widthRadius && otherMaxY > testBox.globalCenter.y - testBox.heightRadius && otherMinY < testBox.globalCenter.y + testBox.heightRadius && otherMaxZ > testBox.globalCenter.z - testBox.depthRadius && otherMinZ < testBox.globalCenter.z + testBox.depthRadius) {
                     return true;
@@ -78,7 +90,16 @@ public class WrapperAABBCollective extends AABB {
         Point3D start = new Point3D(vecA.x, vecA.y, vecA.z);
         Point3D end = new Point3D(vecB.x, vecB.y, vecB.z);
         BoundingBoxHitResult intersection = null;
-        for (BoundingBox testBox : getBoxes()) {
+        Collection<BoundingBox> testBoxes;
+        if (interactable instanceof AEntityF_Multipart) {
+            //Multiparts can have lots of boxes, so only check the ones the tree says are on the path.
+            List<BoundingBox> candidateBoxes = new ArrayList<>();
+            ((AEntityF_Multipart<?>) interactable).allCollisionBoxTree.getRayCandidates(start, end, boxTypes, candidateBoxes);
+            testBoxes = candidateBoxes;
+        } else {
+            testBoxes = getBoxes();
+        }
+        for (BoundingBox testBox : testBoxes) {
             BoundingBoxHitResult testIntersection = testBox.getIntersection(start, end);
             if (testIntersection != null) {
                 if (intersection == null || start.isFirstCloserThanSecond(testIntersection.position, intersection.position)) {
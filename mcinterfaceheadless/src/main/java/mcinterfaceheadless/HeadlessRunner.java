@@ -0,0 +1,137 @@
+package mcinterfaceheadless;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import minecrafttransportsimulator.entities.instances.EntityVehicleF_Physics;
+import minecrafttransportsimulator.items.instances.ItemVehicle;
+import minecrafttransportsimulator.jsondefs.AJSONBase;
+import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.packets.components.APacketBase;
+import minecrafttransportsimulator.packloading.JSONParser;
+import minecrafttransportsimulator.packloading.PackParser;
+import minecrafttransportsimulator.packloading.PackResourceLoader.ItemClassification;
+import minecrafttransportsimulator.systems.ConfigSystem;
+
+/**
+ * Runner for headless tick benchmarks.  This sets up the core like a dedicated server would,
+ * minus MC, registers the benchmark pack, and then spawns vehicles into a flat {@link WrapperWorld}
+ * and ticks them.  Each run reports tick times, allocation, and packet traffic so we can see how
+ * costs scale with entity count.  Runs are deterministic: vehicles are placed on a fixed grid, and
+ * the same fraction of them is given the same starting motion every time.
+ * <br><br>
+ * Arguments are: vehicleCounts ticks warmupTicks movingFraction.  vehicleCounts may be a comma-separated
+ * list to do a sweep, for example "50,100,200,400".  All arguments are optional.
+ *
+ * @author don_bruce
+ */
+public class HeadlessRunner {
+    private static final String BENCHMARK_PACK_PREFIX = "/assets/mtsheadless/jsondefs/";
+    private static final String BENCHMARK_VEHICLE = "bench_car";
+    private static final int GROUND_HEIGHT = 64;
+    private static final int VEHICLE_SPACING = 8;
+
+    private static InterfacePacket packetInterface;
+
+    public static void main(String[] args) throws Exception {
+        List<Integer> vehicleCounts = new ArrayList<>();
+        for (String count : (args.length > 0 ? args[0] : "100").split(",")) {
+            vehicleCounts.add(Integer.parseInt(count.trim()));
+        }
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 600;
+        int warmupTicks = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        double movingFraction = args.length > 3 ? Double.parseDouble(args[3]) : 0.25;
+
+        init();
+        System.out.println("vehicles,entities,ticksPerSecond,meanMs,p50Ms,p99Ms,maxMs,bytesAllocatedPerTick,packetsPerTick,packetBytesPerTick");
+        for (int vehicleCount : vehicleCounts) {
+            System.out.println(runBenchmark(vehicleCount, ticks, warmupTicks, movingFraction));
+        }
+    }
+
+    /**
+     * Sets up the interfaces, config, and packs.  This is what the loader does in the MC interfaces.
+     */
+    public static void init() throws Exception {
+        packetInterface = new InterfacePacket();
+        File gameDirectory = Files.createTempDirectory("mtsheadless").toFile();
+        gameDirectory.deleteOnExit();
+        new InterfaceManager("mts", gameDirectory.getAbsolutePath(), new InterfaceCore(), packetInterface, null, null, null, null);
+        APacketBase.initPackets((byte) 0);
+        File configDirectory = new File(gameDirectory, "config");
+        configDirectory.mkdirs();
+        ConfigSystem.loadFromDisk(configDirectory, false);
+
+        //Add the core items, then our benchmark pack items.  These go under the core pack since we don't have a pack jar.
+        PackParser.addDefaultItems();
+        registerBenchmarkItem(BENCHMARK_VEHICLE, ItemClassification.VEHICLE);
+        PackParser.parsePacks(new ArrayList<>());
+        if (PackParser.getItem(InterfaceManager.coreModID, BENCHMARK_VEHICLE) == null) {
+            throw new IllegalStateException("Benchmark vehicle failed to load, check the log for pack errors.");
+        }
+    }
+
+    private static void registerBenchmarkItem(String systemName, ItemClassification classification) throws Exception {
+        AJSONBase itemDef = JSONParser.parseStream(HeadlessRunner.class.getResourceAsStream(BENCHMARK_PACK_PREFIX + classification.toDirectory() + systemName + ".json"), classification.representingClass, InterfaceManager.coreModID, systemName);
+        itemDef.packID = InterfaceManager.coreModID;
+        itemDef.systemName = systemName;
+        itemDef.classification = classification;
+        itemDef.prefixFolders = BENCHMARK_PACK_PREFIX;
+        PackParser.registerItem(itemDef);
+    }
+
+    /**
+     * Creates a new world and spawns the passed-in number of vehicles into it.
+     * Vehicles are spawned in a square grid, facing +Z, resting just above the ground.
+     * The first movingFraction of them are given forward motion so they roll.
+     */
+    public static WrapperWorld createWorld(int vehicleCount, double movingFraction) {
+        WrapperWorld world = new WrapperWorld(GROUND_HEIGHT);
+        ItemVehicle item = PackParser.getItem(InterfaceManager.coreModID, BENCHMARK_VEHICLE);
+        int gridSize = (int) Math.ceil(Math.sqrt(vehicleCount));
+        int movingCount = (int) (vehicleCount * movingFraction);
+        for (int i = 0; i < vehicleCount; ++i) {
+            EntityVehicleF_Physics vehicle = new EntityVehicleF_Physics(world, null, item, null);
+            vehicle.position.set((i % gridSize) * VEHICLE_SPACING + 0.5, GROUND_HEIGHT + 0.1, (i / gridSize) * VEHICLE_SPACING + 0.5);
+            vehicle.prevPosition.set(vehicle.position);
+            if (i < movingCount) {
+                vehicle.motion.set(0, 0, 0.5);
+                vehicle.prevMotion.set(vehicle.motion);
+            }
+            world.spawnEntity(vehicle);
+            vehicle.addPartsPostAddition(null, null);
+        }
+        return world;
+    }
+
+    /**
+     * Runs a single benchmark and returns the CSV result line.
+     */
+    public static String runBenchmark(int vehicleCount, int ticks, int warmupTicks, double movingFraction) {
+        WrapperWorld world = createWorld(vehicleCount, movingFraction);
+        for (int i = 0; i < warmupTicks; ++i) {
+            world.tick();
+        }
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadID = Thread.currentThread().getId();
+        long[] tickTimes = new long[ticks];
+        packetInterface.resetCounters();
+        long startAllocation = threadBean.getThreadAllocatedBytes(threadID);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ticks; ++i) {
+            long tickStart = System.nanoTime();
+            world.tick();
+            tickTimes[i] = System.nanoTime() - tickStart;
+        }
+        long totalTime = System.nanoTime() - startTime;
+        long totalAllocation = threadBean.getThreadAllocatedBytes(threadID) - startAllocation;
+
+        Arrays.sort(tickTimes);
+        return String.format("%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%d,%.1f,%.1f", vehicleCount, world.allEntities.size(), ticks / (totalTime / 1.0E9), totalTime / 1.0E6 / ticks, tickTimes[ticks / 2] / 1.0E6, tickTimes[(int) (ticks * 0.99)] / 1.0E6, tickTimes[ticks - 1] / 1.0E6, totalAllocation / ticks, (double) packetInterface.packetsSent / ticks, (double) packetInterface.bytesSent / ticks);
+    }
+}
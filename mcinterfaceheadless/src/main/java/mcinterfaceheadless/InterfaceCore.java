@@ -0,0 +1,85 @@
+package mcinterfaceheadless;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import minecrafttransportsimulator.items.components.AItemBase;
+import minecrafttransportsimulator.mcinterface.IInterfaceCore;
+import minecrafttransportsimulator.mcinterface.IWrapperItemStack;
+import minecrafttransportsimulator.mcinterface.IWrapperNBT;
+import minecrafttransportsimulator.mcinterface.InterfaceManager;
+
+/**
+ * Core interface for headless worlds.  There's no mod loader or item registry here,
+ * so mod checks are always false and the only stacks are ones for our own items.  Pack resources come
+ * straight off the classpath, which contains the core jar and the benchmark pack.
+ *
+ * @author don_bruce
+ */
+class InterfaceCore implements IInterfaceCore {
+    @Override
+    public boolean isGameFlattened() {
+        return true;
+    }
+
+    @Override
+    public boolean isModPresent(String modID) {
+        return false;
+    }
+
+    @Override
+    public boolean isFluidValid(String fluidID) {
+        return true;
+    }
+
+    @Override
+    public String getModName(String modID) {
+        return modID;
+    }
+
+    @Override
+    public InputStream getPackResource(String resource) {
+        return InterfaceManager.class.getResourceAsStream(resource);
+    }
+
+    @Override
+    public void logError(String message) {
+        System.err.println("MTSERROR: " + message);
+    }
+
+    @Override
+    public void logInfo(String message) {
+        System.out.println(message);
+    }
+
+    @Override
+    public IWrapperNBT getNewNBTWrapper() {
+        return new WrapperNBT();
+    }
+
+    @Override
+    public IWrapperItemStack getAutoGeneratedStack(AItemBase item, IWrapperNBT data) {
+        return new WrapperItemStack(item, 1, (WrapperNBT) data);
+    }
+
+    @Override
+    public IWrapperItemStack getStackForProperties(String name, int meta, int qty) {
+        return new WrapperItemStack(null, 0, null);
+    }
+
+    @Override
+    public String getStackItemName(IWrapperItemStack stack) {
+        return "";
+    }
+
+    @Override
+    public boolean isOredictMatch(IWrapperItemStack stackA, IWrapperItemStack stackB) {
+        return false;
+    }
+
+    @Override
+    public List<IWrapperItemStack> getOredictMaterials(String oreName, int stackSize) {
+        return new ArrayList<>();
+    }
+}
@@ -0,0 +1,115 @@
+package mcinterfaceheadless;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import minecrafttransportsimulator.entities.components.AEntityA_Base;
+import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+import minecrafttransportsimulator.mcinterface.IInterfacePacket;
+import minecrafttransportsimulator.mcinterface.IWrapperNBT;
+import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
+import minecrafttransportsimulator.packets.components.APacketBase;
+import minecrafttransportsimulator.packets.components.NetworkStats;
+
+/**
+ * Packet interface for headless worlds.  There's no network here, but we still
+ * encode every packet into a scratch buffer so the serialization cost shows up in
+ * benchmarks.  Packet counts and encoded bytes are kept for the runner to report.
+ *
+ * @author don_bruce
+ */
+class InterfacePacket implements IInterfacePacket {
+    private final Map<Class<? extends APacketBase>, Byte> packetMappings = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private final Function<ByteBuf, APacketBase>[] packetFactories = new Function[256];
+    private final ByteBuf scratchBuffer = Unpooled.buffer(1024);
+    protected long packetsSent;
+    protected long bytesSent;
+
+    @Override
+    public void registerPacket(byte packetIndex, Class<? extends APacketBase> packetClass, Function<ByteBuf, APacketBase> packetFactory) {
+        packetMappings.put(packetClass, packetIndex);
+        packetFactories[packetIndex & 0xFF] = packetFactory;
+    }
+
+    @Override
+    public byte getPacketIndex(APacketBase packet) {
+        return packetMappings.get(packet.getClass());
+    }
+
+    @Override
+    public void sendToServer(APacketBase packet) {
+        encode(packet);
+    }
+
+    @Override
+    public void sendToAllClients(APacketBase packet) {
+        encode(packet);
+    }
+
+    @Override
+    public void sendToAllClientsInWorld(APacketBase packet, AWrapperWorld world) {
+        encode(packet);
+    }
+
+    @Override
+    public void sendToTrackingClients(APacketBase packet, AEntityA_Base entity) {
+        //No players, so there's no tracking.  Count it like a normal send.
+        encode(packet);
+    }
+
+    @Override
+    public List<IWrapperPlayer> getTrackingPlayers(AEntityA_Base entity) {
+        //No players, so nobody is tracking anything.
+        return new ArrayList<>();
+    }
+
+    @Override
+    public void sendToPlayer(APacketBase packet, IWrapperPlayer player) {
+        encode(packet);
+    }
+
+    @Override
+    public APacketBase readPacketFromBuffer(ByteBuf buf) {
+        byte packetIndex = buf.readByte();
+        Function<ByteBuf, APacketBase> packetFactory = packetFactories[packetIndex & 0xFF];
+        if (packetFactory == null) {
+            throw new IndexOutOfBoundsException("Was asked to create packet of index " + packetIndex + " but we haven't registered that one yet!");
+        }
+        return packetFactory.apply(buf);
+    }
+
+    @Override
+    public void writeDataToBuffer(IWrapperNBT data, ByteBuf buf) {
+        ((WrapperNBT) data).writeToBuffer(buf);
+    }
+
+    @Override
+    public IWrapperNBT readDataFromBuffer(ByteBuf buf) {
+        return WrapperNBT.readFromBuffer(buf);
+    }
+
+    /**
+     * Encodes the packet into the scratch buffer and tallies it.
+     */
+    private void encode(APacketBase packet) {
+        scratchBuffer.clear();
+        packet.writeEncodedToBuffer(scratchBuffer);
+        ++packetsSent;
+        bytesSent += scratchBuffer.writerIndex();
+        NetworkStats.recordSent(packet, scratchBuffer.writerIndex(), null);
+    }
+
+    /**
+     * Resets the packet counters.  Called by the runner between warmup and measurement.
+     */
+    protected void resetCounters() {
+        packetsSent = 0;
+        bytesSent = 0;
+    }
+}
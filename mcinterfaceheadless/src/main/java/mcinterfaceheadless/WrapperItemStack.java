@@ -0,0 +1,135 @@
+package mcinterfaceheadless;
+
+import minecrafttransportsimulator.entities.instances.EntityFluidTank;
+import minecrafttransportsimulator.items.components.AItemBase;
+import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+import minecrafttransportsimulator.mcinterface.IWrapperItemStack;
+import minecrafttransportsimulator.mcinterface.IWrapperNBT;
+import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
+
+/**
+ * Item stack for headless worlds.  Only our own items exist here, so this is just
+ * an item, a count, and some data.  There's no smelting, brewing, or fluid handling.
+ *
+ * @author don_bruce
+ */
+class WrapperItemStack implements IWrapperItemStack {
+    private static final int MAX_STACK_SIZE = 64;
+
+    private final AItemBase item;
+    private int count;
+    private WrapperNBT data;
+
+    protected WrapperItemStack(AItemBase item, int count, WrapperNBT data) {
+        this.item = item;
+        this.count = count;
+        this.data = data;
+    }
+
+    @Override
+    public boolean isCompleteMatch(IWrapperItemStack other) {
+        WrapperItemStack otherStack = (WrapperItemStack) other;
+        return !isEmpty() && item == otherStack.item && IWrapperNBT.isDataEqual(data, otherStack.data);
+    }
+
+    @Override
+    public int getFurnaceFuelValue() {
+        return 0;
+    }
+
+    @Override
+    public IWrapperItemStack getSmeltedItem(AWrapperWorld world) {
+        return new WrapperItemStack(null, 0, null);
+    }
+
+    @Override
+    public int getSmeltingTime(AWrapperWorld world) {
+        return 0;
+    }
+
+    @Override
+    public boolean isBrewingFuel() {
+        return false;
+    }
+
+    @Override
+    public boolean isBrewingVessel() {
+        return false;
+    }
+
+    @Override
+    public boolean isBrewingModifier() {
+        return false;
+    }
+
+    @Override
+    public IWrapperItemStack getBrewedItem(IWrapperItemStack modifierStack) {
+        return new WrapperItemStack(null, 0, null);
+    }
+
+    @Override
+    public AItemBase getItem() {
+        return item;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return item == null || count <= 0;
+    }
+
+    @Override
+    public int getSize() {
+        return count;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return MAX_STACK_SIZE;
+    }
+
+    @Override
+    public int add(int qty) {
+        if (qty < 0) {
+            int amountToRemove = -qty;
+            if (amountToRemove > getSize()) {
+                amountToRemove = getSize();
+            }
+            count -= amountToRemove;
+            return qty + amountToRemove;
+        } else {
+            int amountToAdd = qty;
+            if (amountToAdd + getSize() > getMaxSize()) {
+                amountToAdd = getMaxSize() - getSize();
+            }
+            count += amountToAdd;
+            return qty - amountToAdd;
+        }
+    }
+
+    @Override
+    public IWrapperItemStack copy() {
+        return new WrapperItemStack(item, count, data != null ? data.copy() : null);
+    }
+
+    @Override
+    public IWrapperItemStack split(int qty) {
+        int amountToSplit = Math.min(qty, count);
+        count -= amountToSplit;
+        return new WrapperItemStack(item, amountToSplit, data != null ? data.copy() : null);
+    }
+
+    @Override
+    public boolean interactWith(EntityFluidTank tank, IWrapperPlayer player) {
+        return false;
+    }
+
+    @Override
+    public IWrapperNBT getData() {
+        return data != null ? data.copy() : null;
+    }
+
+    @Override
+    public void setData(IWrapperNBT data) {
+        this.data = (WrapperNBT) data;
+    }
+}
@@ -0,0 +1,337 @@
+package mcinterfaceheadless;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.UUID;
+
+import io.netty.buffer.ByteBuf;
+import minecrafttransportsimulator.baseclasses.Point3D;
+import minecrafttransportsimulator.mcinterface.IWrapperItemStack;
+import minecrafttransportsimulator.mcinterface.IWrapperNBT;
+
+/**
+ * In-memory NBT implementation.  Stores values in a map, following the same
+ * key conventions as the MC wrappers so data written here looks the same to
+ * the core as data written to a real tag.  Serialization to buffers uses a
+ * simple type-tagged format, since there's no MC NBT code to lean on.
+ *
+ * @author don_bruce
+ */
+class WrapperNBT implements IWrapperNBT {
+    private static final byte TYPE_END = 0;
+    private static final byte TYPE_BOOLEAN = 1;
+    private static final byte TYPE_INT = 2;
+    private static final byte TYPE_DOUBLE = 3;
+    private static final byte TYPE_STRING = 4;
+    private static final byte TYPE_DATA = 5;
+
+    protected final Map<String, Object> tag;
+
+    protected WrapperNBT() {
+        this.tag = new LinkedHashMap<>();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof WrapperNBT && tag.equals(((WrapperNBT) obj).tag);
+    }
+
+    @Override
+    public int hashCode() {
+        return tag.hashCode();
+    }
+
+    /**
+     * Returns a deep copy of this data.  Item stacks hand out copies, like MC does.
+     */
+    protected WrapperNBT copy() {
+        WrapperNBT copy = new WrapperNBT();
+        for (Entry<String, Object> entry : tag.entrySet()) {
+            Object value = entry.getValue();
+            copy.tag.put(entry.getKey(), value instanceof WrapperNBT ? ((WrapperNBT) value).copy() : value);
+        }
+        return copy;
+    }
+
+    @Override
+    public boolean getBoolean(String name) {
+        Object value = tag.get(name);
+        return value instanceof Boolean && (Boolean) value;
+    }
+
+    @Override
+    public void setBoolean(String name, boolean value) {
+        if (value) {
+            tag.put(name, value);
+        } else {
+            tag.remove(name);
+        }
+    }
+
+    @Override
+    public int getInteger(String name) {
+        Object value = tag.get(name);
+        return value instanceof Integer ? (Integer) value : 0;
+    }
+
+    @Override
+    public void setInteger(String name, int value) {
+        if (value != 0) {
+            tag.put(name, value);
+        } else {
+            tag.remove(name);
+        }
+    }
+
+    @Override
+    public double getDouble(String name) {
+        Object value = tag.get(name);
+        return value instanceof Double ? (Double) value : 0;
+    }
+
+    @Override
+    public void setDouble(String name, double value) {
+        if (value != 0) {
+            tag.put(name, value);
+        } else {
+            tag.remove(name);
+        }
+    }
+
+    @Override
+    public String getString(String name) {
+        Object value = tag.get(name);
+        return value instanceof String ? (String) value : "";
+    }
+
+    @Override
+    public void setString(String name, String value) {
+        tag.put(name, value);
+    }
+
+    @Override
+    public List<String> getStrings(String name) {
+        return getStrings(name, getInteger(name + "count"));
+    }
+
+    @Override
+    public List<String> getStrings(String name, int count) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            values.add(getString(name + i));
+        }
+        return values;
+    }
+
+    @Override
+    public void setStrings(String name, Collection<String> values) {
+        setInteger(name + "count", values.size());
+        int index = 0;
+        for (String value : values) {
+            setString(name + index++, value);
+        }
+    }
+
+    @Override
+    public UUID getUUID(String name) {
+        return tag.containsKey(name) ? UUID.fromString(getString(name)) : null;
+    }
+
+    @Override
+    public void setUUID(String name, UUID value) {
+        tag.put(name, value.toString());
+    }
+
+    @Override
+    public List<IWrapperItemStack> getStacks(int count) {
+        List<IWrapperItemStack> stacks = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            stacks.add(new WrapperItemStack(null, 0, null));
+        }
+        return stacks;
+    }
+
+    @Override
+    public void setStacks(List<IWrapperItemStack> stacks) {
+        //Stacks in headless worlds are never saved, since there are no players to give them to.
+    }
+
+    @Override
+    public Point3D getPoint3d(String name) {
+        return new Point3D(getDouble(name + "x"), getDouble(name + "y"), getDouble(name + "z"));
+    }
+
+    @Override
+    public void setPoint3d(String name, Point3D value) {
+        if (!value.isZero()) {
+            setDouble(name + "x", value.x);
+            setDouble(name + "y", value.y);
+            setDouble(name + "z", value.z);
+        }
+    }
+
+    @Override
+    public List<Point3D> getPoint3ds(String name) {
+        List<Point3D> values = new ArrayList<>();
+        int count = getInteger(name + "count");
+        for (int i = 0; i < count; ++i) {
+            Point3D point = getPoint3d(name + i);
+            if (!point.isZero()) {
+                values.add(point);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void setPoint3ds(String name, Collection<Point3D> values) {
+        setInteger(name + "count", values.size());
+        int index = 0;
+        for (Point3D value : values) {
+            setPoint3d(name + index++, value);
+        }
+    }
+
+    @Override
+    public Point3D getPoint3dCompact(String name) {
+        return new Point3D(getInteger(name + "x"), getInteger(name + "y"), getInteger(name + "z"));
+    }
+
+    @Override
+    public void setPoint3dCompact(String name, Point3D value) {
+        if (!value.isZero()) {
+            setInteger(name + "x", (int) Math.floor(value.x));
+            setInteger(name + "y", (int) Math.floor(value.y));
+            setInteger(name + "z", (int) Math.floor(value.z));
+        }
+    }
+
+    @Override
+    public List<Point3D> getPoint3dsCompact(String name) {
+        List<Point3D> values = new ArrayList<>();
+        int count = getInteger(name + "count");
+        for (int i = 0; i < count; ++i) {
+            Point3D point = getPoint3dCompact(name + i);
+            if (!point.isZero()) {
+                values.add(point);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void setPoint3dsCompact(String name, Collection<Point3D> values) {
+        setInteger(name + "count", values.size());
+        int index = 0;
+        for (Point3D value : values) {
+            setPoint3dCompact(name + index++, value);
+        }
+    }
+
+    @Override
+    public WrapperNBT getData(String name) {
+        Object value = tag.get(name);
+        return value instanceof WrapperNBT ? (WrapperNBT) value : null;
+    }
+
+    @Override
+    public void setData(String name, IWrapperNBT value) {
+        tag.put(name, value);
+    }
+
+    @Override
+    public boolean hasKey(String name) {
+        return tag.containsKey(name);
+    }
+
+    @Override
+    public void deleteEntry(String name) {
+        tag.remove(name);
+    }
+
+    @Override
+    public Set<String> getAllNames() {
+        return tag.keySet();
+    }
+
+    /**
+     * Writes this data to the buffer.  Used by the packet interface for NBT-carrying packets.
+     */
+    protected void writeToBuffer(ByteBuf buf) {
+        for (Entry<String, Object> entry : tag.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof Boolean) {
+                buf.writeByte(TYPE_BOOLEAN);
+                writeString(entry.getKey(), buf);
+                buf.writeBoolean((Boolean) value);
+            } else if (value instanceof Integer) {
+                buf.writeByte(TYPE_INT);
+                writeString(entry.getKey(), buf);
+                buf.writeInt((Integer) value);
+            } else if (value instanceof Double) {
+                buf.writeByte(TYPE_DOUBLE);
+                writeString(entry.getKey(), buf);
+                buf.writeDouble((Double) value);
+            } else if (value instanceof String) {
+                buf.writeByte(TYPE_STRING);
+                writeString(entry.getKey(), buf);
+                writeString((String) value, buf);
+            } else {
+                buf.writeByte(TYPE_DATA);
+                writeString(entry.getKey(), buf);
+                ((WrapperNBT) value).writeToBuffer(buf);
+            }
+        }
+        buf.writeByte(TYPE_END);
+    }
+
+    /**
+     * Reads data from the buffer.  Inverse of {@link #writeToBuffer(ByteBuf)}.
+     */
+    protected static WrapperNBT readFromBuffer(ByteBuf buf) {
+        WrapperNBT data = new WrapperNBT();
+        byte type;
+        while ((type = buf.readByte()) != TYPE_END) {
+            String name = readString(buf);
+            switch (type) {
+                case TYPE_BOOLEAN:
+                    data.tag.put(name, buf.readBoolean());
+                    break;
+                case TYPE_INT:
+                    data.tag.put(name, buf.readInt());
+                    break;
+                case TYPE_DOUBLE:
+                    data.tag.put(name, buf.readDouble());
+                    break;
+                case TYPE_STRING:
+                    data.tag.put(name, readString(buf));
+                    break;
+                case TYPE_DATA:
+                    data.tag.put(name, readFromBuffer(buf));
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown data type " + type + " for entry " + name);
+            }
+        }
+        return data;
+    }
+
+    private static void writeString(String string, ByteBuf buf) {
+        byte[] stringAsBytes = string.getBytes(StandardCharsets.UTF_8);
+        buf.writeShort(stringAsBytes.length);
+        buf.writeBytes(stringAsBytes);
+    }
+
+    private static String readString(ByteBuf buf) {
+        short stringLength = buf.readShort();
+        String returnString = buf.toString(buf.readerIndex(), stringLength, StandardCharsets.UTF_8);
+        buf.readerIndex(buf.readerIndex() + stringLength);
+        return returnString;
+    }
+}
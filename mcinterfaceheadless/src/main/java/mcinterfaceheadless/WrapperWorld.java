@@ -0,0 +1,383 @@
+package mcinterfaceheadless;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import minecrafttransportsimulator.baseclasses.BlockHitResult;
+import minecrafttransportsimulator.baseclasses.BoundingBox;
+import minecrafttransportsimulator.baseclasses.ColorRGB;
+import minecrafttransportsimulator.baseclasses.Damage;
+import minecrafttransportsimulator.baseclasses.Point3D;
+import minecrafttransportsimulator.blocks.components.ABlockBase;
+import minecrafttransportsimulator.blocks.components.ABlockBase.Axis;
+import minecrafttransportsimulator.blocks.components.ABlockBase.BlockMaterial;
+import minecrafttransportsimulator.blocks.tileentities.components.ATileEntityBase;
+import minecrafttransportsimulator.collections.BlockPositionSet;
+import minecrafttransportsimulator.entities.components.AEntityB_Existing;
+import minecrafttransportsimulator.entities.components.AEntityE_Interactable;
+import minecrafttransportsimulator.jsondefs.AJSONMultiModelProvider;
+import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+import minecrafttransportsimulator.mcinterface.BlockCollisionCache.BlockCollisionShape;
+import minecrafttransportsimulator.mcinterface.IWrapperEntity;
+import minecrafttransportsimulator.mcinterface.IWrapperItemStack;
+import minecrafttransportsimulator.mcinterface.IWrapperNBT;
+import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
+
+/**
+ * Headless world.  This is a server-side world made of full-cube voxels with no MC behind it.
+ * Every block below {@link #groundHeight} is solid, and extra solid blocks may be added via
+ * {@link #setBlockSolid(int, int, int, boolean)}.  Everything else is air.  There are no external
+ * entities, items, or tile entities, so those methods return empty results.  This is enough for
+ * vehicles to spawn, fall, collide with the ground, and drive, which is what benchmarks need.
+ *
+ * @author don_bruce
+ */
+class WrapperWorld extends AWrapperWorld {
+    private final int groundHeight;
+    private final BlockPositionSet solidBlocks = new BlockPositionSet();
+    private final IWrapperNBT savedData = new WrapperNBT();
+    private long time;
+
+    protected WrapperWorld(int groundHeight) {
+        super();
+        this.groundHeight = groundHeight;
+    }
+
+    /**
+     * Ticks the world.  This is what the MC tick events do in the real interfaces.
+     */
+    protected void tick() {
+        tickAll(true);
+        tickAll(false);
+        ++time;
+    }
+
+    /**
+     * Sets the block at the passed-in position as solid or air.
+     * Blocks below the ground height are always solid.
+     */
+    protected void setBlockSolid(int x, int y, int z, boolean solid) {
+        if (solid) {
+            solidBlocks.add(x, y, z);
+        } else {
+            solidBlocks.remove(x, y, z);
+        }
+        onBlockChanged(x, y, z);
+    }
+
+    private boolean isSolid(int x, int y, int z) {
+        return y < groundHeight || (!solidBlocks.isEmpty() && solidBlocks.contains(x, y, z));
+    }
+
+    private boolean isSolid(Point3D position) {
+        return isSolid((int) Math.floor(position.x), (int) Math.floor(position.y), (int) Math.floor(position.z));
+    }
+
+    @Override
+    public AWrapperWorld getWorld() {
+        return this;
+    }
+
+    @Override
+    public boolean isClient() {
+        return false;
+    }
+
+    @Override
+    public long getTime() {
+        return time % 24000;
+    }
+
+    @Override
+    public String getName() {
+        return "headless";
+    }
+
+    @Override
+    public long getMaxHeight() {
+        return 256;
+    }
+
+    @Override
+    public void beginProfiling(String name, boolean subProfile) {
+    }
+
+    @Override
+    public void endProfiling() {
+    }
+
+    @Override
+    public IWrapperNBT getData(String name) {
+        if (name.isEmpty()) {
+            return savedData;
+        } else {
+            return savedData.getData(name);
+        }
+    }
+
+    @Override
+    public void setData(String name, IWrapperNBT value) {
+        savedData.setData(name, value);
+    }
+
+    @Override
+    public File getDataFile() {
+        return null;
+    }
+
+    @Override
+    public IWrapperEntity getExternalEntity(UUID entityID) {
+        return null;
+    }
+
+    @Override
+    public List<IWrapperEntity> getEntitiesWithin(BoundingBox box) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public List<IWrapperPlayer> getPlayersWithin(BoundingBox box) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public List<IWrapperEntity> getEntitiesHostile(IWrapperEntity lookingEntity, double radius) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public void spawnEntity(AEntityB_Existing entity) {
+        addEntity(entity);
+    }
+
+    @Override
+    public List<IWrapperEntity> attackEntities(Damage damage, Point3D motion, boolean generateList) {
+        return generateList ? new ArrayList<>() : null;
+    }
+
+    @Override
+    public void loadEntities(BoundingBox box, AEntityE_Interactable<?> entityToLoad) {
+    }
+
+    @Override
+    public void populateItemStackEntities(Map<IWrapperEntity, IWrapperItemStack> map, BoundingBox b) {
+    }
+
+    @Override
+    public void removeItemStackEntity(IWrapperEntity entity) {
+    }
+
+    @Override
+    public boolean isInsideBorder(Point3D position) {
+        return true;
+    }
+
+    @Override
+    public boolean chunkLoaded(Point3D position) {
+        return true;
+    }
+
+    @Override
+    public ABlockBase getBlock(Point3D position) {
+        return null;
+    }
+
+    @Override
+    public String getBlockName(Point3D position) {
+        return isSolid(position) ? "headless:stone" : "headless:air";
+    }
+
+    @Override
+    public float getBlockHardness(Point3D position) {
+        return isSolid(position) ? 1.5F : 0;
+    }
+
+    @Override
+    public float getBlockSlipperiness(Point3D position) {
+        return 0.6F;
+    }
+
+    @Override
+    public BlockMaterial getBlockMaterial(Point3D position) {
+        return isSolid(position) ? BlockMaterial.STONE : null;
+    }
+
+    @Override
+    public ColorRGB getBlockColor(Point3D position) {
+        return new ColorRGB();
+    }
+
+    @Override
+    public List<IWrapperItemStack> getBlockDrops(Point3D position) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public BlockHitResult getBlockHit(Point3D position, Point3D delta) {
+        //Step along the path in small increments.  Good enough for voxels.
+        double length = delta.length();
+        int steps = (int) Math.ceil(length * 8);
+        Point3D testPoint = new Point3D();
+        for (int i = 0; i <= steps; ++i) {
+            testPoint.set(delta).scale(steps == 0 ? 0 : (double) i / steps).add(position);
+            if (isSolid(testPoint)) {
+                Point3D blockPosition = new Point3D(Math.floor(testPoint.x), Math.floor(testPoint.y), Math.floor(testPoint.z));
+                return new BlockHitResult(blockPosition, testPoint, delta.y < 0 ? Axis.UP : Axis.DOWN);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isBlockSolid(Point3D position, Axis axis) {
+        return axis.blockBased && isSolid(position);
+    }
+
+    @Override
+    public boolean isBlockLiquid(Point3D position) {
+        return false;
+    }
+
+    @Override
+    public boolean isBlockBelowBottomSlab(Point3D position) {
+        return false;
+    }
+
+    @Override
+    public boolean isBlockAboveTopSlab(Point3D position) {
+        return false;
+    }
+
+    @Override
+    public double getHeight(Point3D position) {
+        int x = (int) Math.floor(position.x);
+        int y = (int) Math.floor(position.y);
+        int z = (int) Math.floor(position.z);
+        while (y > 0 && !isSolid(x, y, z)) {
+            --y;
+        }
+        return position.y - (y + 1);
+    }
+
+    @Override
+    protected BlockCollisionShape loadCollisionShape(int x, int y, int z) {
+        return isSolid(x, y, z) ? BlockCollisionShape.FULL_CUBE : BlockCollisionShape.EMPTY;
+    }
+
+    @Override
+    public int getRedstonePower(Point3D position) {
+        return 0;
+    }
+
+    @Override
+    public float getRainStrength(Point3D position) {
+        return 0;
+    }
+
+    @Override
+    public float getTemperature(Point3D position) {
+        return 0.8F;
+    }
+
+    @Override
+    public <TileEntityType extends ATileEntityBase<JSONDefinition>, JSONDefinition extends AJSONMultiModelProvider> boolean setBlock(ABlockBase block, Point3D position, IWrapperPlayer playerIWrapper, Axis axis) {
+        return false;
+    }
+
+    @Override
+    public <TileEntityType extends ATileEntityBase<?>> TileEntityType getTileEntity(Point3D position) {
+        return null;
+    }
+
+    @Override
+    public void markTileEntityChanged(Point3D position) {
+    }
+
+    @Override
+    public float getLightBrightness(Point3D position, boolean calculateBlock) {
+        return 1.0F;
+    }
+
+    @Override
+    public void updateLightBrightness(Point3D position) {
+    }
+
+    @Override
+    public void destroyBlock(Point3D position, boolean spawnDrops) {
+        setBlockSolid((int) Math.floor(position.x), (int) Math.floor(position.y), (int) Math.floor(position.z), false);
+    }
+
+    @Override
+    public boolean isAir(Point3D position) {
+        return !isSolid(position);
+    }
+
+    @Override
+    public boolean isFire(Point3D position) {
+        return false;
+    }
+
+    @Override
+    public void setToFire(Point3D position, Axis side) {
+    }
+
+    @Override
+    public void extinguish(Point3D position, Axis side) {
+    }
+
+    @Override
+    public boolean placeBlock(Point3D position, IWrapperItemStack stack) {
+        return false;
+    }
+
+    @Override
+    public boolean fertilizeBlock(Point3D position, IWrapperItemStack stack) {
+        return false;
+    }
+
+    @Override
+    public List<IWrapperItemStack> harvestBlock(Point3D position) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public boolean plantBlock(Point3D position, IWrapperItemStack stack) {
+        return false;
+    }
+
+    @Override
+    public boolean plowBlock(Point3D position) {
+        return false;
+    }
+
+    @Override
+    public boolean removeSnow(Point3D position) {
+        return false;
+    }
+
+    @Override
+    public boolean hydrateBlock(Point3D position) {
+        return false;
+    }
+
+    @Override
+    public boolean insertStack(Point3D position, Axis axis, IWrapperItemStack stack) {
+        return false;
+    }
+
+    @Override
+    public IWrapperItemStack extractStack(Point3D position, Axis axis) {
+        return null;
+    }
+
+    @Override
+    public void spawnItemStack(IWrapperItemStack stack, Point3D point, Point3D optionalMotion) {
+    }
+
+    @Override
+    public void spawnExplosion(Point3D location, double strength, boolean flames, boolean damageBlocks) {
+    }
+}
@@ -1,2 +1,2 @@
 rootProject.name = "Immersive Vehicles"
-include("mccore", "mcinterfaceforge1122", "mcinterfaceforge1165", "mcinterfaceforge1182", "mcinterfaceforge1192", "mcinterfaceforge1201")
\ No newline at end of file
+include("mccore", "mcinterfaceforge1122", "mcinterfaceforge1165", "mcinterfaceforge1182", "mcinterfaceforge1192", "mcinterfaceforge1201", "mcinterfaceheadless")
\ No newline at end of file